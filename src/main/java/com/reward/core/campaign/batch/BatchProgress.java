@@ -0,0 +1,41 @@
+package com.reward.core.campaign.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 리더가 Step ExecutionContext에 남기는 진행률 (처리량 / 전체량)
+ * 단위는 리더마다 다르며 (사용자 ID 구간은 건수, 당첨자 파일은 바이트) 비율로만 사용합니다.
+ */
+public final class BatchProgress {
+
+    static final String DONE_KEY = "progressDone";
+    static final String TOTAL_KEY = "progressTotal";
+
+    private BatchProgress() {
+    }
+
+    static void record(ExecutionContext executionContext, long done, long total) {
+        executionContext.putLong(DONE_KEY, done);
+        executionContext.putLong(TOTAL_KEY, total);
+    }
+
+    public static long done(ExecutionContext executionContext) {
+        return executionContext.getLong(DONE_KEY, 0L);
+    }
+
+    /**
+     * 아직 리더가 열리지 않은 파티션은 파티셔너가 나눈 구간 크기로 전체량을 추정합니다.
+     */
+    public static long total(ExecutionContext executionContext) {
+        if (executionContext.containsKey(TOTAL_KEY)) {
+            return executionContext.getLong(TOTAL_KEY);
+        }
+        if (executionContext.containsKey(UserIdPartitioner.END_ID)) {
+            return executionContext.getLong(UserIdPartitioner.END_ID) - executionContext.getLong(UserIdPartitioner.START_ID) + 1;
+        }
+        if (executionContext.containsKey(UserIdPartitioner.END_OFFSET)) {
+            return executionContext.getLong(UserIdPartitioner.END_OFFSET) - executionContext.getLong(UserIdPartitioner.START_OFFSET);
+        }
+        return 0L;
+    }
+}
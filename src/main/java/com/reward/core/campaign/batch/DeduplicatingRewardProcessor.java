@@ -0,0 +1,78 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 이미 보상을 받은 사용자(기존 이력, 입력 파일 내 중복, 다른 파티션에서 지급 중)를 걸러내는 Processor
+ * 걸러진 건은 null을 반환하여 Step의 filterCount로 집계되며, 종료 시 Step 요약(exit description)에 기록됩니다.
+ * 현재 청크에서 새로 등록한 사용자는 청크가 롤백되면 인덱스에서 되돌립니다.
+ * (재고 부족으로 초과 파일에 기록된 사용자도 같은 실행 안에서는 다시 지급하지 않음)
+ */
+@Slf4j
+public class DeduplicatingRewardProcessor implements ItemProcessor<Long, RewardHistory>, ChunkListener, StepExecutionListener {
+
+    private final Reward reward;
+    private final PaidUserIndex paidUserIndex;
+
+    private long[] claimed = new long[128];
+    private int claimedCount;
+
+    public DeduplicatingRewardProcessor(Reward reward, PaidUserIndex paidUserIndex) {
+        this.reward = reward;
+        this.paidUserIndex = paidUserIndex;
+    }
+
+    @Override
+    public RewardHistory process(Long userId) {
+        if (!paidUserIndex.claim(userId)) {
+            return null;
+        }
+        if (claimedCount == claimed.length) {
+            claimed = Arrays.copyOf(claimed, claimedCount * 2);
+        }
+        claimed[claimedCount++] = userId;
+
+        return RewardHistory.builder()
+                .userId(userId)
+                .reward(reward)
+                .receivedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        claimedCount = 0;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        claimedCount = 0;
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        paidUserIndex.release(claimed, claimedCount);
+        claimedCount = 0;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long filtered = stepExecution.getFilterCount();
+        if (filtered == 0) {
+            return null;
+        }
+        log.info("{} - 이미 지급된 사용자 {}건 제외", stepExecution.getStepName(), filtered);
+        return stepExecution.getExitStatus().addExitDescription("중복 제외: " + filtered + "건");
+    }
+}
@@ -0,0 +1,211 @@
+package com.reward.core.campaign.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 당첨자 사용자 ID 파일(CSV / 줄 단위) 스트리밍 리더
+ * 파일을 일정 크기의 창(window) 단위로 메모리 매핑하고, 바이트를 직접 숫자로 변환하여 줄마다 String을 만들지 않습니다.
+ * 각 줄의 첫 번째 필드를 사용자 ID로 사용하며, 파일 첫 줄이 사용자 ID로 읽히지 않으면 헤더로 보고 건너뜁니다.
+ * 파일 맨 앞의 UTF-8 BOM은 헤더 판단 전에 건너뛰므로, 헤더 없이 BOM으로 시작하는 파일의 첫 당첨자도 빠지지 않습니다.
+ * 그 밖에 사용자 ID로 읽을 수 없는 줄(숫자가 아닌 값, long 범위 초과)은 조용히 건너뛰지 않고 바이트 위치와 함께 ParseException으로 Step을 실패시킵니다.
+ * (커밋된 위치부터 재시작되므로 파일을 고친 뒤 재시작하면 이어서 처리)
+ * 다음에 읽을 바이트 위치를 Step ExecutionContext에 저장하여 재시작 시 해당 위치부터 이어서 읽습니다.
+ * 파티션 처리 시에는 [startOffset, endOffset) 구간에서 시작하는 줄만 읽습니다. (구간 경계는 줄 시작 위치)
+ */
+@Slf4j
+public class MappedUserIdItemReader extends ItemStreamSupport implements ItemStreamReader<Long> {
+
+    static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final String OFFSET_KEY = "offset";
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final Path file;
+    private final long startOffset;
+    private final long endOffset;
+    private final long windowSize;
+
+    private FileChannel channel;
+    private long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long lineStart;
+    private long firstLineStart;
+
+    public MappedUserIdItemReader(Path file) {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedUserIdItemReader(Path file, long windowSize) {
+        this(file, 0, Long.MAX_VALUE, windowSize);
+    }
+
+    public MappedUserIdItemReader(Path file, long startOffset, long endOffset, long windowSize) {
+        this.file = file;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.windowSize = windowSize;
+        setName("mappedUserIdReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        long offset = executionContext.getLong(getExecutionContextKey(OFFSET_KEY), startOffset);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            fileSize = channel.size();
+            firstLineStart = startsWithUtf8Bom() ? UTF8_BOM.length : 0;
+            map(Math.max(offset, firstLineStart));
+            lineStart = position();
+        } catch (IOException e) {
+            throw new ItemStreamException("당첨자 파일을 열 수 없습니다: " + file, e);
+        }
+        if (offset > startOffset) {
+            log.info("당첨자 파일 {} - {} 바이트 위치부터 재시작", file, offset);
+        }
+    }
+
+    @Override
+    public Long read() {
+        int b;
+        while (position() < endOffset && (b = nextByte()) != -1) {
+            if (isDigit(b)) {
+                try {
+                    return parseUserId(b);
+                } catch (ParseException e) {
+                    if (lineStart != firstLineStart) {
+                        throw e;
+                    }
+                    // 숫자로 시작하지만 사용자 ID로 읽히지 않는 파일 첫 줄의 헤더 (예: 2024_winners)
+                    skipLine();
+                    continue;
+                }
+            }
+            if (b == '\n') {
+                lineStart = position();
+            } else if (b != '\r' && b != ' ' && b != '\t') {
+                if (lineStart != firstLineStart) {
+                    throw invalidLine("숫자로 시작하지 않는 줄");
+                }
+                // 파일 첫 줄의 헤더
+                skipLine();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(OFFSET_KEY), position());
+        long end = Math.min(endOffset, fileSize);
+        BatchProgress.record(executionContext, Math.min(position(), end) - startOffset, end - startOffset);
+    }
+
+    /**
+     * 매핑된 창은 JDK에 명시적 해제 API가 없어 참조를 끊어 GC 시점에 해제되도록 합니다.
+     * (해제 전까지 가상 메모리만 차지하며, 파일 채널은 여기서 바로 닫음)
+     */
+    @Override
+    public void close() throws ItemStreamException {
+        window = null;
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("당첨자 파일을 닫을 수 없습니다: " + file, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * 다음에 읽을 바이트의 파일 내 위치
+     */
+    long position() {
+        return window == null ? 0 : windowStart + window.position();
+    }
+
+    private int nextByte() {
+        if (!window.hasRemaining()) {
+            long next = windowStart + window.limit();
+            if (next >= fileSize) {
+                return -1;
+            }
+            map(next);
+        }
+        return window.get() & 0xFF;
+    }
+
+    /**
+     * 첫 필드의 숫자를 long으로 변환하고 줄 끝까지 이동합니다. (구분자 ',' 또는 공백 뒤의 나머지 컬럼은 무시)
+     */
+    private long parseUserId(int first) {
+        long userId = first - '0';
+        int b;
+        while (isDigit(b = nextByte())) {
+            int digit = b - '0';
+            if (userId > (Long.MAX_VALUE - digit) / 10) {
+                throw invalidLine("사용자 ID가 long 범위를 넘음");
+            }
+            userId = userId * 10 + digit;
+        }
+        if (b == ',' || b == '\r' || b == ' ' || b == '\t') {
+            skipLine();
+        } else if (b != '\n' && b != -1) {
+            throw invalidLine("사용자 ID에 숫자가 아닌 문자 포함");
+        }
+        lineStart = position();
+        return userId;
+    }
+
+    private boolean startsWithUtf8Bom() throws IOException {
+        if (fileSize < UTF8_BOM.length) {
+            return false;
+        }
+        ByteBuffer head = ByteBuffer.allocate(UTF8_BOM.length);
+        while (head.hasRemaining()) {
+            if (channel.read(head, head.position()) < 0) {
+                return false;
+            }
+        }
+        return head.flip().equals(ByteBuffer.wrap(UTF8_BOM));
+    }
+
+    private void skipLine() {
+        int b;
+        do {
+            b = nextByte();
+        } while (b != '\n' && b != -1);
+        lineStart = position();
+    }
+
+    private ParseException invalidLine(String reason) {
+        return new ParseException("당첨자 파일 %s의 %d 바이트 위치 줄을 사용자 ID로 읽을 수 없습니다: %s"
+                .formatted(file, lineStart, reason));
+    }
+
+    private void map(long offset) {
+        try {
+            windowStart = Math.min(offset, fileSize);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, fileSize - windowStart));
+        } catch (IOException e) {
+            throw new ItemStreamException("당첨자 파일 매핑 실패 (offset: " + offset + ")", e);
+        }
+    }
+
+    private static boolean isDigit(int b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,49 @@
+package com.reward.core.campaign.batch;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+/**
+ * 보상을 이미 받았거나 현재 청크에서 지급 중인 사용자 ID 집합 (압축 비트맵)
+ * 연속된 ID 구간은 run 컨테이너로 압축되어 수백만 명도 수 MB 이내로 유지됩니다.
+ * 파티션 워커들이 공유하므로 모든 접근을 동기화합니다.
+ */
+public class PaidUserIndex {
+
+    private final Roaring64Bitmap userIds = new Roaring64Bitmap();
+
+    /**
+     * @return 처음 등록된 사용자면 true, 이미 지급(또는 지급 중)된 사용자면 false
+     */
+    public synchronized boolean claim(long userId) {
+        if (userIds.contains(userId)) {
+            return false;
+        }
+        userIds.addLong(userId);
+        return true;
+    }
+
+    /**
+     * 롤백된 청크에서 등록한 사용자를 되돌립니다.
+     */
+    public synchronized void release(long[] claimed, int length) {
+        for (int i = 0; i < length; i++) {
+            userIds.removeLong(claimed[i]);
+        }
+    }
+
+    synchronized void add(long userId) {
+        userIds.addLong(userId);
+    }
+
+    synchronized void optimize() {
+        userIds.runOptimize();
+    }
+
+    public synchronized long size() {
+        return userIds.getLongCardinality();
+    }
+
+    public synchronized long sizeInBytes() {
+        return userIds.getLongSizeInBytes();
+    }
+}
@@ -0,0 +1,119 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.common.config.RewardHistoryProperties;
+import com.reward.core.reward.domain.RewardHistoryArchive;
+import com.reward.core.reward.repository.RewardHistoryArchiveRepository;
+import com.reward.core.reward.repository.RewardHistoryJdbcRepository;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잡 실행마다 지급 완료 사용자 인덱스를 한 번만 만들어 파티션 워커들이 공유하도록 보관
+ * 잡이 끝나면 인덱스를 해제합니다. (재시작은 새 실행이므로 커밋된 이력 기준으로 다시 생성)
+ *
+ * 보관 기간이 지난 이력은 원본에서 지워지므로 원본 이력 → 아카이브 중 떼어 낸 작업 테이블 → 아카이브 파일 순으로 읽습니다.
+ * 아카이브는 작업 테이블로 떼어 낸 뒤 파일과 목록을 커밋하고 나서 작업 테이블을 지우므로, 이 순서로 읽으면
+ * 인덱스를 만드는 도중 아카이브가 진행되어도 빠지는 이력이 없습니다.
+ * 목록에 있는 아카이브 파일을 읽을 수 없으면 중복 지급을 막기 위해 잡을 실패시킵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaidUserIndexRegistry implements JobExecutionListener {
+
+    private final RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+    private final RewardHistoryPartitionJdbcRepository partitionRepository;
+    private final RewardHistoryArchiveRepository rewardHistoryArchiveRepository;
+    private final RewardHistoryProperties properties;
+
+    private final Map<Long, CompletableFuture<PaidUserIndex>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 첫 워커가 기존 보상 이력을 스트리밍하여 인덱스를 만드는 동안 같은 잡 실행의 다른 워커는 대기합니다.
+     * 인덱스는 맵 연산(computeIfAbsent) 밖에서 만들어, 오래 걸리는 생성이 다른 잡 실행의 조회를 막지 않도록 합니다.
+     */
+    public PaidUserIndex get(Long jobExecutionId, Long rewardId) {
+        CompletableFuture<PaidUserIndex> created = new CompletableFuture<>();
+        CompletableFuture<PaidUserIndex> existing = indexes.putIfAbsent(jobExecutionId, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            created.complete(build(rewardId));
+        } catch (RuntimeException e) {
+            // 대기 중인 워커에도 같은 실패를 전달하고, 이후 요청은 다시 생성하도록 비움
+            indexes.remove(jobExecutionId, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+        return created.join();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        indexes.remove(jobExecution.getId());
+    }
+
+    private PaidUserIndex await(CompletableFuture<PaidUserIndex> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private PaidUserIndex build(Long rewardId) {
+        long start = System.nanoTime();
+        PaidUserIndex index = new PaidUserIndex();
+        rewardHistoryJdbcRepository.forEachUserId(rewardId, index::add);
+        for (String table : partitionRepository.findDetachedTables()) {
+            rewardHistoryJdbcRepository.forEachUserId(table, rewardId, index::add);
+        }
+        int archives = addArchived(rewardId, index);
+        index.optimize();
+        log.info("보상 {} - 지급 완료 사용자 인덱스 생성 ({}명, 아카이브 {}개 포함, {} bytes, {}ms)",
+                rewardId, index.size(), archives, index.sizeInBytes(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * @return 읽은 아카이브 파일 수
+     */
+    private int addArchived(Long rewardId, PaidUserIndex index) {
+        Path archiveDir = Path.of(properties.getArchiveDir());
+        int files = 0;
+        for (RewardHistoryArchive archive : rewardHistoryArchiveRepository.findAll()) {
+            Path file = archiveDir.resolve(archive.getFileName());
+            if (!Files.isReadable(file)) {
+                throw new IllegalStateException("보상 이력 아카이브 파일을 찾을 수 없습니다: " + file);
+            }
+            try {
+                RewardHistoryArchiveFile.read(file, row -> {
+                    if (row.rewardId() == rewardId) {
+                        index.add(row.userId());
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException("보상 이력 아카이브 파일을 읽을 수 없습니다: " + file, e);
+            }
+            files++;
+        }
+        return files;
+    }
+}
@@ -2,26 +2,35 @@ package com.reward.core.campaign.batch;
 
 import com.reward.core.reward.domain.Reward;
 import com.reward.core.reward.domain.RewardHistory;
-import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardHistoryJdbcRepository;
+import com.reward.core.reward.repository.RewardOutboxJdbcRepository;
 import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.reward.service.RewardStockReservationService;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import java.nio.file.Path;
 
 @Slf4j
 @Configuration
@@ -29,61 +38,166 @@ import java.util.stream.LongStream;
 public class RewardBatchConfig {
 
     private final RewardRepository rewardRepository;
+    private final RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+    private final RewardStockReservationService rewardStockReservationService;
+    private final PaidUserIndexRegistry paidUserIndexRegistry;
+    private final RewardOutboxJdbcRepository rewardOutboxJdbcRepository;
 
+    static final String PARTITIONED = "PARTITIONED";
+
+    // 시뮬레이션용 사용자 ID 구간 (당첨자 파일이 없을 때)
+    private static final long SIMULATED_START_ID = 1;
+    private static final long SIMULATED_END_ID = 1000;
+
+    /**
+     * partitions 잡 파라미터가 2 이상이면 분할 Step, 아니면 단일 Step으로 실행
+     * (보상 이력 집계/아카이브 잡과 함께 등록되므로, 잡 이름 없이 Job 하나를 주입받는 곳에는 이 잡을 사용)
+     */
     @Bean
-    public Job rewardJob(JobRepository jobRepository, Step rewardStep) {
+    @Primary
+    public Job rewardJob(JobRepository jobRepository, Step rewardStep, Step rewardPartitionedStep) {
+        JobExecutionDecider executionModeDecider = (jobExecution, stepExecution) -> {
+            Long partitions = jobExecution.getJobParameters().getLong("partitions");
+            return new FlowExecutionStatus(partitions != null && partitions > 1 ? PARTITIONED : "SINGLE");
+        };
+
         return new JobBuilder("rewardJob", jobRepository)
-                .start(rewardStep)
+                .listener(paidUserIndexRegistry)
+                .start(executionModeDecider)
+                .on(PARTITIONED).to(rewardPartitionedStep)
+                .from(executionModeDecider).on("*").to(rewardStep)
+                .end()
                 .build();
     }
 
     @Bean
     public Step rewardStep(JobRepository jobRepository, 
                           PlatformTransactionManager transactionManager,
-                          ItemProcessor<Long, RewardHistory> rewardProcessor) {
-        return new StepBuilder("rewardStep", jobRepository)
-                .<Long, RewardHistory>chunk(100, transactionManager) // Chunk 단위 처리 (메모리 효율)
-                .reader(rewardReader())
+                          ItemStreamReader<Long> rewardReader,
+                          ItemProcessor<Long, RewardHistory> rewardProcessor,
+                          ItemStreamWriter<RewardHistory> rewardWriter,
+                          @org.springframework.beans.factory.annotation.Value("${reward.batch.chunk-size:100}") int chunkSize) {
+        return chunkStep("rewardStep", jobRepository, transactionManager, rewardReader, rewardProcessor, rewardWriter, chunkSize);
+    }
+
+    /**
+     * 파티션마다 워커 Step을 가상 스레드에서 실행 (동시 실행 수는 커넥션 풀 크기로 제한)
+     */
+    @Bean
+    public Step rewardPartitionedStep(JobRepository jobRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      Partitioner rewardPartitioner,
+                                      DataSource dataSource,
+                                      ItemStreamReader<Long> rewardReader,
+                                      ItemProcessor<Long, RewardHistory> rewardProcessor,
+                                      ItemStreamWriter<RewardHistory> rewardWriter,
+                                      @org.springframework.beans.factory.annotation.Value("${reward.batch.chunk-size:100}") int chunkSize) {
+        Step workerStep = chunkStep("rewardWorkerStep", jobRepository, transactionManager, rewardReader, rewardProcessor, rewardWriter, chunkSize);
+        return new StepBuilder("rewardPartitionedStep", jobRepository)
+                .partitioner("rewardWorkerStep", rewardPartitioner)
+                .step(workerStep)
+                .taskExecutor(partitionTaskExecutor(dataSource))
+                .build();
+    }
+
+    private Step chunkStep(String name,
+                           JobRepository jobRepository,
+                           PlatformTransactionManager transactionManager,
+                           ItemStreamReader<Long> rewardReader,
+                           ItemProcessor<Long, RewardHistory> rewardProcessor,
+                           ItemStreamWriter<RewardHistory> rewardWriter,
+                           int chunkSize) {
+        return new StepBuilder(name, jobRepository)
+                .<Long, RewardHistory>chunk(chunkSize, transactionManager) // Chunk 단위 처리 (메모리 효율)
+                .reader(rewardReader)
                 .processor(rewardProcessor)
-                .writer(rewardWriter())
+                .writer(rewardWriter)
                 .build();
     }
 
+    @Bean
+    @StepScope
+    public Partitioner rewardPartitioner(
+            @org.springframework.beans.factory.annotation.Value("#{jobParameters['partitions']}") Long partitions,
+            @org.springframework.beans.factory.annotation.Value("#{jobParameters['inputFile']}") String inputFile
+    ) {
+        return new UserIdPartitioner(partitions == null ? 1 : partitions.intValue(),
+                inputFile == null ? null : Path.of(inputFile),
+                SIMULATED_START_ID, SIMULATED_END_ID);
+    }
+
+    /**
+     * 워커마다 커넥션 1개를 쓰므로 잡 저장소용 1개를 남기고 풀 크기만큼만 동시에 실행
+     * (Executor 빈으로 등록하면 @Async 기본 실행기 자동 구성이 꺼지므로 Step 내부에서만 사용)
+     */
+    private TaskExecutor partitionTaskExecutor(DataSource dataSource) {
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reward-partition-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, poolSize - 1));
+        return executor;
+    }
+
     /**
-     * CSV 파일을 읽는 FlatFileItemReader로 쉽게 교체 가능
+     * inputFile 파라미터가 있으면 당첨자 파일을 메모리 매핑으로 스트리밍하고,
+     * 없으면 시뮬레이션용 사용자 ID 구간(1 ~ 1000)을 목록 없이 생성합니다.
+     * 파티션 워커로 실행되면 Step ExecutionContext의 구간만 읽습니다.
      */
     @Bean
     @StepScope
-    public ListItemReader<Long> rewardReader() {
-        // 시뮬레이션: 1000명의 사용자 ID 생성
-        List<Long> userIds = LongStream.rangeClosed(1, 1000).boxed().toList();
-        return new ListItemReader<>(userIds);
+    public ItemStreamReader<Long> rewardReader(
+            @org.springframework.beans.factory.annotation.Value("#{jobParameters['inputFile']}") String inputFile,
+            @org.springframework.beans.factory.annotation.Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+            @org.springframework.beans.factory.annotation.Value("#{stepExecutionContext['endOffset']}") Long endOffset,
+            @org.springframework.beans.factory.annotation.Value("#{stepExecutionContext['startId']}") Long startId,
+            @org.springframework.beans.factory.annotation.Value("#{stepExecutionContext['endId']}") Long endId
+    ) {
+        if (inputFile != null) {
+            return new MappedUserIdItemReader(Path.of(inputFile),
+                    startOffset == null ? 0 : startOffset,
+                    endOffset == null ? Long.MAX_VALUE : endOffset,
+                    MappedUserIdItemReader.DEFAULT_WINDOW_SIZE);
+        }
+        return new UserIdRangeItemReader(
+                startId == null ? SIMULATED_START_ID : startId,
+                endId == null ? SIMULATED_END_ID : endId);
     }
 
+    /**
+     * 같은 잡 실행의 파티션 워커들은 지급 완료 사용자 인덱스 하나를 공유합니다.
+     * (반환 타입을 구현 클래스로 두어야 Step 스코프 프록시가 Chunk/Step 리스너 인터페이스도 구현함)
+     */
     @Bean
     @StepScope
-    public ItemProcessor<Long, RewardHistory> rewardProcessor(
-            @org.springframework.beans.factory.annotation.Value("#{jobParameters['rewardId']}") Long rewardId
+    public DeduplicatingRewardProcessor rewardProcessor(
+            @org.springframework.beans.factory.annotation.Value("#{jobParameters['rewardId']}") Long rewardId,
+            @org.springframework.beans.factory.annotation.Value("#{stepExecution}") StepExecution stepExecution
     ) {
         // JobParameters로 전달받은 보상 ID를 사용하여 실제 보상 정보를 로드
-        Reward selectedReward = rewardRepository.findById(rewardId).orElse(null);
-        
-        return userId -> RewardHistory.builder()
-                .userId(userId)
-                .reward(selectedReward)
-                .receivedAt(LocalDateTime.now())
-                .build();
+        // 없는 보상이면 재고를 예약하기 전에 Step 생성 단계에서 실패시킴
+        Reward selectedReward = rewardRepository.findById(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다. (rewardId: " + rewardId + ")"));
+        PaidUserIndex paidUserIndex = paidUserIndexRegistry.get(stepExecution.getJobExecutionId(), rewardId);
+        return new DeduplicatingRewardProcessor(selectedReward, paidUserIndex);
     }
 
-    private final RewardHistoryRepository rewardHistoryRepository;
-
+    /**
+     * 청크마다 재고를 조건부 UPDATE 한 번으로 예약한 뒤 예약된 수량만큼 다중 행 INSERT로 저장
+     * (IDENTITY 전략이라 saveAll은 건별 INSERT가 됨)
+     * 재고가 부족해 지급하지 못한 사용자는 overflow-dir 아래 Step별 파일에 기록됩니다.
+     */
     @Bean
-    public ItemWriter<RewardHistory> rewardWriter() {
-        // Chunk 단위로 DB에 일괄 저장 (Bulk Insert 효과)
-        return chunk -> {
-            log.info("{} 건의 보상 이력을 Bulk Insert 중...", chunk.size());
-            rewardHistoryRepository.saveAll(chunk.getItems());
-            log.info("Batch Write 완료");
-        };
+    @StepScope
+    public ItemStreamWriter<RewardHistory> rewardWriter(
+            @org.springframework.beans.factory.annotation.Value("#{jobParameters['rewardId']}") Long rewardId,
+            @org.springframework.beans.factory.annotation.Value("#{stepExecution}") StepExecution stepExecution,
+            @org.springframework.beans.factory.annotation.Value("${reward.batch.overflow-dir:${java.io.tmpdir}/reward-overflow}") String overflowDir
+    ) {
+        // 재시작 시 같은 파일에 이어 쓰도록 잡 인스턴스 기준으로 파일명을 정함 (파티션 Step명의 ':'는 파일명에 쓸 수 없음)
+        String fileName = "reward-%d-job-%d-%s.csv".formatted(rewardId,
+                stepExecution.getJobExecution().getJobInstance().getInstanceId(),
+                stepExecution.getStepName().replaceAll("[^A-Za-z0-9_-]", "-"));
+        return new RewardPayoutWriter(rewardId, rewardStockReservationService, rewardHistoryJdbcRepository,
+                rewardOutboxJdbcRepository, Path.of(overflowDir, fileName));
     }
 }
@@ -0,0 +1,80 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.Partition;
+import com.reward.core.reward.service.RewardHistoryPartitionManager;
+import com.reward.core.reward.service.RewardStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 보상 이력 집계/아카이브 잡
+ * 집계와 아카이브는 각자 트랜잭션을 나누어 커밋하고 MySQL 파티션 삭제는 DDL이므로,
+ * Tasklet은 트랜잭션 없이 실행합니다. (ResourcelessTransactionManager, Step 실행 정보는 잡 저장소에 그대로 기록)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RewardHistoryArchiveConfig {
+
+    static final String ARCHIVE = "ARCHIVE";
+
+    private final RewardStatsService rewardStatsService;
+    private final RewardHistoryPartitionManager rewardHistoryPartitionManager;
+    private final RewardHistoryArchiver rewardHistoryArchiver;
+
+    /**
+     * 최근 일자 집계를 갱신하고, archive 잡 파라미터가 true이면 콜드 파티션을 아카이브
+     */
+    @Bean
+    public Job rewardHistoryArchiveJob(JobRepository jobRepository, Step rewardHistoryRollupStep, Step rewardHistoryArchiveStep) {
+        JobExecutionDecider archiveDecider = (jobExecution, stepExecution) ->
+                new FlowExecutionStatus(Boolean.parseBoolean(jobExecution.getJobParameters().getString("archive")) ? ARCHIVE : "SKIP");
+
+        return new JobBuilder("rewardHistoryArchiveJob", jobRepository)
+                .start(rewardHistoryRollupStep)
+                .next(archiveDecider)
+                .on(ARCHIVE).to(rewardHistoryArchiveStep)
+                .from(archiveDecider).on("*").end()
+                .end()
+                .build();
+    }
+
+    @Bean
+    public Step rewardHistoryRollupStep(JobRepository jobRepository) {
+        return new StepBuilder("rewardHistoryRollupStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(rewardStatsService.rollUpRecent());
+                    return RepeatStatus.FINISHED;
+                }, new ResourcelessTransactionManager())
+                .build();
+    }
+
+    /**
+     * 콜드 파티션을 오래된 순으로 한 번에 하나씩 아카이브 (파티션마다 Step 실행 정보를 커밋하므로 중지 요청 시 다음 파티션 전에 멈춤)
+     */
+    @Bean
+    public Step rewardHistoryArchiveStep(JobRepository jobRepository) {
+        return new StepBuilder("rewardHistoryArchiveStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    List<Partition> coldPartitions = rewardHistoryPartitionManager.findColdPartitions();
+                    if (coldPartitions.isEmpty()) {
+                        return RepeatStatus.FINISHED;
+                    }
+                    RewardHistoryArchiver.Result result = rewardHistoryArchiver.archive(coldPartitions.get(0));
+                    contribution.incrementWriteCount(result.rows());
+                    return RepeatStatus.CONTINUABLE;
+                }, new ResourcelessTransactionManager())
+                .build();
+    }
+}
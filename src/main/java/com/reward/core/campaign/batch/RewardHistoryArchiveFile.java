@@ -0,0 +1,183 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.HistoryRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보상 이력 아카이브 파일
+ * 행을 ID 오름차순으로 기록하고 ID와 지급 시각은 직전 행과의 차이만 가변 길이 정수로 저장하여 (행당 약 10바이트)
+ * GZIP으로 한 번 더 압축합니다. 파일 끝의 행 수로 잘린 파일을 검출합니다.
+ *
+ * 형식: MAGIC(4) VERSION(1) { varint(ID 차이, 1 이상) zigzag(userId) varint(rewardId) zigzag(지급 시각 µs 차이) }* varint(0) long(행 수)
+ */
+public final class RewardHistoryArchiveFile {
+
+    private static final int MAGIC = 0x52484131; // "RHA1"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private RewardHistoryArchiveFile() {
+    }
+
+    /**
+     * 임시 파일에 기록하고 commit 시 {prefix}-{마지막 ID}.rha.gz로 옮깁니다. (commit 전에 닫으면 임시 파일 삭제)
+     */
+    public static Writer create(Path dir, String prefix) throws IOException {
+        Files.createDirectories(dir);
+        return new Writer(dir, prefix, Files.createTempFile(dir, prefix + "-", ".tmp"));
+    }
+
+    /**
+     * @return 행 수
+     * @throws IllegalStateException 아카이브 파일이 아니거나 잘린 파일
+     */
+    public static long read(Path file, Consumer<HistoryRow> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                throw new IllegalStateException("보상 이력 아카이브 파일이 아닙니다: " + file);
+            }
+            long count = 0;
+            long id = 0;
+            long micros = 0;
+            try {
+                for (long delta = readVarLong(in); delta != 0; delta = readVarLong(in)) {
+                    id += delta;
+                    long userId = unzigzag(readVarLong(in));
+                    long rewardId = readVarLong(in);
+                    micros += unzigzag(readVarLong(in));
+                    consumer.accept(new HistoryRow(id, userId, rewardId, EPOCH.plus(micros, ChronoUnit.MICROS)));
+                    count++;
+                }
+                long expected = in.readLong();
+                if (expected != count) {
+                    throw new IllegalStateException("보상 이력 아카이브 행 수가 맞지 않습니다. (기록 " + expected + "건, 읽음 " + count + "건)");
+                }
+            } catch (EOFException e) {
+                throw new IllegalStateException("보상 이력 아카이브 파일이 잘렸습니다: " + file + " (" + count + "건까지 읽음)");
+            }
+            return count;
+        }
+    }
+
+    public static final class Writer implements Closeable {
+
+        private final Path dir;
+        private final String prefix;
+        private final Path temp;
+        private final FileOutputStream file;
+        private final GZIPOutputStream gzip;
+        private final DataOutputStream out;
+        private long count;
+        private long lastId;
+        private long lastMicros;
+        private Path committed;
+
+        private Writer(Path dir, String prefix, Path temp) throws IOException {
+            this.dir = dir;
+            this.prefix = prefix;
+            this.temp = temp;
+            this.file = new FileOutputStream(temp.toFile());
+            this.gzip = new GZIPOutputStream(new BufferedOutputStream(file, BUFFER_SIZE), BUFFER_SIZE);
+            this.out = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+        }
+
+        public void write(HistoryRow row) throws IOException {
+            if (row.id() <= lastId) {
+                throw new IllegalStateException("아카이브 행은 ID 오름차순이어야 합니다. (직전 " + lastId + ", 현재 " + row.id() + ")");
+            }
+            long micros = ChronoUnit.MICROS.between(EPOCH, row.receivedAt());
+            writeVarLong(out, row.id() - lastId);
+            writeVarLong(out, zigzag(row.userId()));
+            writeVarLong(out, row.rewardId());
+            writeVarLong(out, zigzag(micros - lastMicros));
+            lastId = row.id();
+            lastMicros = micros;
+            count++;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getLastId() {
+            return lastId;
+        }
+
+        /**
+         * 끝 표시와 행 수를 쓰고 디스크에 동기화한 뒤 최종 파일 이름으로 옮깁니다.
+         */
+        public Path commit() throws IOException {
+            writeVarLong(out, 0);
+            out.writeLong(count);
+            out.flush();
+            gzip.finish();
+            gzip.flush();
+            file.getFD().sync();
+            out.close();
+            committed = dir.resolve(prefix + "-" + lastId + ".rha.gz");
+            Files.move(temp, committed, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return committed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (committed == null) {
+                out.close();
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("가변 길이 정수가 너무 깁니다.");
+    }
+}
@@ -0,0 +1,135 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.common.config.RewardHistoryProperties;
+import com.reward.core.reward.domain.RewardHistoryArchive;
+import com.reward.core.reward.repository.RewardDailyStatJdbcRepository;
+import com.reward.core.reward.repository.RewardDailyStatJdbcRepository.DailyCount;
+import com.reward.core.reward.repository.RewardHistoryArchiveRepository;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.HistoryRow;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.Partition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 콜드 파티션 1개 아카이브
+ * 1. MySQL 파티션은 빈 작업 테이블과 맞바꾸어 떼어 냄 (읽는 동안 늦게 들어온 이력은 비워진 파티션에 쌓여 아카이브 대상과 섞이지 않음)
+ * 2. 작업 테이블(논리 파티션은 기간 조건)의 이력을 ID 순으로 읽어 아카이브 파일에 쓰면서 일자/보상별 건수를 셈
+ * 3. 논리 파티션은 읽는 동안 행 수가 바뀌지 않았는지 확인 (콜드 파티션에는 쓰기가 없어야 함)
+ * 4. 한 트랜잭션에서 집계에 건수를 더하고 아카이브 목록을 기록 (논리 파티션은 원본 삭제까지 포함)
+ * 5. MySQL 파티션은 트랜잭션 밖에서 작업 테이블을 지우고 월 파티션을 pold에 합침 (늦게 들어온 이력은 pold에 남아 다음 실행에 아카이브)
+ * 4 이후에 중단되어 다시 실행하면 남아 있는 작업 테이블을 그대로 읽고, 같은 (파티션, 마지막 ID)가 목록에 있으므로 집계를 건너뛰고 삭제만 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RewardHistoryArchiver {
+
+    /**
+     * @param file 이력이 없던 파티션이면 null
+     */
+    public record Result(String partition, long rows, Path file) {
+    }
+
+    private record DailyKey(LocalDate statDate, long rewardId) {
+    }
+
+    private final RewardHistoryPartitionJdbcRepository partitionRepository;
+    private final RewardDailyStatJdbcRepository rewardDailyStatJdbcRepository;
+    private final RewardHistoryArchiveRepository rewardHistoryArchiveRepository;
+    private final RewardHistoryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public Result archive(Partition partition) throws IOException {
+        String detached = partition.physical() ? partitionRepository.detach(partition) : null;
+
+        Map<DailyKey, Long> counts = new HashMap<>();
+        long rows;
+        long lastId;
+        Path file = null;
+        try (RewardHistoryArchiveFile.Writer writer = RewardHistoryArchiveFile.create(
+                Path.of(properties.getArchiveDir()), "reward_histories-" + partition.name())) {
+            Consumer<HistoryRow> archiveRow = row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                counts.merge(new DailyKey(row.receivedAt().toLocalDate(), row.rewardId()), 1L, Long::sum);
+            };
+            if (detached != null) {
+                partitionRepository.forEachDetached(detached, archiveRow);
+            } else {
+                partitionRepository.forEach(partition, archiveRow);
+            }
+            rows = writer.getCount();
+            lastId = writer.getLastId();
+            if (rows > 0) {
+                file = writer.commit();
+            }
+        }
+
+        if (detached == null) {
+            long current = partitionRepository.count(partition);
+            if (current != rows) {
+                throw new IllegalStateException("파티션 " + partition.name() + " - 아카이브하는 동안 이력이 바뀌었습니다. (아카이브 " + rows + "건, 현재 " + current + "건)");
+            }
+        }
+
+        Path archived = file;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rows > 0 && !rewardHistoryArchiveRepository.existsByPartitionNameAndLastHistoryId(partition.name(), lastId)) {
+                rewardDailyStatJdbcRepository.addArchived(dailyCounts(counts));
+                rewardHistoryArchiveRepository.save(RewardHistoryArchive.builder()
+                        .partitionName(partition.name())
+                        .rangeStart(partition.from())
+                        .rangeEnd(partition.to())
+                        .rowCount(rows)
+                        .lastHistoryId(lastId)
+                        .fileName(archived.getFileName().toString())
+                        .fileSize(size(archived))
+                        .archivedAt(LocalDateTime.now())
+                        .build());
+            }
+            if (!partition.physical()) {
+                partitionRepository.drop(partition, lastId);
+            }
+        });
+        if (detached != null) {
+            // 작업 테이블을 먼저 지워야, 합친 뒤 중단되어도 파티션 목록에서 사라진 작업 테이블이 남지 않음
+            partitionRepository.dropDetached(detached);
+            partitionRepository.drop(partition, lastId);
+        }
+
+        log.info("보상 이력 파티션 {} 아카이브 완료 ({} ~ {}, {}건, {})",
+                partition.name(), partition.from(), partition.to(), rows, file == null ? "파일 없음" : file);
+        return new Result(partition.name(), rows, file);
+    }
+
+    private static List<DailyCount> dailyCounts(Map<DailyKey, Long> counts) {
+        return counts.entrySet().stream()
+                .map(count -> new DailyCount(count.getKey().statDate(), count.getKey().rewardId(), count.getValue()))
+                .toList();
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.reward.domain.RewardHistory;
+import com.reward.core.reward.repository.RewardHistoryJdbcRepository;
+import com.reward.core.reward.repository.RewardOutboxJdbcRepository;
+import com.reward.core.reward.service.RewardStockReservationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 재고를 청크 단위로 예약한 뒤 보상 이력을 저장하는 Writer
+ * 청크마다 조건부 UPDATE 한 번으로 재고를 차감하고, 재고가 중간에 소진되면 예약된 수량만큼만 지급합니다.
+ * 지급된 사용자는 같은 트랜잭션에서 당첨 알림 Outbox에 저장하고, 지급하지 못한 사용자 ID는 커밋 이후 초과(overflow) 파일에 기록되며, 파일 형식이 당첨자 파일과 같아 재고 보충 후 그대로 재입력할 수 있습니다.
+ * 초과 건수와 파일 경로는 Step ExecutionContext에 저장됩니다.
+ */
+@Slf4j
+public class RewardPayoutWriter implements ItemStreamWriter<RewardHistory> {
+
+    static final String OVERFLOW_COUNT_KEY = "overflowCount";
+    static final String OVERFLOW_FILE_KEY = "overflowFile";
+
+    private final Long rewardId;
+    private final RewardStockReservationService reservationService;
+    private final RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+    private final RewardOutboxJdbcRepository rewardOutboxJdbcRepository;
+    private final Path overflowFile;
+
+    private long overflowCount;
+
+    public RewardPayoutWriter(Long rewardId,
+                              RewardStockReservationService reservationService,
+                              RewardHistoryJdbcRepository rewardHistoryJdbcRepository,
+                              RewardOutboxJdbcRepository rewardOutboxJdbcRepository,
+                              Path overflowFile) {
+        this.rewardId = rewardId;
+        this.reservationService = reservationService;
+        this.rewardHistoryJdbcRepository = rewardHistoryJdbcRepository;
+        this.rewardOutboxJdbcRepository = rewardOutboxJdbcRepository;
+        this.overflowFile = overflowFile;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        overflowCount = executionContext.getLong(OVERFLOW_COUNT_KEY, 0L);
+    }
+
+    @Override
+    public void write(Chunk<? extends RewardHistory> chunk) {
+        List<? extends RewardHistory> items = chunk.getItems();
+        int reserved = (int) reservationService.reserve(rewardId, items.size());
+
+        List<? extends RewardHistory> granted = items.subList(0, reserved);
+        if (reserved > 0) {
+            log.info("{} 건의 보상 이력을 Bulk Insert 중...", reserved);
+            rewardHistoryJdbcRepository.insertAll(granted);
+            rewardOutboxJdbcRepository.insertAll(rewardId, granted.get(0).getReward().getName(),
+                    granted.stream().map(RewardHistory::getUserId).toList());
+        }
+        long[] overflowUserIds = items.subList(reserved, items.size()).stream()
+                .mapToLong(RewardHistory::getUserId)
+                .toArray();
+        overflowCount += overflowUserIds.length;
+        if (overflowUserIds.length > 0) {
+            appendOverflowAfterCommit(overflowUserIds);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(OVERFLOW_COUNT_KEY, overflowCount);
+        if (overflowCount > 0) {
+            executionContext.putString(OVERFLOW_FILE_KEY, overflowFile.toString());
+        }
+    }
+
+    /**
+     * 롤백된 청크의 사용자가 초과 파일에 남지 않도록 커밋 이후에 기록합니다.
+     */
+    private void appendOverflowAfterCommit(long[] userIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appendOverflow(userIds);
+            }
+        });
+    }
+
+    private void appendOverflow(long[] userIds) {
+        try {
+            Files.createDirectories(overflowFile.getParent());
+            boolean created = Files.notExists(overflowFile);
+            try (BufferedWriter writer = Files.newBufferedWriter(overflowFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (created) {
+                    writer.write("userId\n");
+                }
+                for (long userId : userIds) {
+                    writer.write(Long.toString(userId));
+                    writer.write('\n');
+                }
+            }
+            log.warn("보상 {} - 재고 소진으로 {}명 미지급, 초과 파일에 기록 ({})", rewardId, userIds.length, overflowFile);
+        } catch (IOException e) {
+            // 커밋 이후라 재시도하지 않으며, 미지급 사용자는 보상 이력과 입력을 대조하여 다시 추출할 수 있음
+            log.error("보상 {} - 초과 파일 기록 실패 ({}명, {})", rewardId, userIds.length, overflowFile, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.reward.core.campaign.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 보상 지급 대상을 N개 파티션으로 분할
+ * 당첨자 파일이 있으면 파일을 바이트 구간으로 나누되 경계를 다음 줄 시작 위치로 맞추고,
+ * 없으면 사용자 ID 구간을 균등 분할합니다.
+ * 각 파티션의 구간은 워커 Step ExecutionContext에 저장되므로 재시작 시 실패한 파티션만 이어서 처리됩니다.
+ */
+@Slf4j
+public class UserIdPartitioner implements Partitioner {
+
+    static final String START_ID = "startId";
+    static final String END_ID = "endId";
+    static final String START_OFFSET = "startOffset";
+    static final String END_OFFSET = "endOffset";
+
+    private final int partitions;
+    private final Path inputFile;
+    private final long startId;
+    private final long endId;
+
+    public UserIdPartitioner(int partitions, Path inputFile, long startId, long endId) {
+        this.partitions = Math.max(1, partitions);
+        this.inputFile = inputFile;
+        this.startId = startId;
+        this.endId = endId;
+    }
+
+    /**
+     * gridSize 대신 잡 파라미터로 받은 파티션 수를 사용합니다.
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> result = inputFile != null ? partitionFile() : partitionRange();
+        log.info("보상 지급 대상을 {}개 파티션으로 분할 ({})", result.size(), inputFile != null ? inputFile : startId + "~" + endId);
+        return result;
+    }
+
+    private Map<String, ExecutionContext> partitionRange() {
+        Map<String, ExecutionContext> result = new LinkedHashMap<>();
+        long total = endId - startId + 1;
+        long from = startId;
+        for (int i = 0; i < partitions; i++) {
+            long size = total / partitions + (i < total % partitions ? 1 : 0);
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(START_ID, from);
+            context.putLong(END_ID, from + size - 1);
+            result.put(partitionName(i), context);
+            from += size;
+        }
+        return result;
+    }
+
+    private Map<String, ExecutionContext> partitionFile() {
+        Map<String, ExecutionContext> result = new LinkedHashMap<>();
+        try (FileChannel channel = FileChannel.open(inputFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long from = 0;
+            for (int i = 0; i < partitions; i++) {
+                long to = i == partitions - 1 ? size : nextLineStart(channel, Math.max(from, size * (i + 1) / partitions));
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(START_OFFSET, from);
+                context.putLong(END_OFFSET, to);
+                result.put(partitionName(i), context);
+                from = to;
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("당첨자 파일을 분할할 수 없습니다: " + inputFile, e);
+        }
+        return result;
+    }
+
+    /**
+     * position 이후 처음 나오는 줄의 시작 위치 (position이 줄 시작이면 그대로)
+     */
+    private static long nextLineStart(FileChannel channel, long position) throws IOException {
+        if (position == 0 || position >= channel.size()) {
+            return Math.min(position, channel.size());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long cursor = position - 1;
+        while (cursor < channel.size()) {
+            buffer.clear();
+            int read = channel.read(buffer, cursor);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return cursor + i + 1;
+                }
+            }
+            cursor += read;
+        }
+        return channel.size();
+    }
+
+    private static String partitionName(int index) {
+        return "partition" + index;
+    }
+}
@@ -0,0 +1,46 @@
+package com.reward.core.campaign.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 연속된 사용자 ID 구간을 목록 없이 하나씩 생성하는 리더 (시뮬레이션용)
+ * 재시작 시 읽은 건수만큼 ID를 바로 건너뜁니다.
+ */
+public class UserIdRangeItemReader extends AbstractItemCountingItemStreamItemReader<Long> {
+
+    private final long startId;
+    private final long endId;
+    private long nextId;
+
+    public UserIdRangeItemReader(long startId, long endId) {
+        this.startId = startId;
+        this.endId = endId;
+        setName("userIdRangeReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        nextId = startId;
+    }
+
+    @Override
+    protected Long doRead() {
+        return nextId > endId ? null : nextId++;
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        nextId = startId + itemIndex;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        BatchProgress.record(executionContext, getCurrentItemCount(), endId - startId + 1);
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
@@ -1,15 +1,41 @@
 package com.reward.core.campaign.controller;
 
+import com.reward.core.campaign.dto.CampaignRequest;
+import com.reward.core.campaign.dto.CampaignResponse;
+import com.reward.core.campaign.dto.JobProgress;
+import com.reward.core.campaign.service.CampaignService;
+import com.reward.core.campaign.service.CampaignWarmUpService;
+import com.reward.core.campaign.service.RewardJobService;
+import com.reward.core.reward.dto.RewardStats;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository;
+import com.reward.core.reward.service.PrizeTapeService;
+import com.reward.core.reward.service.RedisStockService;
+import com.reward.core.reward.service.RewardHistoryPartitionManager;
+import com.reward.core.reward.service.RewardStatsService;
+import com.reward.core.reward.service.RewardStockSlotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -17,23 +43,248 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AdminCampaignController {
 
-    private final JobLauncher jobLauncher;
-    private final Job rewardJob;
+    private final RewardJobService rewardJobService;
+    private final RedisStockService redisStockService;
+    private final RewardStockSlotService rewardStockSlotService;
+    private final PrizeTapeService prizeTapeService;
+    private final CampaignService campaignService;
+    private final CampaignWarmUpService campaignWarmUpService;
+    private final RewardStatsService rewardStatsService;
+    private final RewardHistoryPartitionManager rewardHistoryPartitionManager;
+
+    @Value("${reward.batch.ingest-dir:data/ingest}")
+    private String ingestDir;
+
+    /**
+     * 캠페인 생성 (참여 정책 값을 생략하면 reward.participation.* 기본값 사용)
+     */
+    @PostMapping("/campaigns")
+    public ResponseEntity<CampaignResponse> createCampaign(@RequestBody CampaignRequest request) {
+        CampaignResponse campaign = campaignService.create(request);
+        return ResponseEntity.created(URI.create("/api/v1/admin/campaign/campaigns/" + campaign.id())).body(campaign);
+    }
 
+    /**
+     * 캠페인 기간/참여 정책 수정 (모든 노드의 캠페인 스냅샷 무효화)
+     */
+    @PutMapping("/campaigns/{campaignId}")
+    public ResponseEntity<CampaignResponse> updateCampaign(@PathVariable("campaignId") Long campaignId,
+                                                           @RequestBody CampaignRequest request) {
+        return ResponseEntity.ok(campaignService.update(campaignId, request));
+    }
+
+    @GetMapping("/campaigns/{campaignId}")
+    public ResponseEntity<CampaignResponse> getCampaign(@PathVariable("campaignId") Long campaignId) {
+        return ResponseEntity.ok(campaignService.get(campaignId));
+    }
+
+    /**
+     * 보상을 캠페인 보상 풀로 이동 (기본 보상 풀 추첨 대상에서 빠짐)
+     */
+    @PostMapping("/campaigns/{campaignId}/rewards/{rewardId}")
+    public ResponseEntity<CampaignResponse> assignReward(@PathVariable("campaignId") Long campaignId,
+                                                         @PathVariable("rewardId") Long rewardId) {
+        return ResponseEntity.ok(campaignService.assignReward(campaignId, rewardId));
+    }
+
+    /**
+     * 보상 지급 배치를 비동기로 시작하고 실행 ID를 바로 반환 (진행 현황은 /jobs/{executionId})
+     * @param partitions 2 이상이면 대상 구간을 나누어 가상 스레드 워커로 병렬 처리
+     */
     @PostMapping("/start")
-    public ResponseEntity<String> startBatch(@org.springframework.web.bind.annotation.RequestParam("rewardId") Long rewardId) {
+    public ResponseEntity<JobProgress> startBatch(@org.springframework.web.bind.annotation.RequestParam("rewardId") Long rewardId,
+                                                  @org.springframework.web.bind.annotation.RequestParam(value = "partitions", defaultValue = "1") int partitions) {
+        return accepted(rewardJobService.start(rewardId, null, partitions));
+    }
+
+    /**
+     * 당첨자 파일(CSV / 줄 단위 사용자 ID)을 스트리밍으로 읽어 보상 지급 배치를 비동기로 실행
+     * @param file 적재 디렉터리(reward.batch.ingest-dir) 기준 상대 경로 (디렉터리 밖을 가리키면 거절)
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<JobProgress> ingest(@org.springframework.web.bind.annotation.RequestParam("rewardId") Long rewardId,
+                                              @org.springframework.web.bind.annotation.RequestParam("file") String file,
+                                              @org.springframework.web.bind.annotation.RequestParam(value = "partitions", defaultValue = "1") int partitions) {
+        return accepted(rewardJobService.start(rewardId, resolveIngestFile(file), partitions));
+    }
+
+    /**
+     * 적재 디렉터리 안의 파일만 허용 (../ 이나 절대 경로, 심볼릭 링크로 디렉터리 밖을 가리키는 경우 거절)
+     */
+    private Path resolveIngestFile(String file) {
+        Path baseDir = Path.of(ingestDir).toAbsolutePath().normalize();
+        Path inputFile = baseDir.resolve(file).normalize();
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("rewardId", rewardId)
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
-            
-            jobLauncher.run(rewardJob, jobParameters);
-            
-            return ResponseEntity.ok("배치 작업이 성공적으로 시작되었습니다.");
-        } catch (Exception e) {
-            log.error("배치 작업 실행 중 오류 발생", e);
-            return ResponseEntity.internalServerError().body("배치 작업 실행 실패: " + e.getMessage());
+            if (inputFile.startsWith(baseDir) && Files.isReadable(inputFile)
+                    && inputFile.toRealPath().startsWith(baseDir.toRealPath())) {
+                return inputFile;
+            }
+        } catch (IOException e) {
+            log.warn("당첨자 파일 경로 확인 실패: {}", file, e);
         }
+        throw new IllegalStateException("적재 디렉터리(" + baseDir + ") 안의 읽을 수 있는 당첨자 파일이 아닙니다: " + file);
+    }
+
+    /**
+     * 읽기/쓰기/스킵 건수, 처리량, 예상 남은 시간, Step별 소요 시간
+     */
+    @GetMapping("/jobs/{executionId}")
+    public ResponseEntity<JobProgress> getJobProgress(@PathVariable("executionId") Long executionId) {
+        return ResponseEntity.ok(rewardJobService.getProgress(executionId));
+    }
+
+    /**
+     * 잡이 끝날 때까지 진행 현황을 주기적으로 전송 (Server-Sent Events)
+     */
+    @GetMapping(value = "/jobs/{executionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobProgress(@PathVariable("executionId") Long executionId) {
+        return rewardJobService.streamProgress(executionId);
+    }
+
+    /**
+     * 다음 청크 경계에서 중지 (재시작 시 이어서 처리)
+     */
+    @PostMapping("/jobs/{executionId}/stop")
+    public ResponseEntity<JobProgress> stopJob(@PathVariable("executionId") Long executionId) {
+        return ResponseEntity.ok(rewardJobService.stop(executionId));
+    }
+
+    /**
+     * 실패/중지된 배치를 같은 파라미터로 재시작
+     */
+    @PostMapping("/jobs/{executionId}/restart")
+    public ResponseEntity<JobProgress> restartJob(@PathVariable("executionId") Long executionId) {
+        return accepted(rewardJobService.restart(executionId));
+    }
+
+    /**
+     * 캠페인 시작 전 DB 잔여 수량을 Redis 재고로 적재 (Inventory Mode)
+     */
+    @PostMapping("/rewards/{rewardId}/stock/load")
+    public ResponseEntity<String> loadStock(@PathVariable("rewardId") Long rewardId) {
+        long loaded = redisStockService.load(rewardId);
+        return ResponseEntity.ok("Redis 재고 적재 완료: " + loaded + "개");
+    }
+
+    /**
+     * 캠페인 종료 후 DB 기준으로 Redis 재고 정합성 보정
+     */
+    @PostMapping("/rewards/{rewardId}/stock/reconcile")
+    public ResponseEntity<RedisStockService.StockReconciliation> reconcileStock(@PathVariable("rewardId") Long rewardId) {
+        return ResponseEntity.ok(redisStockService.reconcile(rewardId));
+    }
+
+    /**
+     * 인기 보상의 재고를 N개 슬롯으로 분할하여 단일 행 락 경합 해소
+     */
+    @PostMapping("/rewards/{rewardId}/stock/slots")
+    public ResponseEntity<RewardStockSlotService.StockSummary> shardStock(
+            @PathVariable("rewardId") Long rewardId,
+            @org.springframework.web.bind.annotation.RequestParam("slotCount") int slotCount) {
+        return ResponseEntity.ok(rewardStockSlotService.shard(rewardId, slotCount));
+    }
+
+    /**
+     * 재고 보충 (DB 커밋 후 Redis 재고에도 반영, 소진 표시는 모든 노드에서 해제)
+     */
+    @PostMapping("/rewards/{rewardId}/stock/restock")
+    public ResponseEntity<RewardStockSlotService.StockSummary> restock(
+            @PathVariable("rewardId") Long rewardId,
+            @org.springframework.web.bind.annotation.RequestParam("quantity") long quantity) {
+        RewardStockSlotService.StockSummary summary = rewardStockSlotService.restock(rewardId, quantity);
+        redisStockService.replenish(rewardId, quantity);
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * 재고 현황 조회 (분할 보상은 슬롯별 잔여 수량을 합산)
+     */
+    @GetMapping("/rewards/{rewardId}/stock")
+    public ResponseEntity<RewardStockSlotService.StockSummary> getStock(@PathVariable("rewardId") Long rewardId) {
+        return ResponseEntity.ok(rewardStockSlotService.getStock(rewardId));
+    }
+
+    /**
+     * 캠페인 시작 전 보상별 잔여 수량만큼의 당첨 칸과 낙첨 칸을 섞어 경품 테이프로 적재 (reward.draw.mode=TAPE)
+     * @param blanks 낙첨 칸 수 (예상 참여 수 - 총 재고)
+     * @param campaignId 생략하면 기본 보상 풀
+     */
+    @PostMapping("/tape/load")
+    public ResponseEntity<PrizeTapeService.TapeSummary> loadTape(
+            @org.springframework.web.bind.annotation.RequestParam(value = "blanks", defaultValue = "0") long blanks,
+            @org.springframework.web.bind.annotation.RequestParam(value = "campaignId", required = false) Long campaignId) {
+        return ResponseEntity.ok(prizeTapeService.load(campaignId, blanks));
+    }
+
+    /**
+     * 추첨 방식, 테이프 저장소, 남은 칸 수
+     */
+    @GetMapping("/tape")
+    public ResponseEntity<PrizeTapeService.TapeStatus> getTape(
+            @org.springframework.web.bind.annotation.RequestParam(value = "campaignId", required = false) Long campaignId) {
+        return ResponseEntity.ok(prizeTapeService.status(campaignId));
+    }
+
+    /**
+     * 테이프를 내리고 가중치 추첨으로 전환
+     */
+    @DeleteMapping("/tape")
+    public ResponseEntity<PrizeTapeService.TapeStatus> unloadTape(
+            @org.springframework.web.bind.annotation.RequestParam(value = "campaignId", required = false) Long campaignId) {
+        prizeTapeService.unload(campaignId);
+        return ResponseEntity.ok(prizeTapeService.status(campaignId));
+    }
+
+    /**
+     * 이 노드에서 캠페인 워밍업을 비동기로 시작 (캐시/재고 키/커넥션 풀 선적재 + 참여 경로 가상 실행)
+     * @param campaignId 생략하면 기본 보상 풀
+     */
+    @PostMapping("/warm-up")
+    public ResponseEntity<CampaignWarmUpService.Report> warmUp(
+            @org.springframework.web.bind.annotation.RequestParam(value = "campaignId", required = false) Long campaignId) {
+        return ResponseEntity.accepted().body(campaignWarmUpService.start(campaignId));
+    }
+
+    /**
+     * 이 노드의 보상 풀별 워밍업 결과 (readiness는 /actuator/health/readiness)
+     */
+    @GetMapping("/warm-up")
+    public ResponseEntity<Collection<CampaignWarmUpService.Report>> getWarmUp() {
+        return ResponseEntity.ok(campaignWarmUpService.getReports());
+    }
+
+    /**
+     * 기간별 보상 지급 통계 (원본 이력 대신 일자/보상별 집계를 읽음, 최근 일자는 집계 주기만큼 늦게 반영)
+     * @param campaignId 생략하면 전체 보상
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<RewardStats> getStats(
+            @org.springframework.web.bind.annotation.RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @org.springframework.web.bind.annotation.RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @org.springframework.web.bind.annotation.RequestParam(value = "campaignId", required = false) Long campaignId) {
+        return ResponseEntity.ok(rewardStatsService.getStats(from, to, campaignId));
+    }
+
+    /**
+     * 보상 이력 집계를 갱신하고, archive=true이면 보관 기간이 지난 파티션을 아카이브 파일로 옮긴 뒤 삭제 (진행 현황은 /jobs/{executionId})
+     */
+    @PostMapping("/histories/archive")
+    public ResponseEntity<JobProgress> archiveHistories(
+            @org.springframework.web.bind.annotation.RequestParam(value = "archive", defaultValue = "true") boolean archive) {
+        return accepted(rewardJobService.startHistoryJob(archive));
+    }
+
+    /**
+     * 보상 이력 파티션 목록 (MySQL 파티션, 그 외 DB는 월 단위 논리 파티션)
+     */
+    @GetMapping("/histories/partitions")
+    public ResponseEntity<List<RewardHistoryPartitionJdbcRepository.Partition>> getHistoryPartitions() {
+        return ResponseEntity.ok(rewardHistoryPartitionManager.getPartitions());
+    }
+
+    private ResponseEntity<JobProgress> accepted(Long executionId) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/campaign/jobs/" + executionId))
+                .body(rewardJobService.getProgress(executionId));
     }
 }
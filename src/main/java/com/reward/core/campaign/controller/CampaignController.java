@@ -0,0 +1,24 @@
+package com.reward.core.campaign.controller;
+
+import com.reward.core.campaign.service.CampaignService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/campaigns")
+@RequiredArgsConstructor
+public class CampaignController {
+
+    private final CampaignService campaignService;
+
+    /**
+     * 캠페인 보상 풀에서 추첨 (캠페인 기간 안에서만, 캠페인별 일일 참여 한도 적용)
+     */
+    @PostMapping("/{campaignId}/participate")
+    public ResponseEntity<String> participate(@PathVariable("campaignId") Long campaignId,
+                                              @RequestParam("userId") Long userId) {
+        campaignService.participate(campaignId, userId);
+        return ResponseEntity.ok("참여 완료");
+    }
+}
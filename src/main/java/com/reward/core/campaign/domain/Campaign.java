@@ -0,0 +1,54 @@
+package com.reward.core.campaign.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보상 풀을 소유하는 캠페인
+ * 참여 기간과 참여 정책(일일 참여 한도, 사용자별 처리율 제한)을 캠페인마다 따로 가집니다.
+ * 보상은 Reward.campaignId로 캠페인에 소속됩니다.
+ */
+@Entity
+@Table(name = "campaigns")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Campaign {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt; // 미포함
+
+    @Column(nullable = false)
+    private Integer dailyLimit; // 사용자별 일일 최대 참여 횟수
+
+    @Column(nullable = false)
+    private Integer rateLimit; // 사용자별 rateWindowSeconds 동안 허용 요청 수
+
+    @Column(nullable = false)
+    private Integer rateWindowSeconds;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public void update(String name, LocalDateTime startAt, LocalDateTime endAt,
+                       int dailyLimit, int rateLimit, int rateWindowSeconds) {
+        this.name = name;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.dailyLimit = dailyLimit;
+        this.rateLimit = rateLimit;
+        this.rateWindowSeconds = rateWindowSeconds;
+    }
+}
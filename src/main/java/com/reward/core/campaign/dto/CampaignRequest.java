@@ -0,0 +1,33 @@
+package com.reward.core.campaign.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인 생성/수정 요청
+ * 참여 정책 값을 생략하면 기본 보상 풀 정책(reward.participation.*)을 사용합니다.
+ */
+public record CampaignRequest(
+    String name,
+    LocalDateTime startAt,
+    LocalDateTime endAt,
+    Integer dailyLimit,
+    Integer rateLimit,
+    Integer rateWindowSeconds
+) {
+
+    public void validate() {
+        if (name == null || name.isBlank()) {
+            throw new IllegalStateException("캠페인 이름은 필수입니다.");
+        }
+        if (startAt == null || endAt == null || !startAt.isBefore(endAt)) {
+            throw new IllegalStateException("캠페인 종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (isNotPositive(dailyLimit) || isNotPositive(rateLimit) || isNotPositive(rateWindowSeconds)) {
+            throw new IllegalStateException("참여 한도와 처리율 제한 값은 1 이상이어야 합니다.");
+        }
+    }
+
+    private static boolean isNotPositive(Integer value) {
+        return value != null && value < 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.reward.core.campaign.dto;
+
+import com.reward.core.campaign.domain.Campaign;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param rewardIds 캠페인 보상 풀에 속한 보상 ID
+ */
+public record CampaignResponse(
+    Long id,
+    String name,
+    LocalDateTime startAt,
+    LocalDateTime endAt,
+    int dailyLimit,
+    int rateLimit,
+    int rateWindowSeconds,
+    List<Long> rewardIds
+) {
+
+    public static CampaignResponse from(Campaign campaign, List<Long> rewardIds) {
+        return new CampaignResponse(
+                campaign.getId(),
+                campaign.getName(),
+                campaign.getStartAt(),
+                campaign.getEndAt(),
+                campaign.getDailyLimit(),
+                campaign.getRateLimit(),
+                campaign.getRateWindowSeconds(),
+                rewardIds);
+    }
+}
@@ -0,0 +1,30 @@
+package com.reward.core.campaign.dto;
+
+import com.reward.core.campaign.domain.Campaign;
+import com.reward.core.reward.dto.ParticipationPolicy;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여 경로에서 사용하는 캠페인 불변 스냅샷 (요청마다 DB를 조회하지 않도록 CampaignRegistry에 보관)
+ */
+public record CampaignSnapshot(
+    Long id,
+    LocalDateTime startAt,
+    LocalDateTime endAt,
+    ParticipationPolicy policy
+) {
+
+    public static CampaignSnapshot from(Campaign campaign) {
+        return new CampaignSnapshot(
+                campaign.getId(),
+                campaign.getStartAt(),
+                campaign.getEndAt(),
+                new ParticipationPolicy(campaign.getId(), campaign.getDailyLimit(),
+                        campaign.getRateLimit(), campaign.getRateWindowSeconds()));
+    }
+
+    public boolean isOpen(LocalDateTime now) {
+        return !now.isBefore(startAt) && now.isBefore(endAt);
+    }
+}
@@ -0,0 +1,81 @@
+package com.reward.core.campaign.dto;
+
+import com.reward.core.campaign.batch.BatchProgress;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보상 지급 배치 진행 현황
+ * 분할 실행 시 매니저 Step은 워커가 모두 끝난 뒤에야 건수가 합산되므로, 건수는 워커 Step 기준으로 집계합니다.
+ * @param itemsPerSecond 읽은 건수 기준 처리량
+ * @param progress 리더가 기록한 진행률 (0.0 ~ 1.0, 알 수 없으면 null)
+ * @param etaSeconds 현재 처리 속도 기준 남은 시간 (실행 중이 아니거나 알 수 없으면 null)
+ */
+public record JobProgress(
+    Long executionId,
+    String status,
+    String exitCode,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    long readCount,
+    long writeCount,
+    long skipCount,
+    long filterCount,
+    double itemsPerSecond,
+    Double progress,
+    Long etaSeconds,
+    List<StepProgress> steps
+) {
+
+    private static final String PARTITION_SEPARATOR = ":";
+
+    public static JobProgress from(JobExecution jobExecution) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StepExecution> counted = countedSteps(jobExecution);
+
+        long read = 0, write = 0, skip = 0, filter = 0, done = 0, total = 0;
+        for (StepExecution stepExecution : counted) {
+            read += stepExecution.getReadCount();
+            write += stepExecution.getWriteCount();
+            skip += stepExecution.getSkipCount();
+            filter += stepExecution.getFilterCount();
+            done += BatchProgress.done(stepExecution.getExecutionContext());
+            total += BatchProgress.total(stepExecution.getExecutionContext());
+        }
+
+        long elapsedMillis = StepProgress.elapsedMillis(jobExecution.getStartTime(), jobExecution.getEndTime(), now);
+        Double progress = total > 0 ? Math.min(1.0, (double) done / total) : null;
+        Long etaSeconds = jobExecution.isRunning() && progress != null && progress > 0
+                ? Math.round(elapsedMillis * (1 - progress) / progress / 1000)
+                : null;
+
+        return new JobProgress(
+                jobExecution.getId(),
+                jobExecution.getStatus().name(),
+                jobExecution.getExitStatus().getExitCode(),
+                jobExecution.getStartTime(),
+                jobExecution.getEndTime(),
+                read, write, skip, filter,
+                StepProgress.perSecond(read, elapsedMillis),
+                progress,
+                etaSeconds,
+                jobExecution.getStepExecutions().stream()
+                        .sorted(Comparator.comparing(StepExecution::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .map(stepExecution -> StepProgress.from(stepExecution, now))
+                        .toList());
+    }
+
+    /**
+     * 파티션 워커 Step("워커명:partitionN")이 있으면 워커만, 없으면 전체 Step을 집계 대상으로 사용
+     */
+    private static List<StepExecution> countedSteps(JobExecution jobExecution) {
+        List<StepExecution> workers = jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().contains(PARTITION_SEPARATOR))
+                .toList();
+        return workers.isEmpty() ? List.copyOf(jobExecution.getStepExecutions()) : workers;
+    }
+}
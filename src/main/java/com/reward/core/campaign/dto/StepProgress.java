@@ -0,0 +1,47 @@
+package com.reward.core.campaign.dto;
+
+import org.springframework.batch.core.StepExecution;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Step(파티션 워커 포함) 단위 진행 현황
+ */
+public record StepProgress(
+    String stepName,
+    String status,
+    long readCount,
+    long writeCount,
+    long skipCount,
+    long filterCount,
+    long commitCount,
+    long durationMillis,
+    double itemsPerSecond
+) {
+
+    public static StepProgress from(StepExecution stepExecution, LocalDateTime now) {
+        long durationMillis = elapsedMillis(stepExecution.getStartTime(), stepExecution.getEndTime(), now);
+        return new StepProgress(
+                stepExecution.getStepName(),
+                stepExecution.getStatus().name(),
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount(),
+                stepExecution.getFilterCount(),
+                stepExecution.getCommitCount(),
+                durationMillis,
+                perSecond(stepExecution.getReadCount(), durationMillis));
+    }
+
+    static long elapsedMillis(LocalDateTime startTime, LocalDateTime endTime, LocalDateTime now) {
+        if (startTime == null) {
+            return 0L;
+        }
+        return Duration.between(startTime, endTime != null ? endTime : now).toMillis();
+    }
+
+    static double perSecond(long count, long millis) {
+        return millis <= 0 ? 0.0 : count * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,10 @@
+package com.reward.core.campaign.event;
+
+/**
+ * 캠페인 기간/참여 정책 변경 이벤트
+ * CampaignRegistry가 이를 받아 캐시된 캠페인 스냅샷을 무효화합니다.
+ */
+public record CampaignChangedEvent(
+    Long campaignId
+) {
+}
@@ -0,0 +1,15 @@
+package com.reward.core.campaign.repository;
+
+import com.reward.core.campaign.domain.Campaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CampaignRepository extends JpaRepository<Campaign, Long> {
+
+    /**
+     * startAt 이전에 시작하고 endAt 이후에 끝나는 캠페인 (진행 중이거나 곧 시작할 캠페인)
+     */
+    List<Campaign> findByStartAtBeforeAndEndAtAfter(LocalDateTime startAt, LocalDateTime endAt);
+}
@@ -0,0 +1,67 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.campaign.dto.CampaignSnapshot;
+import com.reward.core.campaign.event.CampaignChangedEvent;
+import com.reward.core.campaign.repository.CampaignRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캠페인 스냅샷 노드 로컬 캐시
+ * 참여 요청마다 캠페인을 DB에서 읽지 않도록 캠페인 ID별 불변 스냅샷을 보관하고,
+ * 캠페인이 변경되면 커밋 이후 로컬 항목을 지우고 Pub/Sub으로 다른 노드에도 통지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignRegistry {
+
+    private static final String INVALIDATION_CHANNEL = "reward:campaign:invalidate";
+
+    private final CampaignRepository campaignRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<Long, CampaignSnapshot> campaigns = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Long campaignId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (campaigns.remove(campaignId) != null) {
+                log.info("캠페인 {} - 변경 통지 수신, 로컬 스냅샷 무효화", campaignId);
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * @throws IllegalArgumentException 캠페인이 없을 때
+     */
+    public CampaignSnapshot get(Long campaignId) {
+        // 없는 캠페인은 캐시하지 않음 (생성 직후 다른 노드에서 바로 조회될 수 있도록)
+        return campaigns.computeIfAbsent(campaignId, id -> campaignRepository.findById(id)
+                .map(CampaignSnapshot::from)
+                .orElseThrow(() -> new IllegalArgumentException("캠페인을 찾을 수 없습니다.")));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        campaigns.remove(event.campaignId());
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.campaignId()));
+        } catch (Exception e) {
+            // 통지 실패 시 다른 노드는 재시작 전까지 이전 기간/정책을 사용하므로 오류로 남김
+            log.error("캠페인 {} - 변경 통지 발행 실패", event.campaignId(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.campaign.domain.Campaign;
+import com.reward.core.campaign.dto.CampaignRequest;
+import com.reward.core.campaign.dto.CampaignResponse;
+import com.reward.core.campaign.dto.CampaignSnapshot;
+import com.reward.core.campaign.event.CampaignChangedEvent;
+import com.reward.core.campaign.repository.CampaignRepository;
+import com.reward.core.common.config.ParticipationProperties;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.event.RewardChangedEvent;
+import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.reward.service.RewardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캠페인 관리와 캠페인 단위 참여
+ * 캠페인 참여는 참여 기간을 확인한 뒤 캠페인 정책(일일 한도, 처리율 제한)과 캠페인 보상 풀로 추첨합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignService {
+
+    private final CampaignRepository campaignRepository;
+    private final RewardRepository rewardRepository;
+    private final CampaignRegistry campaignRegistry;
+    private final RewardService rewardService;
+    private final ParticipationProperties participationProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @throws IllegalStateException 캠페인 기간이 아니면
+     */
+    public void participate(Long campaignId, Long userId) {
+        CampaignSnapshot campaign = campaignRegistry.get(campaignId);
+        if (!campaign.isOpen(LocalDateTime.now())) {
+            log.info("사용자 {} - 캠페인 {} 참여 기간이 아닙니다.", userId, campaignId);
+            throw new IllegalStateException("캠페인 참여 기간이 아닙니다.");
+        }
+        rewardService.participate(campaign.policy(), userId);
+    }
+
+    @Transactional
+    public CampaignResponse create(CampaignRequest request) {
+        request.validate();
+        Campaign campaign = campaignRepository.save(Campaign.builder()
+                .name(request.name())
+                .startAt(request.startAt())
+                .endAt(request.endAt())
+                .dailyLimit(orDefault(request.dailyLimit(), participationProperties.getDailyLimit()))
+                .rateLimit(orDefault(request.rateLimit(), participationProperties.getRateLimit()))
+                .rateWindowSeconds(orDefault(request.rateWindowSeconds(), participationProperties.getRateWindowSeconds()))
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.info("캠페인 {} 생성 ({} ~ {})", campaign.getId(), campaign.getStartAt(), campaign.getEndAt());
+        return CampaignResponse.from(campaign, List.of());
+    }
+
+    @Transactional
+    public CampaignResponse update(Long campaignId, CampaignRequest request) {
+        request.validate();
+        Campaign campaign = findCampaign(campaignId);
+        campaign.update(request.name(), request.startAt(), request.endAt(),
+                orDefault(request.dailyLimit(), campaign.getDailyLimit()),
+                orDefault(request.rateLimit(), campaign.getRateLimit()),
+                orDefault(request.rateWindowSeconds(), campaign.getRateWindowSeconds()));
+        eventPublisher.publishEvent(new CampaignChangedEvent(campaignId));
+        log.info("캠페인 {} 수정 ({} ~ {})", campaignId, campaign.getStartAt(), campaign.getEndAt());
+        return CampaignResponse.from(campaign, rewardIds(campaignId));
+    }
+
+    @Transactional(readOnly = true)
+    public CampaignResponse get(Long campaignId) {
+        return CampaignResponse.from(findCampaign(campaignId), rewardIds(campaignId));
+    }
+
+    /**
+     * 보상을 캠페인 보상 풀로 옮깁니다. (커밋 이후 보상 카탈로그와 추첨 테이블 갱신)
+     */
+    @Transactional
+    public CampaignResponse assignReward(Long campaignId, Long rewardId) {
+        Campaign campaign = findCampaign(campaignId);
+        Reward reward = rewardRepository.findById(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+        reward.assignCampaign(campaignId);
+        eventPublisher.publishEvent(new RewardChangedEvent(rewardId));
+        log.info("보상 {} - 캠페인 {} 보상 풀에 추가", rewardId, campaignId);
+        return CampaignResponse.from(campaign, rewardIds(campaignId));
+    }
+
+    private Campaign findCampaign(Long campaignId) {
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("캠페인을 찾을 수 없습니다."));
+    }
+
+    private List<Long> rewardIds(Long campaignId) {
+        return rewardRepository.findByCampaignId(campaignId).stream()
+                .map(Reward::getId)
+                .toList();
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
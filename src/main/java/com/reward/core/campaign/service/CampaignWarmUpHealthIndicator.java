@@ -0,0 +1,27 @@
+package com.reward.core.campaign.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업 상태 헬스 지표 (management.endpoint.health.group.readiness에 포함)
+ * 기동 워밍업이 끝나기 전에는 OUT_OF_SERVICE로 로드밸런서가 트래픽을 보내지 않게 하고,
+ * 이후 운영자/스케줄러 워밍업은 노드를 빼지 않고 보상 풀별 결과만 상세 정보로 노출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CampaignWarmUpHealthIndicator implements HealthIndicator {
+
+    private final CampaignWarmUpService warmUpService;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmUpService.isStartupPending() ? Health.outOfService() : Health.up();
+        for (CampaignWarmUpService.Report report : warmUpService.getReports()) {
+            builder.withDetail(report.campaignId() == null ? "default" : "campaign-" + report.campaignId(), report);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,371 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.campaign.domain.Campaign;
+import com.reward.core.campaign.repository.CampaignRepository;
+import com.reward.core.common.config.WarmUpProperties;
+import com.reward.core.common.utils.RedisHealthCircuit;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.dto.ParticipationPolicy;
+import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.reward.service.ParticipationAdmissionService;
+import com.reward.core.reward.service.RedisStockService;
+import com.reward.core.reward.service.RewardCatalog;
+import com.reward.core.reward.service.RewardDrawEngine;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 캠페인 워밍업 (오픈 직후 트래픽 급증 대비)
+ * 오픈 시점에 캐시가 비어 있고, Redis 키가 없고, DB 커넥션이 맺어지지 않았고, 참여 경로가 아직 인터프리터로 실행되는 상태를
+ * 미리 해소합니다.
+ * 1. 보상 스냅샷을 Redis 캐시(2차)와 노드 로컬 카탈로그(1차)에 적재하고 추첨 테이블을 만듭니다.
+ * 2. Redis 재고 모드이면 재고 키가 없는 보상을 DB 잔여 수량으로 적재합니다.
+ * 3. 커넥션 풀 크기만큼 커넥션을 동시에 열었다가 반납합니다.
+ * 4. 가상 사용자(음수 ID)로 진입 검사(처리율 제한 + 참여 횟수 Lua 스크립트)와 추첨을 반복 실행하며,
+ *    회차별 JIT 컴파일 시간 증가가 멈추면 종료합니다. 가상 사용자의 Redis 키는 끝나면 지웁니다.
+ * 워밍업은 노드마다 실행하며(JIT/로컬 캐시는 노드별), 시작이 임박한 캠페인은 스케줄러가, 그 밖에는 운영자가 실행합니다.
+ * 기동 워밍업(reward.warm-up.on-startup)이 끝나기 전까지 readiness 헬스 그룹은 OUT_OF_SERVICE입니다.
+ */
+@Slf4j
+@Service
+public class CampaignWarmUpService {
+
+    private static final Long DEFAULT_POOL = 0L;
+    private static final int DRY_RUN_USERS = 64;
+
+    public enum State {
+        RUNNING,
+        READY,
+        FAILED
+    }
+
+    /**
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     * @param stockKeysLoaded 새로 적재한 Redis 재고 키 수
+     * @param dryRunMicrosPerCall 마지막 회차의 가상 실행 1회 평균 소요 시간 (μs)
+     * @param jitCompilationMillis 가상 실행 중 증가한 JIT 컴파일 시간 (JVM 전체)
+     */
+    public record Report(Long campaignId, State state, LocalDateTime startedAt, LocalDateTime finishedAt,
+                         int rewards, int stockKeysLoaded, int connections,
+                         long dryRunIterations, double dryRunMicrosPerCall, long jitCompilationMillis,
+                         String error) {
+
+        static Report running(Long campaignId) {
+            return new Report(campaignId, State.RUNNING, LocalDateTime.now(), null, 0, 0, 0, 0, 0, 0, null);
+        }
+
+        Report failed(Exception e) {
+            return new Report(campaignId, State.FAILED, startedAt, LocalDateTime.now(), rewards, stockKeysLoaded,
+                    connections, dryRunIterations, dryRunMicrosPerCall, jitCompilationMillis, e.getMessage());
+        }
+    }
+
+    private record DryRun(long iterations, double microsPerCall, long jitCompilationMillis) {
+    }
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignRegistry campaignRegistry;
+    private final RewardRepository rewardRepository;
+    private final RewardCatalog rewardCatalog;
+    private final RewardDrawEngine rewardDrawEngine;
+    private final RedisStockService redisStockService;
+    private final ParticipationAdmissionService admissionService;
+    private final RedisHealthCircuit redisHealthCircuit;
+    private final DataSource dataSource;
+    private final WarmUpProperties properties;
+
+    // 워밍업은 노드당 하나씩만 실행 (가상 실행끼리 CPU를 나눠 쓰면 회차별 측정이 흐려짐)
+    private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reward-warm-up-");
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<Long, Report> reports = new ConcurrentHashMap<>();
+    private volatile boolean startupPending;
+
+    public CampaignWarmUpService(CampaignRepository campaignRepository,
+                                 CampaignRegistry campaignRegistry,
+                                 RewardRepository rewardRepository,
+                                 RewardCatalog rewardCatalog,
+                                 RewardDrawEngine rewardDrawEngine,
+                                 RedisStockService redisStockService,
+                                 ParticipationAdmissionService admissionService,
+                                 RedisHealthCircuit redisHealthCircuit,
+                                 DataSource dataSource,
+                                 WarmUpProperties properties) {
+        this.campaignRepository = campaignRepository;
+        this.campaignRegistry = campaignRegistry;
+        this.rewardRepository = rewardRepository;
+        this.rewardCatalog = rewardCatalog;
+        this.rewardDrawEngine = rewardDrawEngine;
+        this.redisStockService = redisStockService;
+        this.admissionService = admissionService;
+        this.redisHealthCircuit = redisHealthCircuit;
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.startupPending = properties.isOnStartup();
+        this.executor.setVirtualThreads(true);
+    }
+
+    /**
+     * 기본 보상 풀과 진행 중(또는 곧 시작할) 캠페인을 차례로 워밍업한 뒤 readiness를 엽니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUpOnStartup() {
+        if (!startupPending) {
+            return;
+        }
+        running.set(true);
+        executor.execute(() -> {
+            try {
+                execute(null);
+                for (Campaign campaign : upcomingCampaigns()) {
+                    execute(campaign.getId());
+                }
+            } catch (Exception e) {
+                // 워밍업 실패로 노드가 트래픽을 영영 받지 못하는 일이 없도록 readiness는 열고 오류만 남김
+                log.error("기동 워밍업 실패", e);
+            } finally {
+                running.set(false);
+                startupPending = false;
+                log.info("기동 워밍업 종료, 트래픽을 받을 준비가 되었습니다.");
+            }
+        });
+    }
+
+    /**
+     * 시작이 임박한 캠페인 중 이 노드에서 아직 워밍업하지 않은(또는 실패한) 캠페인을 하나씩 워밍업합니다.
+     */
+    @Scheduled(fixedDelayString = "${reward.warm-up.check-interval-millis:60000}",
+            initialDelayString = "${reward.warm-up.check-interval-millis:60000}")
+    void warmUpUpcomingCampaigns() {
+        if (properties.getLeadTimeMinutes() <= 0 || running.get()) {
+            return;
+        }
+        upcomingCampaigns().stream()
+                .map(Campaign::getId)
+                .filter(campaignId -> {
+                    Report report = reports.get(campaignId);
+                    return report == null || report.state() == State.FAILED;
+                })
+                .findFirst()
+                .ifPresent(campaignId -> {
+                    try {
+                        start(campaignId);
+                    } catch (IllegalStateException e) {
+                        // 그사이 운영자가 워밍업을 시작한 경우
+                    }
+                });
+    }
+
+    /**
+     * 워밍업을 비동기로 시작합니다. (진행 현황은 getReports / 헬스 엔드포인트)
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     * @throws IllegalStateException 이미 워밍업이 진행 중이면
+     */
+    public Report start(Long campaignId) {
+        if (campaignId != null) {
+            campaignRegistry.get(campaignId);
+        }
+        acquire();
+        Report report = Report.running(campaignId);
+        reports.put(poolKey(campaignId), report);
+        executor.execute(() -> {
+            try {
+                execute(campaignId);
+            } finally {
+                running.set(false);
+            }
+        });
+        return report;
+    }
+
+    /**
+     * 워밍업을 현재 스레드에서 실행합니다.
+     * @throws IllegalStateException 이미 워밍업이 진행 중이면
+     */
+    public Report warmUp(Long campaignId) {
+        acquire();
+        try {
+            return execute(campaignId);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Collection<Report> getReports() {
+        return List.copyOf(reports.values());
+    }
+
+    /**
+     * 기동 워밍업이 아직 끝나지 않았으면 true (readiness OUT_OF_SERVICE)
+     */
+    public boolean isStartupPending() {
+        return startupPending;
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 워밍업이 진행 중입니다.");
+        }
+    }
+
+    private Report execute(Long campaignId) {
+        Report report = Report.running(campaignId);
+        reports.put(poolKey(campaignId), report);
+        log.info("워밍업 시작 (보상 풀: {})", poolName(campaignId));
+        try {
+            // 1. 보상 스냅샷(Redis 캐시 + 로컬 카탈로그)과 추첨 테이블
+            if (campaignId != null) {
+                campaignRegistry.get(campaignId);
+            }
+            int rewards = rewardCatalog.current(campaignId).rewards().size();
+            rewardDrawEngine.pick(campaignId);
+            report = withProgress(report, rewards, 0, 0);
+
+            // 2. Redis 재고 키
+            int stockKeysLoaded = preloadStock(campaignId);
+            report = withProgress(report, rewards, stockKeysLoaded, 0);
+
+            // 3. 커넥션 풀
+            int connections = openConnections();
+            report = withProgress(report, rewards, stockKeysLoaded, connections);
+
+            // 4. 참여 경로 가상 실행 (JIT)
+            DryRun dryRun = dryRun(campaignId);
+            report = new Report(campaignId, State.READY, report.startedAt(), LocalDateTime.now(),
+                    rewards, stockKeysLoaded, connections,
+                    dryRun.iterations(), dryRun.microsPerCall(), dryRun.jitCompilationMillis(), null);
+            log.info("워밍업 완료, 노드 준비 완료 (보상 풀: {}, 보상 {}개, 재고 키 {}개 적재, 커넥션 {}개, 가상 실행 {}회 / 회당 {}μs, JIT {}ms)",
+                    poolName(campaignId), rewards, stockKeysLoaded, connections, dryRun.iterations(),
+                    String.format("%.1f", dryRun.microsPerCall()), dryRun.jitCompilationMillis());
+        } catch (Exception e) {
+            log.error("워밍업 실패 (보상 풀: {})", poolName(campaignId), e);
+            report = report.failed(e);
+        }
+        reports.put(poolKey(campaignId), report);
+        return report;
+    }
+
+    private int preloadStock(Long campaignId) {
+        if (!redisStockService.isEnabled()) {
+            return 0;
+        }
+        List<Reward> rewards = campaignId == null
+                ? rewardRepository.findByCampaignIdIsNull()
+                : rewardRepository.findByCampaignId(campaignId);
+        int loaded = 0;
+        for (Reward reward : rewards) {
+            if (redisStockService.loadIfAbsent(reward)) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 커넥션을 반납하지 않은 채 목표 수만큼 빌려 풀이 실제로 커넥션을 맺게 합니다.
+     */
+    private int openConnections() throws SQLException {
+        int target = properties.getConnections();
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            int maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            target = target <= 0 ? maximumPoolSize : Math.min(target, maximumPoolSize);
+        } else if (target <= 0) {
+            target = 1;
+        }
+
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        return connections.size();
+    }
+
+    /**
+     * 한도에 걸리지 않는 정책으로 진입 검사와 추첨을 반복합니다. (Redis 장애 중에는 로컬 카운터를 오염시키지 않도록 추첨만 실행)
+     */
+    private DryRun dryRun(Long campaignId) {
+        ParticipationPolicy policy = new ParticipationPolicy(campaignId, Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+        boolean admission = redisHealthCircuit.isAvailable();
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean jitMonitored = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long jitStart = jitMonitored ? jit.getTotalCompilationTime() : 0;
+        long jitLast = jitStart;
+
+        long iterations = 0;
+        int settledRounds = 0;
+        double microsPerCall = 0;
+        try {
+            while (iterations < properties.getMaxIterations() && settledRounds < 2) {
+                int round = (int) Math.min(properties.getRoundIterations(), properties.getMaxIterations() - iterations);
+                long roundStart = System.nanoTime();
+                for (int i = 0; i < round; i++, iterations++) {
+                    long userId = -(iterations % DRY_RUN_USERS) - 1;
+                    if (campaignId != null) {
+                        campaignRegistry.get(campaignId).isOpen(LocalDateTime.now());
+                    }
+                    if (admission) {
+                        admissionService.admit(policy, userId);
+                    }
+                    rewardDrawEngine.pick(campaignId);
+                }
+                microsPerCall = (System.nanoTime() - roundStart) / 1_000.0 / round;
+
+                if (jitMonitored) {
+                    long compilation = jit.getTotalCompilationTime();
+                    settledRounds = compilation - jitLast <= properties.getJitSettleMillis() ? settledRounds + 1 : 0;
+                    jitLast = compilation;
+                }
+            }
+        } finally {
+            if (admission) {
+                for (long userId = -1; userId >= -DRY_RUN_USERS; userId--) {
+                    admissionService.reset(campaignId, userId);
+                }
+            }
+        }
+        return new DryRun(iterations, microsPerCall, jitLast - jitStart);
+    }
+
+    private List<Campaign> upcomingCampaigns() {
+        LocalDateTime now = LocalDateTime.now();
+        return campaignRepository.findByStartAtBeforeAndEndAtAfter(now.plusMinutes(properties.getLeadTimeMinutes()), now);
+    }
+
+    private static Report withProgress(Report report, int rewards, int stockKeysLoaded, int connections) {
+        return new Report(report.campaignId(), State.RUNNING, report.startedAt(), null,
+                rewards, stockKeysLoaded, connections, 0, 0, 0, null);
+    }
+
+    private static Long poolKey(Long campaignId) {
+        return campaignId == null ? DEFAULT_POOL : campaignId;
+    }
+
+    private static String poolName(Long campaignId) {
+        return campaignId == null ? "기본" : String.valueOf(campaignId);
+    }
+}
@@ -0,0 +1,332 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.campaign.dto.JobProgress;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobExecutionNotRunningException;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * 보상 지급 배치 비동기 실행 및 진행 현황 조회
+ * 잡은 가상 스레드에서 실행되고 요청 스레드에는 실행 ID만 바로 반환됩니다.
+ * 보상 이력 집계/아카이브 잡도 같은 방식으로 실행하며, 예약 실행은 실행 시각을 잡 파라미터로 써서 여러 노드 중 한 곳에서만 실행됩니다.
+ * 진행 현황은 JobExplorer(잡 저장소) 기준이라 다른 노드에서 실행 중인 잡도 조회할 수 있으며,
+ * 처리량 게이지는 이 노드에서 실행 중인 잡의 메모리 상 StepExecution을 읽습니다.
+ * 노드가 비정상 종료되어 STARTED로 남은 실행은 마지막 갱신 시각이 reward.batch.stale-after보다 오래되면 FAILED로 바꿔 재시작할 수 있게 합니다.
+ */
+@Slf4j
+@Service
+public class RewardJobService {
+
+    private static final String STALE_DESCRIPTION = "실행 노드가 중단되어 갱신이 멈춘 실행을 실패 처리함";
+
+    private final Job rewardJob;
+    private final Job rewardHistoryArchiveJob;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final JobOperator jobOperator;
+    private final long progressIntervalMillis;
+    private final Duration staleAfter;
+
+    // 기본 JobLauncher 빈은 동기 실행(테스트/CLI용)이므로 관리 API 전용 비동기 런처를 별도로 둠
+    // (Executor 빈으로 등록하면 @Async 기본 실행기 자동 구성이 꺼지므로 빈으로 등록하지 않음)
+    private final TaskExecutorJobLauncher asyncJobLauncher;
+    // 이 노드에서 시작한 실행 (종료되면 조회 시 제거)
+    private final Map<Long, JobExecution> runningExecutions = new ConcurrentHashMap<>();
+
+    public RewardJobService(JobRepository jobRepository,
+                            Job rewardJob,
+                            @Qualifier("rewardHistoryArchiveJob") Job rewardHistoryArchiveJob,
+                            JobExplorer jobExplorer,
+                            JobOperator jobOperator,
+                            MeterRegistry meterRegistry,
+                            @Value("${reward.batch.progress-interval-millis:1000}") long progressIntervalMillis,
+                            @Value("${reward.batch.stale-after:10m}") Duration staleAfter) throws Exception {
+        this.rewardJob = rewardJob;
+        this.rewardHistoryArchiveJob = rewardHistoryArchiveJob;
+        this.jobRepository = jobRepository;
+        this.jobExplorer = jobExplorer;
+        this.jobOperator = jobOperator;
+        this.progressIntervalMillis = progressIntervalMillis;
+        this.staleAfter = staleAfter;
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reward-job-");
+        executor.setVirtualThreads(true);
+        this.asyncJobLauncher = new TaskExecutorJobLauncher();
+        this.asyncJobLauncher.setJobRepository(jobRepository);
+        this.asyncJobLauncher.setTaskExecutor(executor);
+        this.asyncJobLauncher.afterPropertiesSet();
+
+        Gauge.builder("reward.batch.jobs.running", this, service -> runningRewardJobs().count())
+                .description("이 노드에서 실행 중인 보상 지급 배치 수")
+                .register(meterRegistry);
+        registerItemGauge(meterRegistry, "read", JobProgress::readCount);
+        registerItemGauge(meterRegistry, "write", JobProgress::writeCount);
+        registerItemGauge(meterRegistry, "skip", JobProgress::skipCount);
+        Gauge.builder("reward.batch.throughput", this, service -> sum(JobProgress::itemsPerSecond))
+                .description("실행 중인 보상 지급 배치의 초당 처리 건수 합계")
+                .baseUnit("items/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param inputFile 당첨자 파일 (없으면 시뮬레이션 사용자 ID 구간)
+     * @return 잡 실행 ID
+     */
+    public Long start(Long rewardId, Path inputFile, int partitions) {
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addLong("partitions", (long) partitions)
+                .addLong("time", System.currentTimeMillis());
+        if (inputFile != null) {
+            builder.addString("inputFile", inputFile.toString());
+        }
+        return launch(rewardJob, builder.toJobParameters());
+    }
+
+    /**
+     * 보상 이력 집계(와 콜드 파티션 아카이브)를 비동기로 시작
+     * @return 잡 실행 ID
+     */
+    public Long startHistoryJob(boolean archive) {
+        return startHistoryJob("manual-" + System.currentTimeMillis(), archive)
+                .orElseThrow(() -> new IllegalStateException("보상 이력 잡이 이미 실행 중입니다."));
+    }
+
+    /**
+     * 최근 일자 집계 (노드마다 같은 시각에 실행되지만 같은 runKey는 한 번만 실행)
+     */
+    @Scheduled(cron = "${reward.history.rollup-cron:0 */10 * * * *}")
+    public void rollUpHistories() {
+        startHistoryJob("rollup-" + LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES), false);
+    }
+
+    @Scheduled(cron = "${reward.history.archive-cron:0 35 3 * * *}")
+    public void archiveHistories() {
+        startHistoryJob("archive-" + LocalDate.now(), true);
+    }
+
+    public JobProgress getProgress(Long executionId) {
+        return JobProgress.from(findExecution(executionId));
+    }
+
+    /**
+     * 잡이 끝날 때까지 일정 주기로 진행 현황을 전송 (Server-Sent Events)
+     */
+    public SseEmitter streamProgress(Long executionId) {
+        findExecution(executionId);
+        SseEmitter emitter = new SseEmitter(0L);
+        Thread.ofVirtual().name("reward-job-progress-" + executionId).start(() -> {
+            try {
+                JobProgress progress;
+                do {
+                    progress = getProgress(executionId);
+                    emitter.send(SseEmitter.event().name("progress").data(progress));
+                    if (isFinished(progress)) {
+                        break;
+                    }
+                    Thread.sleep(progressIntervalMillis);
+                } while (true);
+                emitter.complete();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료
+                log.debug("배치 {} - 진행 현황 스트림 종료", executionId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 다음 청크 경계에서 멈추도록 중지를 요청합니다.
+     */
+    public JobProgress stop(Long executionId) {
+        try {
+            jobOperator.stop(executionId);
+            log.info("배치 {} - 중지 요청", executionId);
+        } catch (NoSuchJobExecutionException e) {
+            throw new IllegalArgumentException("배치 작업을 찾을 수 없습니다.");
+        } catch (JobExecutionNotRunningException e) {
+            throw new IllegalStateException("실행 중인 배치 작업이 아닙니다.");
+        }
+        return getProgress(executionId);
+    }
+
+    /**
+     * 실패/중지된 실행을 같은 잡 파라미터로 다시 실행 (완료된 청크와 파티션은 건너뜀)
+     * 중단된 노드에서 STARTED로 남은 실행은 갱신이 멈춘 지 reward.batch.stale-after가 지났으면 실패 처리 후 재시작합니다.
+     * @return 새 잡 실행 ID
+     */
+    public Long restart(Long executionId) {
+        JobExecution jobExecution = findExecution(executionId);
+        failIfStale(jobExecution);
+        if (jobExecution.getStatus() != BatchStatus.FAILED && jobExecution.getStatus() != BatchStatus.STOPPED) {
+            throw new IllegalStateException("실패하거나 중지된 배치 작업만 재시작할 수 있습니다. (현재 상태: " + jobExecution.getStatus() + ")");
+        }
+        Job job = rewardHistoryArchiveJob.getName().equals(jobExecution.getJobInstance().getJobName())
+                ? rewardHistoryArchiveJob
+                : rewardJob;
+        return launch(job, jobExecution.getJobParameters());
+    }
+
+    /**
+     * 다른 노드(또는 재기동 전 이 노드)에서 실행 중으로 남아 갱신이 멈춘 실행을 실패 처리합니다.
+     */
+    @Scheduled(cron = "${reward.batch.stale-check-cron:0 */5 * * * *}")
+    public void failStaleExecutions() {
+        for (String jobName : List.of(rewardJob.getName(), rewardHistoryArchiveJob.getName())) {
+            jobExplorer.findRunningJobExecutions(jobName).forEach(this::failIfStale);
+        }
+    }
+
+    /**
+     * 이 노드에서 실행 중이 아니고, 잡/Step 실행의 마지막 갱신(청크 커밋마다 갱신)이 staleAfter보다 오래된 실행이면
+     * 실행 중인 Step과 잡 실행을 FAILED로 바꿉니다.
+     * @return 실패 처리 여부
+     */
+    private boolean failIfStale(JobExecution jobExecution) {
+        if (!jobExecution.isRunning() || runningExecutions.containsKey(jobExecution.getId())) {
+            return false;
+        }
+        LocalDateTime lastUpdated = jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getLastUpdated)
+                .filter(Objects::nonNull)
+                .reduce(jobExecution.getLastUpdated(), RewardJobService::latest);
+        LocalDateTime now = LocalDateTime.now();
+        if (lastUpdated != null && lastUpdated.isAfter(now.minus(staleAfter))) {
+            return false;
+        }
+
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(STALE_DESCRIPTION));
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(STALE_DESCRIPTION));
+        jobExecution.setEndTime(now);
+        jobRepository.update(jobExecution);
+        log.warn("배치 {} - 마지막 갱신({}) 이후 멈춘 실행을 실패 처리 (재시작 가능)", jobExecution.getId(), lastUpdated);
+        return true;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    /**
+     * @param runKey 잡 인스턴스 식별 값 (같은 값으로 실행 중이거나 완료된 잡이 있으면 시작하지 않음)
+     */
+    private Optional<Long> startHistoryJob(String runKey, boolean archive) {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("runKey", runKey)
+                .addString("archive", String.valueOf(archive))
+                .toJobParameters();
+        try {
+            JobExecution jobExecution = asyncJobLauncher.run(rewardHistoryArchiveJob, jobParameters);
+            runningExecutions.put(jobExecution.getId(), jobExecution);
+            log.info("보상 이력 잡 {} - 비동기 실행 시작 ({})", jobExecution.getId(), jobParameters);
+            return Optional.of(jobExecution.getId());
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException | DuplicateKeyException e) {
+            log.debug("보상 이력 잡 {} - 이미 실행 중이거나 다른 노드에서 실행함", runKey);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("보상 이력 잡 실행 중 오류 발생", e);
+            throw new IllegalStateException("배치 작업 실행 실패: " + e.getMessage());
+        }
+    }
+
+    private Long launch(Job job, JobParameters jobParameters) {
+        try {
+            JobExecution jobExecution = asyncJobLauncher.run(job, jobParameters);
+            runningExecutions.put(jobExecution.getId(), jobExecution);
+            log.info("배치 {} - 비동기 실행 시작 ({})", jobExecution.getId(), jobParameters);
+            return jobExecution.getId();
+        } catch (Exception e) {
+            log.error("배치 작업 실행 중 오류 발생", e);
+            throw new IllegalStateException("배치 작업 실행 실패: " + e.getMessage());
+        }
+    }
+
+    private JobExecution findExecution(Long executionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null) {
+            throw new IllegalArgumentException("배치 작업을 찾을 수 없습니다.");
+        }
+        return jobExecution;
+    }
+
+    private static boolean isFinished(JobProgress progress) {
+        // STOPPING도 실행 중으로 취급 (현재 청크가 끝나야 STOPPED가 됨)
+        return !BatchStatus.valueOf(progress.status()).isRunning();
+    }
+
+    private Map<Long, JobExecution> running() {
+        runningExecutions.values().removeIf(jobExecution -> !jobExecution.isRunning());
+        return runningExecutions;
+    }
+
+    /**
+     * 처리량 게이지는 보상 지급 배치만 집계
+     */
+    private Stream<JobExecution> runningRewardJobs() {
+        return running().values().stream()
+                .filter(jobExecution -> rewardJob.getName().equals(jobExecution.getJobInstance().getJobName()));
+    }
+
+    private double sum(ToDoubleFunction<JobProgress> metric) {
+        return runningRewardJobs()
+                .map(JobProgress::from)
+                .mapToDouble(metric)
+                .sum();
+    }
+
+    private void registerItemGauge(MeterRegistry meterRegistry, String type, ToDoubleFunction<JobProgress> metric) {
+        Gauge.builder("reward.batch.items", this, service -> sum(metric))
+                .description("실행 중인 보상 지급 배치의 누적 처리 건수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
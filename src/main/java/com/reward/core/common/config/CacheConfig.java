@@ -0,0 +1,40 @@
+package com.reward.core.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis 캐시 장애 시 예외를 전파하지 않고 원본 조회(DB)로 진행하도록 설정
+ */
+@Slf4j
+@Configuration
+public class CacheConfig implements CachingConfigurer {
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("캐시 조회 실패로 원본 조회로 진행합니다. (Cache: {}, Key: {}): {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.warn("캐시 저장 실패 (Cache: {}, Key: {}): {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("캐시 삭제 실패 (Cache: {}, Key: {}): {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.warn("캐시 비우기 실패 (Cache: {}): {}", cache.getName(), exception.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.reward.core.common.config;
+
+import com.reward.core.common.utils.AdaptiveConcurrencyLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 당첨 알림 발송 설정 (일괄 발송, 발송 큐, 디스크 overflow, 재시도, 동시 요청 한도)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reward.notification")
+public class NotificationProperties {
+
+    private int multicastSize = 500;
+
+    private long lingerMillis = 50;
+
+    private int queueCapacity = 100_000;
+
+    // 큐가 가득 찼을 때 생산자가 기다리는 최대 시간 (초과 시 디스크로 넘김)
+    private long enqueueTimeoutMillis = 100;
+
+    // 발송기가 동시 요청 허가를 기다리는 최대 시간 (초과 시 시도 횟수를 늘리지 않고 다시 큐에 넣음)
+    private long acquireTimeoutMillis = 1_000;
+
+    // 재기동 후에도 남아 있어야 하므로 공용 임시 디렉터리가 아닌 애플리케이션 전용 디렉터리 사용
+    private String spillDir = "data/notification-spill";
+
+    private Retry retry = new Retry();
+
+    private AdaptiveConcurrencyLimiter.Settings concurrency = new AdaptiveConcurrencyLimiter.Settings();
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private int maxAttempts = 5;
+
+        private long backoffBaseMillis = 200;
+
+        private long backoffMaxMillis = 30_000;
+    }
+}
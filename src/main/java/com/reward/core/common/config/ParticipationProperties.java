@@ -0,0 +1,36 @@
+package com.reward.core.common.config;
+
+import com.reward.core.reward.dto.ParticipationPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 보상 풀(캠페인에 속하지 않은 보상)의 참여 정책
+ * 캠페인별 정책은 Campaign 엔티티에 저장하며, 캠페인 생성 시 값을 생략하면 이 값을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reward.participation")
+public class ParticipationProperties {
+
+    private int dailyLimit = 3;
+
+    private int rateLimit = 10;
+
+    private int rateWindowSeconds = 1;
+
+    /**
+     * 보상 풀별 전체 사용자 합산 처리율 상한 (poolRateWindowSeconds 동안 허용 요청 수, 0이면 끔)
+     * 여러 노드가 함께 쓰는 키이므로 할당량 임대(reward.rate-limit.lease)가 켜져 있으면 노드 로컬에서 판정합니다.
+     */
+    private int poolRateLimit = 0;
+
+    private int poolRateWindowSeconds = 1;
+
+    public ParticipationPolicy defaultPolicy() {
+        return new ParticipationPolicy(null, dailyLimit, rateLimit, rateWindowSeconds);
+    }
+}
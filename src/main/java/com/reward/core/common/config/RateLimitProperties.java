@@ -0,0 +1,31 @@
+package com.reward.core.common.config;
+
+import com.reward.core.common.utils.RateLimitAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 제한 키별 처리율 제한 알고리즘 설정
+ * 제한 키의 첫 구간(예: "user:1" → "user")으로 알고리즘을 선택하며, 미설정 시 기본 알고리즘을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reward.rate-limit")
+public class RateLimitProperties {
+
+    private RateLimitAlgorithm defaultAlgorithm = RateLimitAlgorithm.SLIDING_LOG;
+
+    private Map<String, RateLimitAlgorithm> algorithms = new HashMap<>();
+
+    public RateLimitAlgorithm algorithmFor(String key) {
+        int separator = key.indexOf(':');
+        String group = separator < 0 ? key : key.substring(0, separator);
+        return algorithms.getOrDefault(group, defaultAlgorithm);
+    }
+}
@@ -0,0 +1,34 @@
+package com.reward.core.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보상 이력 파티션/집계/아카이브 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reward.history")
+public class RewardHistoryProperties {
+
+    // MySQL에서 reward_histories를 received_at 기준 월별 RANGE 파티션으로 관리 (H2 등 파티션 미지원 DB는 단일 테이블 + 기간 삭제)
+    private boolean partitioned = true;
+
+    // 미리 만들어 둘 다음 달 파티션 수
+    private int partitionMonthsAhead = 3;
+
+    // 기존 테이블을 파티션 테이블로 자동 전환할 최대 행 수 (초과 시 테이블 복사가 길어지므로 경고만 남김)
+    private long autoPartitionMaxRows = 1_000_000;
+
+    // 원본 이력을 보관할 개월 수 (이번 달 포함, 2 이상) - 이전 파티션은 아카이브 후 삭제
+    private int hotMonths = 6;
+
+    // 지급 잡의 중복 지급 판정이 아카이브 파일도 읽으므로 공용 임시 디렉터리가 아닌 애플리케이션 전용 디렉터리 사용
+    private String archiveDir = "data/reward-history-archive";
+
+    // 집계 잡마다 다시 계산할 최근 일수 (오늘 포함, 늦게 커밋된 지급 반영, 1~28)
+    private int rollupLookbackDays = 2;
+}
@@ -0,0 +1,33 @@
+package com.reward.core.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠페인 워밍업 설정 (캐시/재고 키/커넥션 풀 선적재, 참여 경로 가상 실행)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reward.warm-up")
+public class WarmUpProperties {
+
+    // 기동 직후 기본 보상 풀과 진행 중(또는 곧 시작할) 캠페인을 워밍업하고, 끝날 때까지 readiness를 OUT_OF_SERVICE로 둠
+    private boolean onStartup = false;
+
+    // 시작 시각이 이 시간 안으로 다가온 캠페인을 자동으로 워밍업 (0이면 자동 워밍업 끔)
+    private long leadTimeMinutes = 10;
+
+    // 동시에 열어 둘 DB 커넥션 수 (0이면 커넥션 풀 최대 크기)
+    private int connections = 0;
+
+    // 가상 실행 1회차 반복 수 (회차마다 JIT 컴파일 시간 증가량을 확인)
+    private int roundIterations = 1_000;
+
+    private int maxIterations = 50_000;
+
+    // 한 회차 동안 JIT 컴파일 시간 증가가 이 값 이하인 회차가 연속 2번이면 컴파일이 끝난 것으로 판단
+    private long jitSettleMillis = 5;
+}
@@ -0,0 +1,296 @@
+package com.reward.core.common.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 시간 기반 적응형 동시 요청 제한 (Gradient + AIMD)
+ * 고정 Bulkhead 대신, 외부 API의 응답 시간(RTT)을 보고 동시 요청 한도를 스스로 조절합니다.
+ *
+ * 샘플을 윈도우(window-millis 이상, window-min-samples건 이상) 단위로 모아 한 번에 한도를 갱신합니다.
+ * - 윈도우 평균 RTT(short)를 장기 RTT(long, 지수 이동 평균)와 비교하여
+ *   short가 long * tolerance 이하이면 sqrt(limit)만큼 늘리고, 그 이상이면 비율만큼 줄입니다. (Gradient)
+ * - 윈도우 안에 실패(요청 실패, 공급자 과부하 응답)가 있으면 backoff-ratio를 곱해 줄입니다. (곱셈 감소)
+ * - 동시 요청이 한도의 절반도 쓰이지 않은 윈도우에서는 한도를 늘리지 않습니다. (수요가 없을 때 한도가 부풀지 않도록)
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 한도 조절 설정 (@ConfigurationProperties 바인딩용)
+     */
+    @Getter
+    @Setter
+    public static class Settings {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 500;
+
+        // 윈도우 평균 RTT가 장기 RTT의 몇 배까지면 정상으로 보는지
+        private double tolerance = 1.5;
+
+        // 새 한도를 반영하는 비율 (클수록 빠르게 반응)
+        private double smoothing = 0.2;
+
+        // 실패가 있었던 윈도우에서 한도에 곱하는 비율
+        private double backoffRatio = 0.9;
+
+        private long windowMillis = 1_000;
+
+        private int windowMinSamples = 10;
+
+        // 장기 RTT 지수 이동 평균의 윈도우 수
+        private int longWindow = 60;
+    }
+
+    /**
+     * 획득한 요청 허가 (요청이 끝나면 onSuccess / onDropped / onIgnore 중 하나를 한 번 호출)
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 정상 응답 (RTT 샘플로 사용)
+         */
+        public void onSuccess() {
+            release(sample -> sample.success(clock.getAsLong() - startNanos));
+        }
+
+        /**
+         * 요청 실패 또는 공급자 과부하 응답 (한도 감소 신호)
+         */
+        public void onDropped() {
+            release(Sample::dropped);
+        }
+
+        /**
+         * 공급자 상태와 무관한 실패 (샘플로 사용하지 않음)
+         */
+        public void onIgnore() {
+            release(sample -> {
+            });
+        }
+
+        private void release(Consumer<Sample> recorder) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                synchronized (AdaptiveConcurrencyLimiter.this) {
+                    recorder.accept(window);
+                    updateIfWindowClosed();
+                }
+                signalReleased();
+            }
+        }
+    }
+
+    /**
+     * 현재 윈도우에 모인 샘플 (AdaptiveConcurrencyLimiter 잠금 안에서만 접근)
+     */
+    private final class Sample {
+
+        private long startNanos = clock.getAsLong();
+        private int successes;
+        private long rttSum;
+        private int drops;
+        private int maxInFlight;
+
+        private void success(long rttNanos) {
+            successes++;
+            rttSum += rttNanos;
+        }
+
+        private void dropped() {
+            drops++;
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier clock;
+    private final long windowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+    // 대기 중인 acquire를 깨우는 용도 (가상 스레드가 모니터 대기로 캐리어를 붙잡지 않도록 Lock 사용)
+    private final ReentrantLock releaseLock = new ReentrantLock();
+    private final Condition released = releaseLock.newCondition();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private volatile double shortRttNanos;
+    private Sample window;
+
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, MeterRegistry meterRegistry) {
+        this(name, settings, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param clock 나노초 시계 (시뮬레이션에서 가상 시간을 쓰기 위해 주입)
+     */
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(settings.getWindowMillis());
+        this.estimatedLimit = clamp(settings.getInitialLimit());
+        this.limit = (int) estimatedLimit;
+        this.window = new Sample();
+
+        Gauge.builder("reward.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("limiter", name)
+                .description("현재 동시 요청 한도")
+                .register(meterRegistry);
+        Gauge.builder("reward.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .tag("limiter", name)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("reward.concurrency.rtt", this, limiter -> limiter.shortRttNanos / 1_000_000.0)
+                .tag("limiter", name)
+                .tag("window", "short")
+                .description("최근 윈도우 평균 응답 시간 (ms)")
+                .register(meterRegistry);
+        Gauge.builder("reward.concurrency.rtt", this, AdaptiveConcurrencyLimiter::longRttMillis)
+                .tag("limiter", name)
+                .tag("window", "long")
+                .description("장기 응답 시간 추정치 (ms)")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("reward.concurrency.rejections")
+                .tag("limiter", name)
+                .description("한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 한도 안이면 허가, 한도를 넘으면 null (대기하지 않음)
+     */
+    public Permit tryAcquire() {
+        Permit permit = acquireIfAvailable();
+        if (permit == null) {
+            rejections.increment();
+        }
+        return permit;
+    }
+
+    /**
+     * 한도 안에 자리가 날 때까지 최대 timeout 동안 기다립니다.
+     * @return 허가, 기다려도 자리가 나지 않으면 null
+     */
+    public Permit acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Permit permit;
+        while ((permit = acquireIfAvailable()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                rejections.increment();
+                return null;
+            }
+            releaseLock.lockInterruptibly();
+            try {
+                // 반납은 inFlight를 줄인 뒤 잠금을 잡고 깨우므로, 잠금 안에서 다시 확인하면 깨우는 신호를 놓치지 않음
+                if (inFlight.get() >= limit) {
+                    released.awaitNanos(remaining);
+                }
+            } finally {
+                releaseLock.unlock();
+            }
+        }
+        return permit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private Permit acquireIfAvailable() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        synchronized (this) {
+            window.maxInFlight = Math.max(window.maxInFlight, current + 1);
+        }
+        return new Permit(clock.getAsLong());
+    }
+
+    private void signalReleased() {
+        releaseLock.lock();
+        try {
+            released.signalAll();
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+
+    private synchronized double longRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    private void updateIfWindowClosed() {
+        Sample sample = window;
+        if (clock.getAsLong() - sample.startNanos < windowNanos
+                || sample.successes + sample.drops < settings.getWindowMinSamples()) {
+            return;
+        }
+        window = new Sample();
+
+        double previous = estimatedLimit;
+        if (sample.drops > 0 || sample.successes == 0) {
+            estimatedLimit = clamp(estimatedLimit * settings.getBackoffRatio());
+        } else {
+            double shortRtt = (double) sample.rttSum / sample.successes;
+            shortRttNanos = shortRtt;
+            longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / settings.getLongWindow();
+            if (longRttNanos / shortRtt > 2) {
+                // 지연이 해소되었으면 장기 RTT도 빠르게 따라 내려가도록
+                longRttNanos *= 0.95;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, settings.getTolerance() * longRttNanos / shortRtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            if (sample.maxInFlight < estimatedLimit / 2) {
+                newLimit = Math.min(newLimit, estimatedLimit);
+            }
+            estimatedLimit = clamp(estimatedLimit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing());
+        }
+
+        int updated = (int) estimatedLimit;
+        if (updated != limit) {
+            log.debug("[{}] 동시 요청 한도 {} -> {} (실패: {}, RTT: {}ms / 장기 {}ms)", name, (int) previous, updated,
+                    sample.drops, (long) (shortRttNanos / 1_000_000), (long) (longRttNanos / 1_000_000));
+        }
+        limit = updated;
+    }
+
+    private double clamp(double value) {
+        return Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), value));
+    }
+}
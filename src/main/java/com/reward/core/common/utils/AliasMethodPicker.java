@@ -0,0 +1,89 @@
+package com.reward.core.common.utils;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Walker/Vose Alias Method 기반 가중치 랜덤 선택기
+ * 생성 시 O(n)으로 별칭 테이블을 만들어 두고, 선택은 O(1)로 객체 할당 없이 수행합니다.
+ * 불변 객체이므로 한 번 만든 테이블을 여러 스레드가 공유할 수 있습니다.
+ */
+public class AliasMethodPicker<T> {
+
+    private final Object[] items;
+    private final double[] probability;
+    private final int[] alias;
+
+    public AliasMethodPicker(List<T> candidates, ToIntFunction<T> weigher) {
+        int[] weights = new int[candidates.size()];
+        int size = 0;
+        long totalWeight = 0;
+        Object[] filtered = new Object[candidates.size()];
+        for (T candidate : candidates) {
+            int weight = weigher.applyAsInt(candidate);
+            if (weight > 0) {
+                filtered[size] = candidate;
+                weights[size++] = weight;
+                totalWeight += weight;
+            }
+        }
+
+        this.items = new Object[size];
+        this.probability = new double[size];
+        this.alias = new int[size];
+        System.arraycopy(filtered, 0, items, 0, size);
+        if (size == 0) {
+            return;
+        }
+
+        // 평균 가중치를 1로 정규화한 뒤 작은 칸(< 1)을 큰 칸의 초과분으로 채움
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (double) weights[i] * size / totalWeight;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // 부동소수점 오차로 남은 칸은 자기 자신을 확률 1로 선택
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T pick() {
+        if (items.length == 0) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(items.length);
+        return (T) (random.nextDouble() < probability[column] ? items[column] : items[alias[column]]);
+    }
+
+    public int size() {
+        return items.length;
+    }
+}
@@ -1,5 +1,6 @@
 package com.reward.core.common.utils;
 
+import com.reward.core.common.config.RateLimitProperties;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,8 @@ import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -17,49 +20,43 @@ public class DistributedRateLimiter {
 
     private final StringRedisTemplate redisTemplate;
     private final RateLimiterRegistry rateLimiterRegistry;
+    private final RateLimitProperties rateLimitProperties;
+    private final RedisHealthCircuit redisHealthCircuit;
+
+    private final Map<RateLimitAlgorithm, DefaultRedisScript<Long>> redisScripts = createScripts();
+
+    private static Map<RateLimitAlgorithm, DefaultRedisScript<Long>> createScripts() {
+        Map<RateLimitAlgorithm, DefaultRedisScript<Long>> scripts = new EnumMap<>(RateLimitAlgorithm.class);
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            scripts.put(algorithm, new DefaultRedisScript<>(algorithm.checkScript() + "return 1", Long.class));
+        }
+        return scripts;
+    }
 
     /**
-     * Redis Sorted Set을 이용한 Sliding Window Rate Limiting
+     * Redis 분산 처리율 제한 (제한 키별 설정된 알고리즘 사용, 기본: Sorted Set Sliding Window)
      * Fixed Window보다 시간 경계에서의 트래픽 급증을 더 정교하게 제어합니다.
      * @param key 제한할 키
      * @param limit 허용 횟수
      * @param windowSizeSeconds 윈도우 크기 (초)
      * @return 허용 여부
      */
-    private static final String LUA_SCRIPT =
-            "redis.call('zremrangebyscore', KEYS[1], 0, ARGV[1]) " +
-            "local current_count = redis.call('zcard', KEYS[1]) " +
-            "if tonumber(current_count) < tonumber(ARGV[2]) then " +
-            "    redis.call('zadd', KEYS[1], ARGV[3], ARGV[3]) " +
-            "    redis.call('expire', KEYS[1], ARGV[4]) " +
-            "    return 1 " +
-            "else " +
-            "    return 0 " +
-            "end";
-
-    private final DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>(LUA_SCRIPT, Long.class);
-
     public boolean isAllowed(String key, int limit, int windowSizeSeconds) {
-        try {
-            long now = System.currentTimeMillis();
-            long windowStart = now - (windowSizeSeconds * 1000L);
+        return isAllowed(key, limit, windowSizeSeconds, rateLimitProperties.algorithmFor(key));
+    }
 
-            Long result = redisTemplate.execute(redisScript,
-                    Collections.singletonList("rate_limit:sliding:" + key),
-                    String.valueOf(windowStart),
-                    String.valueOf(limit),
-                    String.valueOf(now),
-                    String.valueOf(windowSizeSeconds));
+    public boolean isAllowed(String key, int limit, int windowSizeSeconds, RateLimitAlgorithm algorithm) {
+        return redisHealthCircuit.execute("rate-limiter", () -> {
+            Long result = redisTemplate.execute(redisScripts.get(algorithm),
+                    Collections.singletonList(algorithm.redisKey(key)),
+                    (Object[]) algorithm.arguments(System.currentTimeMillis(), limit, windowSizeSeconds * 1000L));
 
             return result != null && result == 1L;
-        } catch (Exception e) {
-            log.error("Redis 장애 발생으로 로컬 Rate Limiter로 Fallback 합니다. (Key: {})", key, e);
-            return fallbackToLocalRateLimiter(key);
-        }
+        }, () -> fallbackToLocalRateLimiter(key));
     }
 
     /**
-     * Redis 장애 시 Resilience4j 로컬 Rate Limiter를 사용
+     * Redis 장애 시(서킷 OPEN 포함) Resilience4j 로컬 Rate Limiter를 사용
      */
     private boolean fallbackToLocalRateLimiter(String key) {
         RateLimiter localLimiter = rateLimiterRegistry.rateLimiter("localFallbackLimiter");
@@ -0,0 +1,277 @@
+package com.reward.core.common.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 할당량 임대(Lease) 방식 처리율 제한
+ * 노드가 키의 윈도우 예산 중 일부(slice)를 Redis에서 임대해 두고, 소진될 때까지 로컬 원자 카운터로 판정합니다.
+ * 잔량이 절반 이하가 되면 가상 스레드에서 미리 갱신하고, 일정 시간 사용하지 않은 잔량은 Redis에 반환합니다.
+ * 예산은 고정 윈도우(window = now / windowSize) 단위로 관리하며, 모든 노드의 허용 합계는 윈도우당 limit을 넘지 않습니다.
+ * 임대는 여러 사용자가 함께 쓰는 키(전체/캠페인 단위)에서만 이득이 있으므로, 설정된 키 구간(reward.rate-limit.lease.key-groups)에만 적용합니다.
+ * (사용자별 키는 요청이 적어 첫 요청마다 임대 왕복이 추가될 뿐이므로 진입 스크립트에서 한 번에 판정)
+ */
+@Slf4j
+@Component
+public class LeasedRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:lease:";
+
+    /**
+     * KEYS[1]: 윈도우 예산 키, ARGV[1]: 요청 수량, ARGV[2]: 윈도우 허용 횟수, ARGV[3]: 키 만료(ms)
+     * 반환: 임대된 수량 (0 = 예산 소진)
+     */
+    private static final String LEASE_SCRIPT =
+            "local leased = tonumber(redis.call('get', KEYS[1]) or '0') " +
+            "local granted = math.min(tonumber(ARGV[1]), tonumber(ARGV[2]) - leased) " +
+            "if granted <= 0 then " +
+            "    return 0 " +
+            "end " +
+            "redis.call('incrby', KEYS[1], granted) " +
+            "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+            "return granted";
+
+    /**
+     * 윈도우가 이미 끝나 키가 만료된 경우에는 반환하지 않음 (음수 키 생성 방지)
+     */
+    private static final String RETURN_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "    redis.call('decrby', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return 1";
+
+    private static final class Lease {
+        private final long window;
+        private final long windowMillis;
+        private final AtomicInteger remaining = new AtomicInteger();
+        private final AtomicBoolean renewing = new AtomicBoolean();
+        // 윈도우 예산이 소진되면 같은 윈도우 동안 Redis를 다시 호출하지 않고 거절
+        private volatile boolean exhausted;
+        private volatile long lastUsedMillis;
+
+        private Lease(long window, long windowMillis, long now) {
+            this.window = window;
+            this.windowMillis = windowMillis;
+            this.lastUsedMillis = now;
+        }
+
+        private boolean tryAcquire() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final RedisHealthCircuit redisHealthCircuit;
+    private final boolean enabled;
+    private final double sliceRatio;
+    private final long idleReturnMillis;
+    private final Set<String> keyGroups;
+
+    private final DefaultRedisScript<Long> leaseScript = new DefaultRedisScript<>(LEASE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> returnScript = new DefaultRedisScript<>(RETURN_SCRIPT, Long.class);
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    private final Counter localDecisions;
+    private final Counter redisDecisions;
+    private final Counter leaseCalls;
+    private final Counter returnCalls;
+
+    public LeasedRateLimiter(StringRedisTemplate redisTemplate,
+                             DistributedRateLimiter distributedRateLimiter,
+                             RedisHealthCircuit redisHealthCircuit,
+                             MeterRegistry meterRegistry,
+                             @Value("${reward.rate-limit.lease.enabled:false}") boolean enabled,
+                             @Value("${reward.rate-limit.lease.slice-ratio:0.5}") double sliceRatio,
+                             @Value("${reward.rate-limit.lease.idle-return-millis:200}") long idleReturnMillis,
+                             @Value("${reward.rate-limit.lease.key-groups:global,campaign}") Set<String> keyGroups) {
+        this.redisTemplate = redisTemplate;
+        this.distributedRateLimiter = distributedRateLimiter;
+        this.redisHealthCircuit = redisHealthCircuit;
+        this.enabled = enabled;
+        this.sliceRatio = sliceRatio;
+        this.idleReturnMillis = idleReturnMillis;
+        this.keyGroups = Set.copyOf(keyGroups);
+        this.localDecisions = Counter.builder("reward.rate-limit.lease.decisions")
+                .tag("source", "local").register(meterRegistry);
+        this.redisDecisions = Counter.builder("reward.rate-limit.lease.decisions")
+                .tag("source", "redis").register(meterRegistry);
+        this.leaseCalls = Counter.builder("reward.rate-limit.lease.redis.calls")
+                .tag("operation", "lease").register(meterRegistry);
+        this.returnCalls = Counter.builder("reward.rate-limit.lease.redis.calls")
+                .tag("operation", "return").register(meterRegistry);
+
+        if (enabled) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().daemon().name("rate-limit-lease-sweeper").factory());
+            sweeper.scheduleWithFixedDelay(this::sweep, idleReturnMillis, idleReturnMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 키의 첫 구간(예: "campaign:1" → campaign)이 임대 대상 구간인지 확인합니다.
+     */
+    public boolean appliesTo(String key) {
+        if (!enabled) {
+            return false;
+        }
+        int separator = key.indexOf(':');
+        return keyGroups.contains(separator < 0 ? key : key.substring(0, separator));
+    }
+
+    /**
+     * @param key 제한할 키
+     * @param limit 윈도우당 전체 노드 허용 횟수
+     * @param windowSizeSeconds 윈도우 크기 (초)
+     * @return 허용 여부
+     */
+    public boolean isAllowed(String key, int limit, int windowSizeSeconds) {
+        long windowMillis = windowSizeSeconds * 1000L;
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis;
+
+        Lease lease = leases.get(key);
+        if (lease == null || lease.window != window) {
+            lease = leases.compute(key, (k, existing) ->
+                    existing != null && existing.window == window ? existing : new Lease(window, windowMillis, now));
+        }
+        lease.lastUsedMillis = now;
+
+        int slice = sliceSize(limit);
+        if (lease.tryAcquire()) {
+            localDecisions.increment();
+            if (lease.remaining.get() <= slice / 2 && !lease.exhausted) {
+                renewInBackground(key, lease, limit, slice);
+            }
+            return true;
+        }
+        if (lease.exhausted) {
+            localDecisions.increment();
+            return false;
+        }
+
+        // 임대분 소진: 동기 임대 후 1개를 즉시 사용
+        redisDecisions.increment();
+        Lease current = lease;
+        Integer granted = redisHealthCircuit.execute("rate-limit-lease",
+                () -> lease(key, current, limit, slice), () -> null);
+        if (granted == null) {
+            // 임대 불가 시 분산 처리율 제한으로 판정 (서킷 OPEN 시 로컬 Rate Limiter)
+            return distributedRateLimiter.isAllowed(key, limit, windowSizeSeconds);
+        }
+        if (granted <= 0) {
+            return false;
+        }
+        lease.remaining.addAndGet(granted - 1);
+        return true;
+    }
+
+    private int sliceSize(int limit) {
+        return Math.max(1, (int) Math.ceil(limit * sliceRatio));
+    }
+
+    private int lease(String key, Lease lease, int limit, int slice) {
+        leaseCalls.increment();
+        Long granted = redisTemplate.execute(leaseScript,
+                Collections.singletonList(budgetKey(key, lease.window)),
+                String.valueOf(slice),
+                String.valueOf(limit),
+                String.valueOf(lease.windowMillis * 2));
+        int result = granted == null ? 0 : granted.intValue();
+        if (result <= 0) {
+            lease.exhausted = true;
+        }
+        return result;
+    }
+
+    private void renewInBackground(String key, Lease lease, int limit, int slice) {
+        if (!lease.renewing.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("rate-limit-lease-renew").start(() -> {
+            try {
+                Integer granted = redisHealthCircuit.execute("rate-limit-lease",
+                        () -> lease(key, lease, limit, slice), () -> null);
+                if (granted != null && granted > 0) {
+                    lease.remaining.addAndGet(granted);
+                }
+            } finally {
+                lease.renewing.set(false);
+            }
+        });
+    }
+
+    /**
+     * 윈도우가 끝난 임대는 버리고, 유휴 상태인 임대의 잔량은 다른 노드가 쓸 수 있도록 Redis에 반환합니다.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        leases.forEach((key, lease) -> {
+            if (lease.window != now / lease.windowMillis) {
+                leases.remove(key, lease);
+            } else if (now - lease.lastUsedMillis >= idleReturnMillis && leases.remove(key, lease)) {
+                returnUnused(key, lease);
+            }
+        });
+    }
+
+    private void returnUnused(String key, Lease lease) {
+        int unused = lease.remaining.getAndSet(0);
+        if (unused <= 0) {
+            return;
+        }
+        // 반환 실패 시 해당 윈도우 동안만 예산이 덜 쓰임
+        redisHealthCircuit.execute("rate-limit-lease", () -> {
+            returnCalls.increment();
+            return redisTemplate.execute(returnScript,
+                    Collections.singletonList(budgetKey(key, lease.window)),
+                    String.valueOf(unused));
+        }, () -> null);
+    }
+
+    private String budgetKey(String key, long window) {
+        return KEY_PREFIX + key + ":" + window;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        leases.forEach((key, lease) -> {
+            if (leases.remove(key, lease)) {
+                returnUnused(key, lease);
+            }
+        });
+    }
+}
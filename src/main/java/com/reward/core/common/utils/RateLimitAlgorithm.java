@@ -0,0 +1,93 @@
+package com.reward.core.common.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 분산 처리율 제한 알고리즘
+ * 각 알고리즘은 동일한 입력(KEYS[1], ARGV[1..4])을 사용하는 Lua 검사 구문을 제공합니다.
+ * 거절 시 검사 구문 안에서 0을 반환하고, 허용 시 다음 구문으로 진행하므로 다른 스크립트에 그대로 이어 붙일 수 있습니다.
+ *
+ * KEYS[1]: 제한 키, ARGV[1]: 현재 시각(ms), ARGV[2]: 허용 횟수, ARGV[3]: 윈도우 크기(ms), ARGV[4]: 요청 식별자
+ */
+public enum RateLimitAlgorithm {
+
+    /**
+     * Sorted Set 요청 로그 (정확하지만 허용 요청마다 멤버 1개를 저장)
+     */
+    SLIDING_LOG("rate_limit:sliding:",
+            "redis.call('zremrangebyscore', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[3])) " +
+            "if redis.call('zcard', KEYS[1]) >= tonumber(ARGV[2]) then " +
+            "    return 0 " +
+            "end " +
+            "redis.call('zadd', KEYS[1], ARGV[1], ARGV[4]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[3]) "),
+
+    /**
+     * 이전/현재 윈도우 카운터 2개를 경과 비율로 가중 합산 (키당 필드 2개로 고정)
+     */
+    SLIDING_WINDOW_COUNTER("rate_limit:swc:",
+            "local swc_window = tonumber(ARGV[3]) " +
+            "local swc_now = tonumber(ARGV[1]) " +
+            "local swc_current = math.floor(swc_now / swc_window) " +
+            "local swc_counts = redis.call('hmget', KEYS[1], swc_current, swc_current - 1) " +
+            "local swc_weight = 1 - (swc_now % swc_window) / swc_window " +
+            "if (tonumber(swc_counts[2]) or 0) * swc_weight + (tonumber(swc_counts[1]) or 0) >= tonumber(ARGV[2]) then " +
+            "    return 0 " +
+            "end " +
+            "redis.call('hincrby', KEYS[1], swc_current, 1) " +
+            "redis.call('hdel', KEYS[1], swc_current - 2) " +
+            "redis.call('pexpire', KEYS[1], swc_window * 2) "),
+
+    /**
+     * Generic Cell Rate Algorithm: 키당 이론적 도착 시각(TAT) 하나만 저장
+     * 허용 간격은 window / limit이며, 윈도우 크기만큼의 버스트(limit회)를 허용합니다.
+     */
+    GCRA("rate_limit:gcra:",
+            "local gcra_now = tonumber(ARGV[1]) " +
+            "local gcra_window = tonumber(ARGV[3]) " +
+            "local gcra_tat = tonumber(redis.call('get', KEYS[1])) or gcra_now " +
+            "if gcra_tat < gcra_now then " +
+            "    gcra_tat = gcra_now " +
+            "end " +
+            "local gcra_next = gcra_tat + gcra_window / tonumber(ARGV[2]) " +
+            "if gcra_next - gcra_now > gcra_window then " +
+            "    return 0 " +
+            "end " +
+            "redis.call('set', KEYS[1], gcra_next, 'PX', math.ceil(gcra_next - gcra_now)) ");
+
+    private final String keyPrefix;
+    private final String checkScript;
+
+    RateLimitAlgorithm(String keyPrefix, String checkScript) {
+        this.keyPrefix = keyPrefix;
+        this.checkScript = checkScript;
+    }
+
+    /**
+     * 알고리즘마다 저장 구조가 다르므로 키 공간을 분리합니다. (알고리즘 변경 시 WRONGTYPE 방지)
+     */
+    public String redisKey(String key) {
+        return keyPrefix + key;
+    }
+
+    /**
+     * 거절 시 0을 반환하고 허용 시 다음 구문으로 진행하는 검사 구문
+     */
+    public String checkScript() {
+        return checkScript;
+    }
+
+    /**
+     * ARGV[1..4]
+     */
+    public String[] arguments(long nowMillis, int limit, long windowMillis) {
+        // 같은 밀리초의 요청이 하나의 멤버로 합쳐지지 않도록 난수를 붙임 (SLIDING_LOG)
+        String requestId = nowMillis + ":" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return new String[]{
+                String.valueOf(nowMillis),
+                String.valueOf(limit),
+                String.valueOf(windowMillis),
+                requestId
+        };
+    }
+}
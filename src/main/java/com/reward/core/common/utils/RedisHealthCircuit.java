@@ -0,0 +1,133 @@
+package com.reward.core.common.utils;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 가용성 서킷 (Resilience4j CircuitBreaker "redis")
+ * 장애가 감지되어 서킷이 열리면 Redis를 호출하지 않고 곧바로 로컬 구현으로 처리하여
+ * 요청마다 명령 타임아웃을 기다리지 않도록 합니다.
+ * HALF_OPEN 상태에서는 일부 요청이 탐침 역할을 하며, CLOSED로 돌아오면 등록된 복구 작업(카운터 정합성 맞추기)을 실행합니다.
+ */
+@Slf4j
+@Component
+public class RedisHealthCircuit {
+
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter outages;
+    private final List<Runnable> recoveryTasks = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, Counter> fallbackCounters = new ConcurrentHashMap<>();
+
+    public RedisHealthCircuit(CircuitBreakerRegistry circuitBreakerRegistry, MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("redis");
+        this.meterRegistry = meterRegistry;
+        this.outages = Counter.builder("reward.redis.outages").register(meterRegistry);
+        Gauge.builder("reward.redis.available", circuitBreaker, cb -> isClosed(cb.getState()) ? 1 : 0)
+                .register(meterRegistry);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.State toState = event.getStateTransition().getToState();
+            if (toState == CircuitBreaker.State.OPEN) {
+                outages.increment();
+                log.error("Redis 서킷 OPEN - 로컬 구현으로 전환합니다. ({})", event.getStateTransition());
+            } else if (toState == CircuitBreaker.State.CLOSED) {
+                log.info("Redis 서킷 CLOSED - Redis 경로로 복귀합니다. ({})", event.getStateTransition());
+                // 상태 전이를 기록한 요청 스레드를 붙잡지 않도록 별도 가상 스레드에서 실행
+                Thread.ofVirtual().name("redis-recovery").start(this::runRecoveryTasks);
+            }
+        });
+    }
+
+    /**
+     * 서킷이 허용하면 Redis 호출을 실행하고, 서킷이 열려 있거나 호출이 실패하면 fallback을 실행합니다.
+     * redisCall은 Redis 명령만 수행해야 합니다. (비즈니스 예외는 호출 결과를 보고 바깥에서 판단)
+     * @param component 메트릭 태그 (fallback 발생 위치)
+     */
+    public <T> T execute(String component, Supplier<T> redisCall, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(component, fallback);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = redisCall.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Exception e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            log.warn("Redis 호출 실패로 로컬 구현으로 Fallback 합니다. (Component: {}): {}", component, e.getMessage());
+            return fallback(component, fallback);
+        }
+    }
+
+    /**
+     * 다시 실행하면 안 되는 쓰기(INCR 등)용 실행
+     * 서킷이 열려 있거나 연결을 얻지 못해 명령이 전송되지 않은 것이 확실할 때만 fallback을 실행합니다.
+     * 응답 타임아웃이나 스크립트 오류처럼 Redis에 이미 반영되었을 수 있는 실패는 fallback 없이 그대로 던집니다. (Fail Closed)
+     */
+    public <T> T executeAtMostOnce(String component, Supplier<T> redisCall, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(component, fallback);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = redisCall.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RedisConnectionFailureException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            log.warn("Redis 연결 실패로 로컬 구현으로 Fallback 합니다. (Component: {}): {}", component, e.getMessage());
+            return fallback(component, fallback);
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            log.error("Redis 호출 결과를 알 수 없어 요청을 거절합니다. (Component: {}): {}", component, e.getMessage());
+            throw e;
+        }
+    }
+
+    public boolean isAvailable() {
+        return isClosed(circuitBreaker.getState());
+    }
+
+    /**
+     * Redis가 복구되어 서킷이 닫힐 때 실행할 작업을 등록합니다.
+     */
+    public void onRecovery(Runnable task) {
+        recoveryTasks.add(task);
+    }
+
+    private <T> T fallback(String component, Supplier<T> fallback) {
+        fallbackCounters.computeIfAbsent(component, c -> Counter.builder("reward.redis.fallbacks")
+                .tag("component", c)
+                .register(meterRegistry)).increment();
+        return fallback.get();
+    }
+
+    private void runRecoveryTasks() {
+        for (Runnable task : recoveryTasks) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Redis 복구 작업 실패", e);
+            }
+        }
+    }
+
+    private static boolean isClosed(CircuitBreaker.State state) {
+        return state == CircuitBreaker.State.CLOSED;
+    }
+}
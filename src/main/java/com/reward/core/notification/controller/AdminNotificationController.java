@@ -0,0 +1,35 @@
+package com.reward.core.notification.controller;
+
+import com.reward.core.notification.dto.DeadLetterResponse;
+import com.reward.core.notification.service.NotificationDeadLetterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/notifications")
+@RequiredArgsConstructor
+public class AdminNotificationController {
+
+    private final NotificationDeadLetterService deadLetterService;
+
+    /**
+     * 발송하지 못한 알림 목록 (재발송하지 않은 건만, 최신순)
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<DeadLetterResponse>> getDeadLetters(@RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(deadLetterService.findPending(limit));
+    }
+
+    @PostMapping("/dead-letters/{id}/replay")
+    public ResponseEntity<DeadLetterResponse> replay(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(deadLetterService.replay(id));
+    }
+
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<String> replayAll(@RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        return ResponseEntity.ok("알림 재발송 요청 완료: " + deadLetterService.replayAll(limit) + "건");
+    }
+}
@@ -0,0 +1,46 @@
+package com.reward.core.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 소진했거나 재시도할 수 없는 오류로 발송하지 못한 알림
+ * 운영자가 조회 후 다시 발송(replay)할 수 있습니다.
+ */
+@Entity
+@Table(name = "notification_dead_letters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(nullable = false)
+    private String error; // 마지막 실패 사유
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime replayedAt; // null이면 미처리
+
+    public void markReplayed() {
+        if (this.replayedAt != null) {
+            throw new IllegalStateException("이미 재발송된 알림입니다.");
+        }
+        this.replayedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,27 @@
+package com.reward.core.notification.dto;
+
+import com.reward.core.notification.domain.NotificationDeadLetter;
+
+import java.time.LocalDateTime;
+
+public record DeadLetterResponse(
+    Long id,
+    Long userId,
+    String message,
+    String error,
+    int attempts,
+    LocalDateTime createdAt,
+    LocalDateTime replayedAt
+) {
+
+    public static DeadLetterResponse from(NotificationDeadLetter deadLetter) {
+        return new DeadLetterResponse(
+                deadLetter.getId(),
+                deadLetter.getUserId(),
+                deadLetter.getMessage(),
+                deadLetter.getError(),
+                deadLetter.getAttempts(),
+                deadLetter.getCreatedAt(),
+                deadLetter.getReplayedAt());
+    }
+}
@@ -0,0 +1,13 @@
+package com.reward.core.notification.event;
+
+import java.util.List;
+
+/**
+ * 알림 처리 완료 이벤트 (발송 성공, 만료 토큰, Dead Letter 저장)
+ * 알림을 넘긴 쪽이 이를 받아 원본(Outbox 행 등)을 완료 처리합니다.
+ * 재시도 대기 중이거나 Dead Letter 저장에 실패한 알림은 포함하지 않습니다.
+ */
+public record NotificationCompletedEvent(
+    List<Long> referenceIds
+) {
+}
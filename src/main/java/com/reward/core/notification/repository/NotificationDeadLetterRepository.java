@@ -0,0 +1,12 @@
+package com.reward.core.notification.repository;
+
+import com.reward.core.notification.domain.NotificationDeadLetter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface NotificationDeadLetterRepository extends JpaRepository<NotificationDeadLetter, Long> {
+
+    List<NotificationDeadLetter> findByReplayedAtIsNullOrderByIdDesc(Pageable pageable);
+}
@@ -0,0 +1,59 @@
+package com.reward.core.notification.service;
+
+import com.reward.core.notification.domain.NotificationDeadLetter;
+import com.reward.core.notification.dto.DeadLetterResponse;
+import com.reward.core.notification.repository.NotificationDeadLetterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 발송하지 못한 알림(Dead Letter) 조회 및 재발송
+ * 재발송은 시도 횟수를 초기화하여 발송 큐에 다시 넣습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDeadLetterService {
+
+    private final NotificationDeadLetterRepository deadLetterRepository;
+    private final NotificationDispatcher notificationDispatcher;
+
+    /**
+     * 재발송하지 않은 알림을 최신순으로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<DeadLetterResponse> findPending(int limit) {
+        return deadLetterRepository.findByReplayedAtIsNullOrderByIdDesc(PageRequest.of(0, limit)).stream()
+                .map(DeadLetterResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public DeadLetterResponse replay(Long id) {
+        NotificationDeadLetter deadLetter = deadLetterRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
+        deadLetter.markReplayed();
+        notificationDispatcher.enqueue(deadLetter.getUserId(), deadLetter.getMessage());
+        log.info("Dead Letter {} - 사용자 {} 알림 재발송", id, deadLetter.getUserId());
+        return DeadLetterResponse.from(deadLetter);
+    }
+
+    /**
+     * @return 재발송한 건수
+     */
+    @Transactional
+    public int replayAll(int limit) {
+        List<NotificationDeadLetter> deadLetters = deadLetterRepository.findByReplayedAtIsNullOrderByIdDesc(PageRequest.of(0, limit));
+        for (NotificationDeadLetter deadLetter : deadLetters) {
+            deadLetter.markReplayed();
+            notificationDispatcher.enqueue(deadLetter.getUserId(), deadLetter.getMessage());
+        }
+        log.info("Dead Letter {}건 재발송", deadLetters.size());
+        return deadLetters.size();
+    }
+}
@@ -0,0 +1,487 @@
+package com.reward.core.notification.service;
+
+import com.reward.core.common.config.NotificationProperties;
+import com.reward.core.common.utils.AdaptiveConcurrencyLimiter;
+import com.reward.core.notification.domain.NotificationDeadLetter;
+import com.reward.core.notification.event.NotificationCompletedEvent;
+import com.reward.core.notification.repository.NotificationDeadLetterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 당첨 알림 일괄 발송기
+ * 사용자마다 비동기 작업을 만드는 대신 큐에 쌓아 두고, 발송 한도(multicast-size)만큼 모이거나
+ * 대기 시간(linger-millis)이 지나면 한 번의 일괄 발송 요청으로 묶어 가상 스레드에서 전송합니다.
+ * 발송기는 묶음마다 FCM 동시 요청 허가(적응형 한도, 최대 concurrency.max-limit)를 먼저 받고 나서 가상 스레드를 띄우므로,
+ * 공급자가 느려져도 가상 스레드가 끝없이 늘지 않습니다. (허가를 기다리는 동안 큐가 차고, 넘치는 알림은 디스크로 넘어갑니다.)
+ * acquire-timeout-millis 안에 허가를 받지 못한 묶음은 시도 횟수를 늘리지 않고 다시 큐에 넣습니다.
+ *
+ * 큐가 가득 차면 생산자는 enqueue-timeout-millis만큼 기다린 뒤 로컬 디스크(spill-dir)로 넘기고,
+ * 큐에 여유가 생기면 디스크에 넘긴 알림부터 다시 채웁니다.
+ * 일시적 오류(동시 요청 한도 초과, 공급자 장애 등)는 지터를 준 지수 백오프로 재시도하고,
+ * 만료 토큰(INVALID_TOKEN)은 모아서 주기적으로 한 번에 삭제하며,
+ * 재시도를 소진했거나 재시도할 수 없는 오류는 Dead Letter로 저장합니다.
+ * 종료 시에는 큐에 남은 알림을 발송하고, 재시도 대기 중인 알림은 디스크로 넘겨 재기동 후 이어서 처리합니다.
+ *
+ * 참조 ID와 함께 넣은 알림은 처리가 끝나면(발송 성공, 만료 토큰, Dead Letter 저장) NotificationCompletedEvent로 알려
+ * 원본(Outbox 행)을 그때 완료 처리하게 합니다. 큐/디스크에 있는 동안 노드가 죽어도 원본이 남아 다시 발행됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int MAX_SPILL_SEGMENT_SIZE = 10_000;
+
+    /**
+     * @param referenceId 처리 완료를 알릴 원본 ID (없으면 null)
+     * @param attempts 지금까지 발송을 시도한 횟수
+     */
+    private record Pending(NotificationService.Notification notification, Long referenceId, int attempts) {
+    }
+
+    private record RetryEntry(Pending pending, long dueNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((RetryEntry) other).dueNanos);
+        }
+    }
+
+    private final NotificationService notificationService;
+    private final NotificationDeadLetterRepository deadLetterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationProperties properties;
+    private final BlockingQueue<Pending> queue;
+    private final DelayQueue<RetryEntry> retries = new DelayQueue<>();
+    private final Queue<Long> invalidTokenUserIds = new ConcurrentLinkedQueue<>();
+    private final NotificationSpillStore spillStore;
+    private final long lingerNanos;
+
+    private final Phaser inFlight = new Phaser(1);
+    private final Counter dropped;
+    private final Counter spilled;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter requeued;
+    private final Counter invalidTokens;
+    private final Counter deadLettered;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public NotificationDispatcher(NotificationService notificationService,
+                                  NotificationDeadLetterRepository deadLetterRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  NotificationProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.notificationService = notificationService;
+        this.deadLetterRepository = deadLetterRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+        this.spillStore = new NotificationSpillStore(Path.of(properties.getSpillDir()),
+                Math.max(1, Math.min(MAX_SPILL_SEGMENT_SIZE, properties.getQueueCapacity() / 2)));
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLingerMillis());
+
+        Gauge.builder("reward.notification.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("reward.notification.spill.size", spillStore, NotificationSpillStore::size)
+                .description("디스크로 넘겨진 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("reward.notification.retry.pending", retries, DelayQueue::size)
+                .description("재시도 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("reward.notification.dropped")
+                .description("디스크로도 넘기지 못해 버려진 알림 수")
+                .register(meterRegistry);
+        this.spilled = Counter.builder("reward.notification.spilled")
+                .description("큐가 가득 차 디스크로 넘겨진 알림 수")
+                .register(meterRegistry);
+        this.sent = recipients(meterRegistry, "success");
+        this.retried = recipients(meterRegistry, "retry");
+        this.requeued = recipients(meterRegistry, "requeued");
+        this.invalidTokens = recipients(meterRegistry, "invalid_token");
+        this.deadLettered = recipients(meterRegistry, "dead_letter");
+        this.batchSize = DistributionSummary.builder("reward.notification.batch.size")
+                .description("일괄 발송 1회당 수신자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 큐에 여유가 없으면 잠시 기다린 뒤 디스크로 넘깁니다. (호출 스레드를 오래 막지 않음)
+     */
+    public void enqueue(Long userId, String message) {
+        enqueue(userId, message, null);
+    }
+
+    /**
+     * @param referenceId 처리가 끝나면 NotificationCompletedEvent로 알릴 원본 ID
+     */
+    public void enqueue(Long userId, String message, Long referenceId) {
+        offer(new Pending(new NotificationService.Notification(userId, message), referenceId, 0),
+                properties.getEnqueueTimeoutMillis());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofVirtual().name("notification-flusher").start(this::flushLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("발송 중인 알림을 기다리다 종료합니다. (남은 요청: {}건)", inFlight.getUnarrivedParties());
+        }
+
+        // 남은 알림과 재시도 대기 중인 알림은 디스크에 남겨 재기동 후 발송
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (RetryEntry entry : retries.toArray(new RetryEntry[0])) {
+            remaining.add(entry.pending());
+        }
+        retries.clear();
+        remaining.forEach(this::spill);
+        purgeInvalidTokens();
+        try {
+            spillStore.close();
+        } catch (IOException e) {
+            log.error("알림 overflow 파일을 닫을 수 없습니다.", e);
+        }
+        log.info("알림 발송기 종료 (디스크 보관: {}건)", spillStore.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 Graceful Shutdown 이후에 멈추도록 하여, 종료 직전까지 들어온 요청의 알림도 발송합니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * 만료 토큰은 실패할 때마다 지우지 않고 모아서 한 번에 삭제
+     */
+    @Scheduled(fixedDelayString = "${reward.notification.token-purge-interval-millis:5000}")
+    public void purgeInvalidTokens() {
+        List<Long> userIds = new ArrayList<>();
+        Long userId;
+        while ((userId = invalidTokenUserIds.poll()) != null) {
+            userIds.add(userId);
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            notificationService.purgeTokens(userIds);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            invalidTokenUserIds.addAll(userIds);
+            log.error("만료 토큰 일괄 삭제 실패 ({}건)", userIds.size(), e);
+        }
+    }
+
+    /**
+     * 한 건이 들어오면 최대 linger 동안 더 모아서 발송 (종료 요청 후에도 큐가 빌 때까지 계속)
+     */
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(properties.getMulticastSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                if (running) {
+                    moveDueRetries();
+                    refillFromSpill();
+                }
+                Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < properties.getMulticastSize()) {
+                    queue.drainTo(batch, properties.getMulticastSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getMulticastSize() || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(List.copyOf(batch));
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 동시 요청 허가를 받은 뒤 발송 (한도에 닿아 있으면 반납될 때까지 기다림)
+     */
+    private void dispatch(List<Pending> batch) throws InterruptedException {
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = notificationService.acquire(properties.getAcquireTimeoutMillis());
+        } catch (InterruptedException e) {
+            // 발송하지 못한 묶음은 디스크에 남겨 재기동 후 발송
+            batch.forEach(this::spill);
+            throw e;
+        }
+        if (permit == null) {
+            // 요청을 보내지 않았으므로 시도 횟수를 늘리지 않고 다시 큐에 넣음 (큐가 가득 차면 디스크로)
+            requeued.increment(batch.size());
+            batch.forEach(pending -> offer(pending, 0));
+            return;
+        }
+        batchSize.record(batch.size());
+        inFlight.register();
+        Thread.ofVirtual().start(() -> {
+            try {
+                send(batch, permit);
+            } finally {
+                inFlight.arriveAndDeregister();
+            }
+        });
+    }
+
+    private void send(List<Pending> batch, AdaptiveConcurrencyLimiter.Permit permit) {
+        List<NotificationService.SendResult> results;
+        try {
+            results = notificationService.sendMulticast(batch.stream().map(Pending::notification).toList(), permit).results();
+        } catch (Exception e) {
+            // 요청 자체가 실패하면 (공급자 장애 등) 묶음 전체를 재시도
+            log.warn("알림 일괄 발송 실패 ({}명), 재시도 예약: {}", batch.size(), e.toString());
+            List<Pending> exhausted = new ArrayList<>();
+            List<NotificationDeadLetter> deadLetters = new ArrayList<>();
+            for (Pending pending : batch) {
+                if (!retry(pending)) {
+                    exhausted.add(pending);
+                    deadLetters.add(deadLetter(pending, e.getClass().getSimpleName()));
+                }
+            }
+            if (saveDeadLetters(deadLetters)) {
+                complete(exhausted);
+            }
+            return;
+        }
+
+        List<Pending> completed = new ArrayList<>();
+        List<Pending> deadLettered = new ArrayList<>();
+        List<NotificationDeadLetter> deadLetters = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            NotificationService.SendResult result = results.get(i);
+            if (result.success()) {
+                sent.increment();
+                completed.add(pending);
+            } else if (NotificationService.isInvalidToken(result.error())) {
+                invalidTokens.increment();
+                invalidTokenUserIds.add(pending.notification().userId());
+                completed.add(pending);
+            } else if (!NotificationService.isTransient(result.error()) || !retry(pending)) {
+                deadLettered.add(pending);
+                deadLetters.add(deadLetter(pending, result.error()));
+            }
+        }
+        if (saveDeadLetters(deadLetters)) {
+            completed.addAll(deadLettered);
+        }
+        complete(completed);
+    }
+
+    /**
+     * base * 2^(시도 횟수 - 1)의 절반 ~ 전체 구간에서 임의로 대기 (Equal Jitter, 최대 backoff-max-millis)
+     * @return 재시도를 예약했으면 true, 시도 횟수를 소진했으면 false (Dead Letter 대상)
+     */
+    private boolean retry(Pending pending) {
+        int attempts = pending.attempts() + 1;
+        NotificationProperties.Retry retry = properties.getRetry();
+        if (attempts >= retry.getMaxAttempts()) {
+            return false;
+        }
+        long backoff = Math.min(retry.getBackoffMaxMillis(), retry.getBackoffBaseMillis() << Math.min(attempts - 1, 20));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        retried.increment();
+        retries.add(new RetryEntry(new Pending(pending.notification(), pending.referenceId(), attempts),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay)));
+        return true;
+    }
+
+    /**
+     * 처리가 끝난 알림의 참조 ID를 알립니다. (실패하면 원본이 남아 다시 발행되므로 로그만 남김)
+     */
+    private void complete(List<Pending> completed) {
+        List<Long> referenceIds = completed.stream()
+                .map(Pending::referenceId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (referenceIds.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new NotificationCompletedEvent(referenceIds));
+        } catch (Exception e) {
+            log.error("알림 처리 완료 반영 실패 ({}건)", referenceIds.size(), e);
+        }
+    }
+
+    private void moveDueRetries() {
+        RetryEntry entry;
+        while ((entry = retries.poll()) != null) {
+            offer(entry.pending(), 0);
+        }
+    }
+
+    /**
+     * 큐에 세그먼트 하나가 들어갈 여유가 있을 때만 디스크에 넘긴 알림을 다시 채웁니다.
+     * 세그먼트 파일은 모든 줄을 큐에 넘긴 뒤에 삭제합니다.
+     */
+    private void refillFromSpill() {
+        if (spillStore.isEmpty() || queue.remainingCapacity() < spillStore.segmentSize()) {
+            return;
+        }
+        NotificationSpillStore.Segment segment;
+        try {
+            segment = spillStore.poll();
+        } catch (IOException e) {
+            log.error("디스크에 넘긴 알림을 읽을 수 없습니다.", e);
+            return;
+        }
+        if (segment == null) {
+            return;
+        }
+        for (String line : segment.lines()) {
+            try {
+                offer(decode(line), 0);
+            } catch (RuntimeException e) {
+                dropped.increment();
+                log.error("손상된 알림 overflow 줄을 건너뜁니다: {}", line);
+            }
+        }
+        try {
+            spillStore.commit(segment);
+        } catch (IOException e) {
+            // 재기동 시 같은 세그먼트를 다시 읽어 중복 발송될 수 있음
+            log.error("다시 채운 알림 overflow 파일을 삭제할 수 없습니다: {}", segment.path(), e);
+        }
+    }
+
+    private void offer(Pending pending, long timeoutMillis) {
+        try {
+            if (queue.offer(pending, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spill(pending);
+    }
+
+    private void spill(Pending pending) {
+        try {
+            spillStore.append(encode(pending));
+            spilled.increment();
+        } catch (IOException e) {
+            dropped.increment();
+            log.error("알림 큐가 가득 차 사용자 {} 알림을 발송하지 못했습니다.", pending.notification().userId(), e);
+        }
+    }
+
+    /**
+     * @return 저장했으면 true (저장 대상이 없어도 true)
+     */
+    private boolean saveDeadLetters(List<NotificationDeadLetter> deadLetters) {
+        if (deadLetters.isEmpty()) {
+            return true;
+        }
+        deadLettered.increment(deadLetters.size());
+        try {
+            deadLetterRepository.saveAll(deadLetters);
+            log.warn("알림 {}건을 Dead Letter로 저장했습니다.", deadLetters.size());
+            return true;
+        } catch (Exception e) {
+            log.error("Dead Letter 저장 실패 ({}건)", deadLetters.size(), e);
+            return false;
+        }
+    }
+
+    private static NotificationDeadLetter deadLetter(Pending pending, String error) {
+        return NotificationDeadLetter.builder()
+                .userId(pending.notification().userId())
+                .message(pending.notification().message())
+                .error(error)
+                .attempts(pending.attempts() + 1)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 시도 횟수 \t 사용자 ID \t 참조 ID(없으면 빈 값) \t 메시지 (메시지의 탭/개행은 공백으로 치환)
+     */
+    private static String encode(Pending pending) {
+        return pending.attempts() + "\t" + pending.notification().userId() + "\t"
+                + (pending.referenceId() == null ? "" : pending.referenceId()) + "\t"
+                + pending.notification().message().replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private static Pending decode(String line) {
+        String[] fields = line.split("\t", 4);
+        Long referenceId = fields[2].isEmpty() ? null : Long.valueOf(fields[2]);
+        return new Pending(new NotificationService.Notification(Long.valueOf(fields[1]), fields[3]), referenceId,
+                Integer.parseInt(fields[0]));
+    }
+
+    private static Counter recipients(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reward.notification.recipients")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,46 +1,122 @@
 package com.reward.core.notification.service;
 
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import com.reward.core.common.config.NotificationProperties;
+import com.reward.core.common.utils.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 public class NotificationService {
 
+    private static final String INVALID_TOKEN = "INVALID_TOKEN";
+    private static final Set<String> TRANSIENT_ERRORS = Set.of("UNAVAILABLE", "INTERNAL", "QUOTA_EXCEEDED");
+
+    public record Notification(Long userId, String message) {
+    }
+
     /**
-     * 가상 스레드에서 실행되는 비동기 알림 발송 메서드
-     * Bulkhead를 통해 FCM API 동시 요청 수를 제어 (Node.js의 p-map 역할)
+     * @param error 실패 사유 (성공 시 null)
      */
-    @Async
-    @Bulkhead(name = "notificationBulkhead")
-    public void sendNotification(Long userId, String message) {
-        log.info("[VirtualThread: {}] 사용자 {}에게 알림 발송 중: {}", 
-                Thread.currentThread().isVirtual(), userId, message);
+    public record SendResult(Long userId, boolean success, String error) {
+    }
 
-        try {
-            // 외부 API 호출 시뮬레이션
-            Thread.sleep(100); 
+    public record MulticastResult(int successCount, int failureCount, List<SendResult> results) {
+    }
 
-            // FCM 에러 시뮬레이션 (10% 확률로 실패)
-            if (ThreadLocalRandom.current().nextInt(10) == 0) {
-                throw new RuntimeException("INVALID_TOKEN");
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public NotificationService(NotificationProperties properties, MeterRegistry meterRegistry) {
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter("notification", properties.getConcurrency(), meterRegistry);
+    }
+
+    /**
+     * FCM API 동시 요청 허가를 받습니다. 동시 요청 수는 응답 시간에 따라 조절되는 적응형 한도로 제어합니다.
+     * @return 허가, timeoutMillis 안에 자리가 나지 않으면 null (NotificationDispatcher가 시도 횟수를 늘리지 않고 다시 큐에 넣음)
+     */
+    public AdaptiveConcurrencyLimiter.Permit acquire(long timeoutMillis) throws InterruptedException {
+        return concurrencyLimiter.acquire(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 최대 500건을 FCM 일괄 발송 API 한 번으로 전송하고 수신자별 결과를 받습니다.
+     * 요청 실패나 과반이 공급자 과부하 응답(UNAVAILABLE 등)이면 한도를 줄이고,
+     * 일부 수신자만 일시적 오류를 받은 경우는 요청 자체가 처리된 것이므로 정상 응답 샘플로 봅니다.
+     * @param permit acquire로 받은 허가 (응답 후 반납)
+     */
+    public MulticastResult sendMulticast(List<Notification> notifications, AdaptiveConcurrencyLimiter.Permit permit) {
+        MulticastResult result;
+        try {
+            result = callProvider(notifications);
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                permit.onIgnore();
+            } else {
+                permit.onDropped();
             }
+            throw e;
+        }
+        long transientFailures = result.results().stream().filter(sendResult -> isTransient(sendResult.error())).count();
+        if (transientFailures * 2 > result.results().size()) {
+            permit.onDropped();
+        } else {
+            permit.onSuccess();
+        }
+        return result;
+    }
+
+    private MulticastResult callProvider(List<Notification> notifications) {
+        log.info("[VirtualThread: {}] {}명에게 알림 일괄 발송 중",
+                Thread.currentThread().isVirtual(), notifications.size());
 
-            log.info("사용자 {} 알림 발송 완료", userId);
+        try {
+            // 외부 API 호출 시뮬레이션 (요청 1회)
+            Thread.sleep(100);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-        } catch (Exception e) {
-            log.error("사용자 {} 알림 발송 실패: {}", userId, e.getMessage());
-            purgeToken(userId);
+            throw new IllegalStateException("알림 발송이 중단되었습니다.", e);
         }
+
+        List<SendResult> results = new ArrayList<>(notifications.size());
+        int failureCount = 0;
+        for (Notification notification : notifications) {
+            // FCM 에러 시뮬레이션 (수신자별 10% 확률로 실패)
+            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                results.add(new SendResult(notification.userId(), false, INVALID_TOKEN));
+                failureCount++;
+            } else {
+                results.add(new SendResult(notification.userId(), true, null));
+            }
+        }
+
+        log.info("알림 일괄 발송 완료 (성공: {}, 실패: {})", notifications.size() - failureCount, failureCount);
+        return new MulticastResult(notifications.size() - failureCount, failureCount, results);
     }
 
-    private void purgeToken(Long userId) {
-        log.warn("사용자 {}의 만료된 토큰을 DB에서 삭제합니다.", userId);
-        // 실제 운영 환경에서는 Repository를 호출하여 토큰 삭제 로직 수행
+    /**
+     * 만료 토큰을 한 번에 삭제 (실패할 때마다 삭제하지 않고 NotificationDispatcher가 모아서 호출)
+     */
+    public void purgeTokens(Collection<Long> userIds) {
+        log.warn("사용자 {}명의 만료된 토큰을 DB에서 삭제합니다.", userIds.size());
+        // 실제 운영 환경에서는 Repository를 호출하여 토큰 일괄 삭제 (DELETE ... WHERE user_id IN (...))
+    }
+
+    public static boolean isInvalidToken(String error) {
+        return INVALID_TOKEN.equals(error);
+    }
+
+    /**
+     * 공급자 일시 장애/한도 초과는 재시도하고, 그 외 오류(잘못된 요청 등)는 재시도하지 않음
+     */
+    public static boolean isTransient(String error) {
+        return error != null && TRANSIENT_ERRORS.contains(error);
     }
 }
@@ -0,0 +1,126 @@
+package com.reward.core.notification.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 발송 큐가 가득 찼을 때 알림을 로컬 디스크에 넘겨 두는 저장소
+ * 줄 단위로 세그먼트 파일에 추가하고, segmentSize 줄이 차면 새 세그먼트로 넘어갑니다.
+ * 읽을 때는 오래된 세그먼트 하나를 통째로 읽고, 모든 줄을 큐에 다시 넘긴 뒤(commit) 삭제합니다.
+ * 넘기는 도중 종료되면 세그먼트가 남아 재기동 시 다시 읽으므로 일부 알림이 중복 발송될 수 있습니다. (At-least-once)
+ */
+class NotificationSpillStore {
+
+    private static final String SUFFIX = ".spill";
+
+    /**
+     * 읽어 간 세그먼트 (commit 전까지 파일이 남아 있음)
+     */
+    record Segment(Path path, List<String> lines) {
+    }
+
+    private final Path dir;
+    private final int segmentSize;
+    private final Deque<Path> segments = new ArrayDeque<>();
+
+    private BufferedWriter current;
+    private Path currentPath;
+    private int currentLines;
+    private long pendingLines;
+    private long sequence;
+
+    NotificationSpillStore(Path dir, int segmentSize) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> files = Files.list(dir)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                        .sorted()
+                        .forEach(segments::add);
+            }
+            for (Path segment : segments) {
+                try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+                    pendingLines += lines.count();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 overflow 디렉터리를 열 수 없습니다: " + dir, e);
+        }
+    }
+
+    synchronized void append(String line) throws IOException {
+        if (current == null) {
+            currentPath = dir.resolve("%013d-%06d%s".formatted(System.currentTimeMillis(), sequence++ % 1_000_000, SUFFIX));
+            current = Files.newBufferedWriter(currentPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            currentLines = 0;
+        }
+        current.write(line);
+        current.write('\n');
+        current.flush();
+        currentLines++;
+        pendingLines++;
+        if (currentLines >= segmentSize) {
+            rotate();
+        }
+    }
+
+    /**
+     * 가장 오래된 세그먼트를 읽습니다. (닫힌 세그먼트가 없으면 쓰던 세그먼트를 닫고 읽음)
+     * 파일은 commit 할 때 삭제하며, 읽지 못한 세그먼트는 디스크에 남겨 재기동 시 다시 읽습니다.
+     * @return 읽은 세그먼트 (없으면 null)
+     */
+    synchronized Segment poll() throws IOException {
+        if (segments.isEmpty() && current != null) {
+            rotate();
+        }
+        Path segment = segments.pollFirst();
+        if (segment == null) {
+            return null;
+        }
+        return new Segment(segment, Files.readAllLines(segment, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 세그먼트의 모든 줄을 큐에 넘긴 뒤 호출하여 파일을 삭제
+     */
+    synchronized void commit(Segment segment) throws IOException {
+        Files.deleteIfExists(segment.path());
+        pendingLines -= segment.lines().size();
+    }
+
+    synchronized boolean isEmpty() {
+        return pendingLines == 0;
+    }
+
+    synchronized long size() {
+        return pendingLines;
+    }
+
+    int segmentSize() {
+        return segmentSize;
+    }
+
+    synchronized void close() throws IOException {
+        if (current != null) {
+            rotate();
+        }
+    }
+
+    private void rotate() throws IOException {
+        current.close();
+        segments.addLast(currentPath);
+        current = null;
+        currentPath = null;
+    }
+}
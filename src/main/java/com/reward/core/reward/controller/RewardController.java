@@ -1,5 +1,7 @@
 package com.reward.core.reward.controller;
 
+import com.reward.core.reward.dto.RewardHistoryPage;
+import com.reward.core.reward.service.RewardHistoryService;
 import com.reward.core.reward.service.RewardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,10 +13,22 @@ import org.springframework.web.bind.annotation.*;
 public class RewardController {
 
     private final RewardService rewardService;
+    private final RewardHistoryService rewardHistoryService;
 
     @PostMapping("/participate")
     public ResponseEntity<String> participate(@RequestParam("userId") Long userId) {
         rewardService.participate(userId);
         return ResponseEntity.ok("참여 완료");
     }
+
+    /**
+     * 내 보상 이력 (최신순, 키셋 페이지네이션)
+     * @param cursor 이전 응답의 nextCursor (생략하면 첫 페이지)
+     */
+    @GetMapping("/histories")
+    public ResponseEntity<RewardHistoryPage> getHistories(@RequestParam("userId") Long userId,
+                                                          @RequestParam(value = "cursor", required = false) String cursor,
+                                                          @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(rewardHistoryService.getHistories(userId, cursor, size));
+    }
 }
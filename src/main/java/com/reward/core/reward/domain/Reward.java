@@ -1,10 +1,12 @@
 package com.reward.core.reward.domain;
 
+import com.reward.core.reward.event.RewardEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "rewards")
+@Table(name = "rewards", indexes = @Index(name = "idx_rewards_campaign", columnList = "campaignId"))
+@EntityListeners(RewardEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -31,13 +33,89 @@ public class Reward {
     @Column(nullable = false)
     private Integer weight; // 가중치 (예: 10, 20, 70)
 
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer stockSlotCount = 1; // 재고 분할(Striped Stock) 슬롯 수 (1이면 단일 행으로 관리)
+
+    private Long campaignId; // 소속 캠페인 (null이면 기본 보상 풀)
+
     @Version
     private Long version; // 낙관적 락(Optimistic Lock)을 위한 버전 관리
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private DrawAttributes loadedDrawAttributes; // 조회 시점의 추첨 관련 속성 (수정 감지용)
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Long loadedRemainingQuantity; // 조회 시점의 잔여 수량 (재고 보충 감지용)
+
+    /**
+     * 추첨 테이블/보상 캐시에 영향을 주는 속성 (잔여 수량 제외)
+     */
+    private record DrawAttributes(String name, Integer weight, Integer stockSlotCount, Long campaignId) {
+    }
+
     public void decreaseQuantity() {
         if (this.remainingQuantity <= 0) {
-            throw new IllegalStateException("보상 수량이 소진되었습니다.");
+            throw new RewardSoldOutException();
         }
         this.remainingQuantity--;
     }
+
+    /**
+     * 요청 수량 중 잔여 수량만큼만 차감 (묶음 지급용)
+     * @return 실제 차감된 수량
+     */
+    public long decreaseQuantityUpTo(long requested) {
+        long granted = Math.min(requested, this.remainingQuantity);
+        this.remainingQuantity -= granted;
+        return granted;
+    }
+
+    /**
+     * 재고 보충 (총 수량과 잔여 수량을 함께 늘림)
+     */
+    public void restock(long quantity) {
+        this.totalQuantity += quantity;
+        this.remainingQuantity += quantity;
+    }
+
+    public boolean isStockSharded() {
+        return this.stockSlotCount != null && this.stockSlotCount > 1;
+    }
+
+    public void shardStock(int slotCount) {
+        if (isStockSharded()) {
+            throw new IllegalStateException("이미 재고가 분할된 보상입니다.");
+        }
+        this.stockSlotCount = slotCount;
+    }
+
+    public void assignCampaign(Long campaignId) {
+        this.campaignId = campaignId;
+    }
+
+    public void captureDrawAttributes() {
+        this.loadedDrawAttributes = currentDrawAttributes();
+        this.loadedRemainingQuantity = remainingQuantity;
+    }
+
+    /**
+     * 조회(또는 마지막 감지) 이후 가중치 등 추첨 관련 속성이 바뀌었는지 확인 (잔여 수량만 바뀐 경우 false)
+     */
+    public boolean isDrawAttributesChanged() {
+        return !currentDrawAttributes().equals(loadedDrawAttributes);
+    }
+
+    /**
+     * 조회(또는 마지막 감지) 이후 잔여 수량이 늘었는지 확인 (소진 표시 해제 대상)
+     */
+    public boolean isRestocked() {
+        return loadedRemainingQuantity != null && remainingQuantity > loadedRemainingQuantity;
+    }
+
+    private DrawAttributes currentDrawAttributes() {
+        return new DrawAttributes(name, weight, stockSlotCount, campaignId);
+    }
 }
@@ -0,0 +1,43 @@
+package com.reward.core.reward.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자/보상별 지급 건수 집계 (관리자 통계는 원본 이력 대신 이 테이블을 읽음)
+ * 최근 일자는 집계 잡이 원본 이력에서 다시 계산하고, 아카이브된 파티션의 건수는 삭제 직전에 더해 둡니다. (archived = true)
+ * 스키마 생성/조회용 엔티티이며, 집계 갱신은 RewardDailyStatJdbcRepository로 일괄 처리합니다.
+ */
+@Entity
+@Table(name = "reward_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_daily_stats_date_reward", columnNames = {"stat_date", "reward_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RewardDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // 보상이 삭제되어도 집계는 남도록 FK 없이 ID만 보관
+    @Column(name = "reward_id", nullable = false)
+    private Long rewardId;
+
+    @Column(nullable = false)
+    private Long issuedCount;
+
+    // 원본 이력이 아카이브되어 더 이상 다시 계산하지 않는 집계인지
+    @Column(nullable = false)
+    private boolean archived;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -4,8 +4,22 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
+/**
+ * 보상 지급 이력
+ * 사용자별 이력 조회는 (userId, receivedAt, id) 키셋 페이지네이션으로 읽으며,
+ * 인덱스 끝에 reward_id를 두어 페이지 범위를 인덱스만으로 읽고 보상 정보는 PK로 조인합니다.
+ * MySQL에서는 received_at 기준 월별 RANGE 파티션 테이블이며 (RewardHistoryPartitionManager),
+ * 파티션 키가 모든 유니크 키에 포함되어야 하므로 PK는 (id, received_at)으로 바뀌고, 파티션 테이블은 외래 키를 지원하지 않아 보상 FK를 두지 않습니다.
+ * 일자/보상별 집계는 (received_at, reward_id) 인덱스만으로 계산합니다. (RewardDailyStat)
+ * 보상 FK를 두지 않아 reward_id로 시작하는 인덱스가 자동으로 생기지 않으므로,
+ * 보상별 지급 사용자 스캔(reward_id = ? AND id > ? ORDER BY id)을 위해 (reward_id, id) 인덱스를 직접 둡니다.
+ */
 @Entity
-@Table(name = "reward_histories")
+@Table(name = "reward_histories", indexes = {
+        @Index(name = "idx_reward_histories_user_received", columnList = "userId, receivedAt, id, reward_id"),
+        @Index(name = "idx_reward_histories_received_reward", columnList = "receivedAt, reward_id"),
+        @Index(name = "idx_reward_histories_reward_id", columnList = "reward_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -20,7 +34,7 @@ public class RewardHistory {
     private Long userId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "reward_id", nullable = false)
+    @JoinColumn(name = "reward_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Reward reward;
 
     @Column(nullable = false)
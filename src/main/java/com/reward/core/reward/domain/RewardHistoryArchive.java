@@ -0,0 +1,48 @@
+package com.reward.core.reward.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브된 보상 이력 파티션 목록
+ * 집계 반영과 같은 트랜잭션에서 저장되므로, 파티션 삭제 전에 잡이 중단되어 다시 실행해도 건수를 두 번 더하지 않습니다.
+ */
+@Entity
+@Table(name = "reward_history_archives",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_history_archives_partition_last",
+                columnNames = {"partition_name", "last_history_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RewardHistoryArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partition_name", nullable = false)
+    private String partitionName;
+
+    private LocalDateTime rangeStart; // null이면 첫 파티션 (하한 없음)
+
+    @Column(nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(nullable = false)
+    private Long rowCount;
+
+    @Column(name = "last_history_id", nullable = false)
+    private Long lastHistoryId;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,40 @@
+package com.reward.core.reward.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 당첨 알림 발행 대기열 (Transactional Outbox)
+ * 보상 이력과 같은 트랜잭션에서 저장되고, 릴레이가 claimedUntil까지 선점해 발행한 뒤
+ * 알림 처리가 끝나면(NotificationCompletedEvent) publishedAt을 기록합니다.
+ * 스키마 생성용 엔티티이며, 저장/조회는 RewardOutboxJdbcRepository로 일괄 처리합니다.
+ */
+@Entity
+@Table(name = "reward_outbox", indexes = @Index(name = "idx_reward_outbox_pending", columnList = "publishedAt, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RewardOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long rewardId;
+
+    @Column(nullable = false)
+    private String rewardName;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime claimedUntil; // 릴레이가 선점한 기한 (지나도록 완료되지 않으면 다시 발행)
+
+    private LocalDateTime publishedAt; // null이면 미완료
+}
@@ -0,0 +1,12 @@
+package com.reward.core.reward.domain;
+
+/**
+ * 보상 수량 소진 (비즈니스 예외)
+ * 추첨 엔진이 소진된 보상을 후보에서 제외할 수 있도록 일반 IllegalStateException과 구분합니다.
+ */
+public class RewardSoldOutException extends IllegalStateException {
+
+    public RewardSoldOutException() {
+        super("보상 수량이 소진되었습니다.");
+    }
+}
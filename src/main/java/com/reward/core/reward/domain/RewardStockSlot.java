@@ -0,0 +1,28 @@
+package com.reward.core.reward.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "reward_stock_slots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_stock_slots_reward_slot", columnNames = {"reward_id", "slot_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RewardStockSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reward_id", nullable = false)
+    private Reward reward;
+
+    @Column(nullable = false)
+    private Integer slotNo;
+
+    @Column(nullable = false)
+    private Long remainingQuantity;
+}
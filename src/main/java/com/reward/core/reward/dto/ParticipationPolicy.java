@@ -0,0 +1,14 @@
+package com.reward.core.reward.dto;
+
+/**
+ * 참여 진입 검사 정책 (보상 풀별 일일 참여 한도 + 사용자별 처리율 제한)
+ * @param campaignId 캠페인 ID (null이면 캠페인에 속하지 않은 기본 보상 풀)
+ * @param rateLimit 사용자별 rateWindowSeconds 동안 허용 요청 수
+ */
+public record ParticipationPolicy(
+    Long campaignId,
+    int dailyLimit,
+    int rateLimit,
+    int rateWindowSeconds
+) {
+}
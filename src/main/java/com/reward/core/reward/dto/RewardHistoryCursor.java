@@ -0,0 +1,44 @@
+package com.reward.core.reward.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 보상 이력 키셋 커서 (이전 페이지 마지막 행의 receivedAt, id)
+ * 클라이언트에는 정렬 키를 드러내지 않도록 Base64(URL-safe) 문자열로 전달합니다.
+ */
+public record RewardHistoryCursor(
+    LocalDateTime receivedAt,
+    Long id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static RewardHistoryCursor from(RewardHistoryView last) {
+        return new RewardHistoryCursor(last.receivedAt(), last.historyId());
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     * @throws IllegalStateException 형식이 잘못된 커서
+     */
+    public static RewardHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new RewardHistoryCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((receivedAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
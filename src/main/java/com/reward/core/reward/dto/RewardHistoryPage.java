@@ -0,0 +1,12 @@
+package com.reward.core.reward.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)
+ */
+public record RewardHistoryPage(
+    List<RewardHistoryView> items,
+    String nextCursor
+) {
+}
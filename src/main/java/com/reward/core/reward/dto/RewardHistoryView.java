@@ -0,0 +1,17 @@
+package com.reward.core.reward.dto;
+
+import com.reward.core.reward.domain.RewardType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보상 이력 조회용 프로젝션 (엔티티와 LAZY 연관을 거치지 않음)
+ */
+public record RewardHistoryView(
+    Long historyId,
+    Long rewardId,
+    String rewardName,
+    RewardType rewardType,
+    LocalDateTime receivedAt
+) {
+}
@@ -0,0 +1,38 @@
+package com.reward.core.reward.dto;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+
+import java.io.Serializable;
+
+/**
+ * 보상 카탈로그용 불변 스냅샷 (JPA 엔티티 대신 캐시/추첨 테이블에 보관)
+ * @param remainingQuantity 적재 시점의 잔여 수량 (추첨 후보 초기 제외 판단용)
+ */
+public record RewardSnapshot(
+    Long id,
+    String name,
+    RewardType type,
+    int weight,
+    Long remainingQuantity,
+    int stockSlotCount
+) implements Serializable {
+
+    public static RewardSnapshot from(Reward reward) {
+        return new RewardSnapshot(
+                reward.getId(),
+                reward.getName(),
+                reward.getType(),
+                reward.getWeight(),
+                reward.getRemainingQuantity(),
+                reward.getStockSlotCount() == null ? 1 : reward.getStockSlotCount());
+    }
+
+    public boolean isStockSharded() {
+        return stockSlotCount > 1;
+    }
+
+    public boolean isSoldOut() {
+        return !isStockSharded() && remainingQuantity != null && remainingQuantity <= 0;
+    }
+}
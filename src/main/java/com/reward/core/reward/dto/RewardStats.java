@@ -0,0 +1,21 @@
+package com.reward.core.reward.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 보상 지급 통계 (일자/보상별 집계 기준, 최근 일자는 집계 주기만큼 늦게 반영)
+ * @param rewards 보상별 합계 (지급 건수 내림차순)
+ * @param days 일자별 합계 (일자 오름차순, 지급이 없는 일자는 생략)
+ */
+public record RewardStats(LocalDate from, LocalDate to, long totalIssued, List<RewardTotal> rewards, List<DailyTotal> days) {
+
+    /**
+     * @param rewardName 삭제된 보상이면 null
+     */
+    public record RewardTotal(Long rewardId, String rewardName, long issuedCount) {
+    }
+
+    public record DailyTotal(LocalDate date, long issuedCount) {
+    }
+}
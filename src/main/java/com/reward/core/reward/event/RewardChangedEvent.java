@@ -0,0 +1,10 @@
+package com.reward.core.reward.event;
+
+/**
+ * 보상 구성(추가/삭제/가중치/재고 방식) 변경 및 재고 보충 이벤트
+ * 보상 목록을 스냅샷으로 들고 있는 컴포넌트가 이를 받아 갱신합니다.
+ */
+public record RewardChangedEvent(
+    Long rewardId
+) {
+}
@@ -0,0 +1,39 @@
+package com.reward.core.reward.event;
+
+import com.reward.core.reward.domain.Reward;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 보상 행의 추가/삭제, 추첨 관련 속성(가중치 등) 수정과 재고 보충을 감지하여 RewardChangedEvent를 발행
+ * (수량 차감은 매 지급마다 발생하므로 잔여 수량이 줄기만 한 수정은 무시)
+ * 벌크 UPDATE는 엔티티 콜백을 거치지 않으므로 재고를 늘리는 경로는 엔티티 수정(Reward.restock)으로 처리해야 합니다.
+ */
+@RequiredArgsConstructor
+public class RewardEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostRemove
+    public void onRewardChanged(Reward reward) {
+        reward.captureDrawAttributes();
+        eventPublisher.publishEvent(new RewardChangedEvent(reward.getId()));
+    }
+
+    @PostLoad
+    public void onRewardLoaded(Reward reward) {
+        reward.captureDrawAttributes();
+    }
+
+    @PostUpdate
+    public void onRewardUpdated(Reward reward) {
+        if (reward.isDrawAttributesChanged() || reward.isRestocked()) {
+            onRewardChanged(reward);
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.reward.core.reward.event;
 
-import com.reward.core.notification.service.NotificationService;
+import com.reward.core.notification.service.NotificationDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -12,12 +11,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RewardEventListener {
 
-    private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
 
-    @Async // 가상 스레드에서 비동기 처리
+    /**
+     * 발송 큐에 넣기만 하므로 비동기로 넘기지 않고 발행 스레드에서 바로 처리
+     * Outbox 행은 알림 처리가 끝난 뒤 RewardOutboxRelay가 완료 처리합니다.
+     */
     @EventListener
     public void handleRewardIssued(RewardIssuedEvent event) {
-        log.info("보상 지급 이벤트 감지: 사용자 {}", event.userId());
-        notificationService.sendNotification(event.userId(), event.rewardName() + " 당첨을 축하드립니다!");
+        log.debug("보상 지급 이벤트 감지: 사용자 {}", event.userId());
+        notificationDispatcher.enqueue(event.userId(), event.rewardName() + " 당첨을 축하드립니다!", event.outboxId());
     }
 }
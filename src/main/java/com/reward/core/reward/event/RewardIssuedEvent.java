@@ -1,6 +1,10 @@
 package com.reward.core.reward.event;
 
+/**
+ * @param outboxId 알림 처리가 끝나면 완료 처리할 Outbox 행 ID
+ */
 public record RewardIssuedEvent(
+    Long outboxId,
     Long userId,
     String rewardName
 ) {
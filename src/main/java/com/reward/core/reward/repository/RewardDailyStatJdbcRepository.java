@@ -0,0 +1,102 @@
+package com.reward.core.reward.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일자/보상별 지급 건수 집계 저장소 (호출한 트랜잭션에 참여)
+ * 최근 일자는 원본 이력을 (received_at, reward_id) 인덱스로 다시 세어 교체하고,
+ * 아카이브되는 이력의 건수는 기존 집계에 더해 archived로 표시합니다. (이후 다시 계산하지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardDailyStatJdbcRepository {
+
+    private static final String DELETE_RECOMPUTABLE =
+            "DELETE FROM reward_daily_stats WHERE stat_date >= ? AND stat_date < ? AND archived = FALSE";
+    private static final String INSERT_FROM_HISTORIES =
+            "INSERT INTO reward_daily_stats (stat_date, reward_id, issued_count, archived, updated_at) " +
+            "SELECT CAST(received_at AS DATE), reward_id, COUNT(*), FALSE, ? FROM reward_histories " +
+            "WHERE received_at >= ? AND received_at < ? GROUP BY CAST(received_at AS DATE), reward_id";
+    private static final String ADD_ARCHIVED =
+            "UPDATE reward_daily_stats SET issued_count = CASE WHEN archived THEN issued_count + ? ELSE ? END, " +
+            "archived = TRUE, updated_at = ? WHERE stat_date = ? AND reward_id = ?";
+    private static final String INSERT_ARCHIVED =
+            "INSERT INTO reward_daily_stats (stat_date, reward_id, issued_count, archived, updated_at) VALUES (?, ?, ?, TRUE, ?)";
+    private static final String SELECT_STAT_DATES =
+            "SELECT DISTINCT stat_date FROM reward_daily_stats WHERE stat_date >= ? AND stat_date < ?";
+    private static final String EXISTS_HISTORIES =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM reward_histories WHERE received_at >= ? AND received_at < ? LIMIT 1) t";
+
+    public record DailyCount(LocalDate statDate, long rewardId, long count) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [from, to) 일자의 집계를 원본 이력으로 다시 계산
+     * @return 집계 행 수
+     */
+    public int recompute(LocalDate from, LocalDate to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(DELETE_RECOMPUTABLE, Date.valueOf(from), Date.valueOf(to));
+        return jdbcTemplate.update(INSERT_FROM_HISTORIES, now,
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+    }
+
+    /**
+     * @return 가장 오래된 원본 이력의 일자, 이력이 없으면 null
+     */
+    public LocalDate findOldestHistoryDate() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(received_at) FROM reward_histories", Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime().toLocalDate();
+    }
+
+    /**
+     * [from, to) 일자 중 원본 이력은 있는데 집계 행이 하나도 없는 일자
+     * 집계가 있는 일자는 집계 테이블에서 한 번에 읽고, 나머지 일자만 (received_at, reward_id) 인덱스로 이력 존재 여부를 확인합니다.
+     */
+    public List<LocalDate> findUncomputedDates(LocalDate from, LocalDate to) {
+        Set<LocalDate> computed = jdbcTemplate.queryForList(SELECT_STAT_DATES, Date.class, Date.valueOf(from), Date.valueOf(to))
+                .stream()
+                .map(Date::toLocalDate)
+                .collect(Collectors.toSet());
+        List<LocalDate> uncomputed = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            if (computed.contains(date)) {
+                continue;
+            }
+            Long exists = jdbcTemplate.queryForObject(EXISTS_HISTORIES, Long.class,
+                    Timestamp.valueOf(date.atStartOfDay()), Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+            if (exists != null && exists > 0) {
+                uncomputed.add(date);
+            }
+        }
+        return uncomputed;
+    }
+
+    /**
+     * 아카이브되는 이력의 건수를 반영 (이미 아카이브된 일자는 더하고, 원본으로 계산한 일자는 교체)
+     */
+    public void addArchived(Collection<DailyCount> counts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (DailyCount count : counts) {
+            int updated = jdbcTemplate.update(ADD_ARCHIVED, count.count(), count.count(), now,
+                    Date.valueOf(count.statDate()), count.rewardId());
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_ARCHIVED, Date.valueOf(count.statDate()), count.rewardId(), count.count(), now);
+            }
+        }
+    }
+}
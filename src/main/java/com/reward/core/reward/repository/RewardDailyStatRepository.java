@@ -0,0 +1,15 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.reward.domain.RewardDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RewardDailyStatRepository extends JpaRepository<RewardDailyStat, Long> {
+
+    List<RewardDailyStat> findByStatDateBetweenOrderByStatDate(LocalDate from, LocalDate to);
+
+    List<RewardDailyStat> findByStatDateBetweenAndRewardIdInOrderByStatDate(LocalDate from, LocalDate to, Collection<Long> rewardIds);
+}
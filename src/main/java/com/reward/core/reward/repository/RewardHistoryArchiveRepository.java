@@ -0,0 +1,9 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.reward.domain.RewardHistoryArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RewardHistoryArchiveRepository extends JpaRepository<RewardHistoryArchive, Long> {
+
+    boolean existsByPartitionNameAndLastHistoryId(String partitionName, Long lastHistoryId);
+}
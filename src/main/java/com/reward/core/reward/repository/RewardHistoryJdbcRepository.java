@@ -0,0 +1,105 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.reward.domain.RewardHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 보상 이력 대량 저장 전용 JDBC 저장소
+ * IDENTITY 전략에서는 Hibernate JDBC 배치가 꺼지므로, 엔티티/영속성 컨텍스트를 거치지 않고
+ * 다중 행 INSERT (INSERT ... VALUES (...), (...)) 한 문장에 여러 건을 담아 저장합니다.
+ */
+@Slf4j
+@Repository
+public class RewardHistoryJdbcRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO reward_histories (user_id, reward_id, received_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?)";
+    private static final String SELECT_USER_IDS =
+            "SELECT id, user_id FROM %s WHERE reward_id = ? AND id > ? ORDER BY id LIMIT ?";
+    private static final int SCAN_PAGE_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rowsPerStatement;
+    private final String fullStatement;
+
+    public RewardHistoryJdbcRepository(JdbcTemplate jdbcTemplate,
+                                       @Value("${reward.batch.insert-rows-per-statement:500}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowsPerStatement = rowsPerStatement;
+        this.fullStatement = insertStatement(rowsPerStatement);
+    }
+
+    /**
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<? extends RewardHistory> histories) {
+        int inserted = 0;
+        for (int from = 0; from < histories.size(); from += rowsPerStatement) {
+            List<? extends RewardHistory> rows = histories.subList(from, Math.min(from + rowsPerStatement, histories.size()));
+            String sql = rows.size() == rowsPerStatement ? fullStatement : insertStatement(rows.size());
+            inserted += jdbcTemplate.update(sql, ps -> bind(ps, rows));
+        }
+        return inserted;
+    }
+
+    /**
+     * 보상을 이미 받은 사용자 ID를 (reward_id, id) 인덱스로 키셋 페이지 단위 순회 (결과 전체를 메모리에 올리지 않음)
+     */
+    public void forEachUserId(Long rewardId, LongConsumer consumer) {
+        forEachUserId("reward_histories", rewardId, consumer);
+    }
+
+    /**
+     * @param table reward_histories 또는 같은 구조의 테이블 (아카이브 중 떼어 낸 작업 테이블)
+     */
+    public void forEachUserId(String table, Long rewardId, LongConsumer consumer) {
+        String sql = SELECT_USER_IDS.formatted(table);
+        long lastId = 0;
+        while (true) {
+            long[] last = {lastId};
+            int rows = jdbcTemplate.query(sql, rs -> {
+                int count = 0;
+                while (rs.next()) {
+                    last[0] = rs.getLong(1);
+                    consumer.accept(rs.getLong(2));
+                    count++;
+                }
+                return count;
+            }, rewardId, lastId, SCAN_PAGE_SIZE);
+            if (rows < SCAN_PAGE_SIZE) {
+                return;
+            }
+            lastId = last[0];
+        }
+    }
+
+    private void bind(PreparedStatement ps, List<? extends RewardHistory> rows) throws SQLException {
+        int index = 1;
+        for (RewardHistory history : rows) {
+            ps.setLong(index++, history.getUserId());
+            ps.setLong(index++, history.getReward().getId());
+            ps.setTimestamp(index++, Timestamp.valueOf(history.getReceivedAt()));
+        }
+    }
+
+    private static String insertStatement(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+}
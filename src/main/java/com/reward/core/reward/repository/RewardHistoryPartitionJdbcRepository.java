@@ -0,0 +1,305 @@
+package com.reward.core.reward.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * 보상 이력 파티션 저장소
+ * MySQL에서는 received_at 기준 RANGE COLUMNS 파티션을 pold(아카이브된 기간, 늦게 들어온 과거 이력만 쌓임) / 월별 pYYYYMM / pmax로 관리하고,
+ * 아카이브할 파티션은 먼저 빈 작업 테이블(reward_histories_archiving_*)과 맞바꾸어(EXCHANGE PARTITION) 떼어 낸 뒤 작업 테이블에서 읽고,
+ * 월 파티션은 pold에 합쳐 과거 일자 이력이 보관 중인 파티션으로 들어가지 않게 합니다.
+ * 파티션을 쓰지 않는 DB(H2)에서는 가장 오래된 이력의 달부터 월 단위로 나눈 논리 파티션을 기간 조건으로 읽고 지웁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardHistoryPartitionJdbcRepository {
+
+    public static final String OLD_PARTITION = "pold";
+    static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final int SCAN_PAGE_SIZE = 10_000;
+
+    private static final String SELECT_PARTITIONS =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'reward_histories' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+    private static final String SELECT_FOREIGN_KEYS =
+            "SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+            "WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'reward_histories'";
+    private static final String SELECT_DETACHED =
+            "SELECT TABLE_NAME FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE 'reward\\_histories\\_archiving\\_%' ORDER BY TABLE_NAME";
+    private static final String SELECT_COLUMNS = "SELECT id, user_id, reward_id, received_at FROM ";
+    private static final String DETACHED_PREFIX = "reward_histories_archiving_";
+
+    /**
+     * @param from 하한 (포함, null이면 하한 없음 - 첫 파티션은 그 이전 이력도 모두 담음)
+     * @param to 상한 (제외, null이면 상한 없음)
+     * @param physical MySQL 파티션이면 true, 기간 조건으로 나눈 논리 파티션이면 false
+     */
+    public record Partition(String name, LocalDateTime from, LocalDateTime to, boolean physical) {
+    }
+
+    public record HistoryRow(long id, long userId, long rewardId, LocalDateTime receivedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mysql;
+
+    public boolean supportsPartitioning() {
+        if (mysql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            mysql = "MySQL".equalsIgnoreCase(product);
+        }
+        return mysql;
+    }
+
+    public boolean isPartitioned() {
+        return supportsPartitioning() && !findPartitions().isEmpty();
+    }
+
+    /**
+     * MySQL 파티션 (정의 순서, 하한은 직전 파티션의 상한)
+     */
+    public List<Partition> findPartitions() {
+        List<Partition> partitions = new ArrayList<>();
+        LocalDateTime[] previous = {null};
+        jdbcTemplate.query(SELECT_PARTITIONS, (RowCallbackHandler) rs -> {
+            LocalDateTime to = parseBound(rs.getString(2));
+            partitions.add(new Partition(rs.getString(1), previous[0], to, true));
+            previous[0] = to;
+        });
+        return partitions;
+    }
+
+    /**
+     * 가장 오래된 이력의 달부터 이번 달까지 월 단위 논리 파티션 (이력이 없으면 빈 목록)
+     */
+    public List<Partition> findMonthlyRanges(LocalDate currentMonth) {
+        LocalDate month = findOldestMonth();
+        if (month == null) {
+            return List.of();
+        }
+        List<Partition> partitions = new ArrayList<>();
+        LocalDateTime from = null;
+        for (; !month.isAfter(currentMonth); month = month.plusMonths(1)) {
+            LocalDateTime to = month.plusMonths(1).atStartOfDay();
+            partitions.add(new Partition(partitionName(month), from, to, false));
+            from = to;
+        }
+        partitions.add(new Partition(MAX_PARTITION, from, null, false));
+        return partitions;
+    }
+
+    /**
+     * @return 가장 오래된 이력의 달 (1일), 이력이 없으면 null
+     */
+    public LocalDate findOldestMonth() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(received_at) FROM reward_histories", Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime().toLocalDate().withDayOfMonth(1);
+    }
+
+    /**
+     * @return 행 수 (limit을 넘으면 limit까지만 셈)
+     */
+    public long countRows(long limit) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM reward_histories LIMIT ?) t", Long.class, limit);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 파티션 키(received_at)를 PK에 넣고 외래 키를 제거한 뒤 월별 파티션 테이블로 전환합니다. (테이블 복사)
+     * @param months 파티션을 만들 달 (오름차순, 앞에 그 이전 이력을 담는 pold, 마지막에 pmax를 둠)
+     */
+    public void partitionByMonth(List<LocalDate> months) {
+        for (String foreignKey : jdbcTemplate.queryForList(SELECT_FOREIGN_KEYS, String.class)) {
+            jdbcTemplate.execute("ALTER TABLE reward_histories DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+        jdbcTemplate.execute("ALTER TABLE reward_histories DROP PRIMARY KEY, ADD PRIMARY KEY (id, received_at) " +
+                "PARTITION BY RANGE COLUMNS(received_at) (PARTITION " + OLD_PARTITION +
+                " VALUES LESS THAN ('" + months.get(0).atStartOfDay().format(BOUND_FORMAT) + "'), " + definitions(months) + ")");
+    }
+
+    /**
+     * pmax를 나누어 다음 달 파티션을 추가합니다. (pmax가 비어 있으면 메타데이터 변경만 일어남)
+     */
+    public void addMonths(List<LocalDate> months) {
+        jdbcTemplate.execute("ALTER TABLE reward_histories REORGANIZE PARTITION " + MAX_PARTITION +
+                " INTO (" + definitions(months) + ")");
+    }
+
+    /**
+     * MySQL 파티션의 이력을 같은 구조의 빈 작업 테이블과 맞바꾸어 떼어 냅니다. (DDL, 메타데이터 변경만 일어남)
+     * 이후 같은 기간에 늦게 들어온 이력은 비워진 파티션에 쌓이므로 아카이브 대상과 섞이지 않습니다.
+     * 이전 실행이 떼어 낸 뒤 중단되어 작업 테이블에 이력이 남아 있으면 맞바꾸지 않고 그대로 씁니다.
+     * @return 작업 테이블 이름
+     */
+    public String detach(Partition partition) {
+        String table = DETACHED_PREFIX + partition.name();
+        if (findDetachedTables().contains(table)) {
+            if (countTable(table) > 0) {
+                return table;
+            }
+            jdbcTemplate.execute("DROP TABLE " + table);
+        }
+        jdbcTemplate.execute("CREATE TABLE " + table + " LIKE reward_histories");
+        jdbcTemplate.execute("ALTER TABLE " + table + " REMOVE PARTITIONING");
+        jdbcTemplate.execute("ALTER TABLE reward_histories EXCHANGE PARTITION " + partition.name() + " WITH TABLE " + table);
+        return table;
+    }
+
+    /**
+     * 떼어 낸 뒤 아직 지우지 않은 작업 테이블 (파티션을 쓰지 않는 DB는 빈 목록)
+     */
+    public List<String> findDetachedTables() {
+        if (!supportsPartitioning()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(SELECT_DETACHED, String.class);
+    }
+
+    /**
+     * 떼어 낸 뒤 아카이브를 마치지 못한 작업 테이블이 남아 있는지
+     */
+    public boolean hasDetached(Partition partition) {
+        return partition.physical() && findDetachedTables().contains(DETACHED_PREFIX + partition.name());
+    }
+
+    public void dropDetached(String table) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+    }
+
+    /**
+     * 논리 파티션의 이력을 ID 오름차순으로 키셋 페이지 단위 순회 (결과 전체를 메모리에 올리지 않음)
+     */
+    public void forEach(Partition partition, Consumer<HistoryRow> consumer) {
+        scan(SELECT_COLUMNS + "reward_histories WHERE " + rangeCondition(partition) + " AND id > ? ORDER BY id LIMIT ?",
+                args(partition), consumer);
+    }
+
+    /**
+     * 떼어 낸 작업 테이블의 이력을 ID 오름차순으로 순회
+     */
+    public void forEachDetached(String table, Consumer<HistoryRow> consumer) {
+        scan(SELECT_COLUMNS + table + " WHERE id > ? ORDER BY id LIMIT ?", new Object[0], consumer);
+    }
+
+    private void scan(String sql, Object[] rangeArgs, Consumer<HistoryRow> consumer) {
+        long lastId = 0;
+        while (true) {
+            long[] last = {lastId};
+            int rows = jdbcTemplate.query(sql, rs -> {
+                int count = 0;
+                while (rs.next()) {
+                    last[0] = rs.getLong(1);
+                    consumer.accept(new HistoryRow(last[0], rs.getLong(2), rs.getLong(3),
+                            rs.getTimestamp(4).toLocalDateTime()));
+                    count++;
+                }
+                return count;
+            }, concat(rangeArgs, lastId, SCAN_PAGE_SIZE));
+            if (rows < SCAN_PAGE_SIZE) {
+                return;
+            }
+            lastId = last[0];
+        }
+    }
+
+    public long count(Partition partition) {
+        Long count = partition.physical()
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reward_histories PARTITION (" + partition.name() + ")", Long.class)
+                : jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reward_histories WHERE " + rangeCondition(partition),
+                        Long.class, args(partition));
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * MySQL 파티션은 이미 떼어 냈으므로 월 파티션이면 바로 앞의 pold에 합침 (DDL, 암묵적 커밋 / 떼어 낸 뒤 늦게 들어온 이력만 복사)
+     * 논리 파티션은 lastId 이하 행만 삭제 (호출한 트랜잭션에 참여)
+     * @param lastId 아카이브한 마지막 이력 ID
+     */
+    public int drop(Partition partition, long lastId) {
+        if (partition.physical()) {
+            if (!OLD_PARTITION.equals(partition.name())) {
+                jdbcTemplate.execute("ALTER TABLE reward_histories REORGANIZE PARTITION " + OLD_PARTITION + ", " + partition.name() +
+                        " INTO (PARTITION " + OLD_PARTITION + " VALUES LESS THAN ('" + partition.to().format(BOUND_FORMAT) + "'))");
+            }
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM reward_histories WHERE " + rangeCondition(partition) + " AND id <= ?",
+                args(partition, lastId));
+    }
+
+    private long countTable(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    private static String rangeCondition(Partition partition) {
+        if (partition.from() == null) {
+            return partition.to() == null ? "1 = 1" : "received_at < ?";
+        }
+        return partition.to() == null ? "received_at >= ?" : "received_at >= ? AND received_at < ?";
+    }
+
+    private static Object[] args(Partition partition, Object... extra) {
+        List<Object> args = new ArrayList<>();
+        if (!partition.physical()) {
+            if (partition.from() != null) {
+                args.add(Timestamp.valueOf(partition.from()));
+            }
+            if (partition.to() != null) {
+                args.add(Timestamp.valueOf(partition.to()));
+            }
+        }
+        args.addAll(List.of(extra));
+        return args.toArray();
+    }
+
+    private static Object[] concat(Object[] args, Object... extra) {
+        List<Object> all = new ArrayList<>(List.of(args));
+        all.addAll(List.of(extra));
+        return all.toArray();
+    }
+
+    private static String definitions(List<LocalDate> months) {
+        StringJoiner definitions = new StringJoiner(", ");
+        for (LocalDate month : months) {
+            definitions.add("PARTITION " + partitionName(month) +
+                    " VALUES LESS THAN ('" + month.plusMonths(1).atStartOfDay().format(BOUND_FORMAT) + "')");
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return definitions.toString();
+    }
+
+    private static String partitionName(LocalDate month) {
+        return month.format(NAME_FORMAT);
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 설명은 '2025-02-01 00:00:00' 형식 (pmax는 MAXVALUE)
+     */
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        return LocalDateTime.parse(description.replace("'", ""), BOUND_FORMAT);
+    }
+}
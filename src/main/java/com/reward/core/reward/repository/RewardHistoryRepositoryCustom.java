@@ -0,0 +1,15 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.reward.dto.RewardHistoryCursor;
+import com.reward.core.reward.dto.RewardHistoryView;
+
+import java.util.List;
+
+public interface RewardHistoryRepositoryCustom {
+
+    /**
+     * 사용자의 보상 이력을 최신순으로 키셋(seek) 조회 (OFFSET 없이 커서 다음 행부터 인덱스 범위 스캔)
+     * @param cursor 이전 페이지 마지막 행 (null이면 첫 페이지)
+     */
+    List<RewardHistoryView> findPageByUserId(Long userId, RewardHistoryCursor cursor, int limit);
+}
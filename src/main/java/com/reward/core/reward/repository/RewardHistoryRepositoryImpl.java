@@ -0,0 +1,48 @@
+package com.reward.core.reward.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.reward.core.reward.dto.RewardHistoryCursor;
+import com.reward.core.reward.dto.RewardHistoryView;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.reward.core.reward.domain.QReward.reward;
+import static com.reward.core.reward.domain.QRewardHistory.rewardHistory;
+
+@RequiredArgsConstructor
+public class RewardHistoryRepositoryImpl implements RewardHistoryRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<RewardHistoryView> findPageByUserId(Long userId, RewardHistoryCursor cursor, int limit) {
+        // 엔티티(LAZY Reward 프록시) 대신 필요한 컬럼만 DTO로 조회
+        return queryFactory
+                .select(Projections.constructor(RewardHistoryView.class,
+                        rewardHistory.id,
+                        reward.id,
+                        reward.name,
+                        reward.type,
+                        rewardHistory.receivedAt))
+                .from(rewardHistory)
+                .join(rewardHistory.reward, reward)
+                .where(rewardHistory.userId.eq(userId), after(cursor))
+                .orderBy(rewardHistory.receivedAt.desc(), rewardHistory.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * (receivedAt, id) < (cursor.receivedAt, cursor.id)
+     */
+    private BooleanExpression after(RewardHistoryCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return rewardHistory.receivedAt.lt(cursor.receivedAt())
+                .or(rewardHistory.receivedAt.eq(cursor.receivedAt()).and(rewardHistory.id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,110 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.reward.domain.RewardOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 당첨 알림 Outbox 저장소
+ * 지급 경로에서는 보상 이력과 같은 트랜잭션에서 다중 행 INSERT로 적재하고,
+ * 릴레이는 FOR UPDATE SKIP LOCKED로 미완료 행을 나누어 잠그고 선점 기한(claimed_until)을 기록한 뒤 바로 커밋하므로,
+ * 여러 노드가 동시에 실행해도 선점 기한 안에는 같은 행을 중복 발행하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardOutboxJdbcRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO reward_outbox (user_id, reward_id, reward_name, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String SELECT_CLAIMABLE =
+            "SELECT id, user_id, reward_id, reward_name, created_at FROM reward_outbox " +
+            "WHERE published_at IS NULL AND (claimed_until IS NULL OR claimed_until < ?) " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_PUBLISHED = "DELETE FROM reward_outbox WHERE published_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(Long userId, Long rewardId, String rewardName) {
+        insertAll(rewardId, rewardName, Collections.singletonList(userId));
+    }
+
+    /**
+     * 같은 보상의 당첨자들을 한 번에 적재
+     */
+    public void insertAll(Long rewardId, String rewardName, List<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < userIds.size(); from += ROWS_PER_STATEMENT) {
+            List<Long> rows = userIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, userIds.size()));
+            jdbcTemplate.update(INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER)), ps -> {
+                int index = 1;
+                for (Long userId : rows) {
+                    ps.setLong(index++, userId);
+                    ps.setLong(index++, rewardId);
+                    ps.setString(index++, rewardName);
+                    ps.setTimestamp(index++, now);
+                }
+            });
+        }
+    }
+
+    /**
+     * 미완료이면서 선점되지 않은(또는 선점 기한이 지난) 행을 잠그고 claimedUntil까지 선점합니다.
+     * 호출한 트랜잭션이 커밋되면 잠금은 풀리지만, 선점 기한 안에는 다른 릴레이가 가져가지 않습니다.
+     */
+    public List<RewardOutbox> claimPending(int limit, LocalDateTime claimedUntil) {
+        List<RewardOutbox> claimed = jdbcTemplate.query(SELECT_CLAIMABLE, (rs, rowNum) -> RewardOutbox.builder()
+                .id(rs.getLong("id"))
+                .userId(rs.getLong("user_id"))
+                .rewardId(rs.getLong("reward_id"))
+                .rewardName(rs.getString("reward_name"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .claimedUntil(claimedUntil)
+                .build(), Timestamp.valueOf(LocalDateTime.now()), limit);
+        updateByIds("UPDATE reward_outbox SET claimed_until = ? WHERE id IN ",
+                Timestamp.valueOf(claimedUntil), claimed.stream().map(RewardOutbox::getId).toList());
+        return claimed;
+    }
+
+    /**
+     * 알림 처리가 끝난 행을 완료 처리 (이미 완료된 행을 다시 처리해도 무방)
+     */
+    public int markPublished(List<Long> ids) {
+        return updateByIds("UPDATE reward_outbox SET published_at = ? WHERE id IN ",
+                Timestamp.valueOf(LocalDateTime.now()), ids);
+    }
+
+    /**
+     * 완료된 지 오래된 행을 limit건 삭제
+     * @return 삭제한 건수
+     */
+    public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_PUBLISHED, Timestamp.valueOf(cutoff), limit);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reward_outbox WHERE published_at IS NULL", Long.class);
+        return count == null ? 0L : count;
+    }
+
+    private int updateByIds(String sqlPrefix, Timestamp value, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String sql = sqlPrefix + "(" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = value;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        return jdbcTemplate.update(sql, args);
+    }
+}
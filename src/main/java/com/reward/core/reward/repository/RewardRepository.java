@@ -3,5 +3,14 @@ package com.reward.core.reward.repository;
 import com.reward.core.reward.domain.Reward;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface RewardRepository extends JpaRepository<Reward, Long>, RewardRepositoryCustom {
+
+    /**
+     * 캠페인에 속하지 않은 기본 보상 풀
+     */
+    List<Reward> findByCampaignIdIsNull();
+
+    List<Reward> findByCampaignId(Long campaignId);
 }
@@ -5,4 +5,42 @@ import java.util.Optional;
 
 public interface RewardRepositoryCustom {
     Optional<Reward> findByIdWithLock(Long id);
+
+    /**
+     * 잔여 수량이 충분할 때만 차감하는 조건부 UPDATE (행 락을 미리 잡지 않음)
+     * @return 갱신된 행 수 (0이면 수량 부족)
+     */
+    long decreaseQuantity(Long id, long quantity);
+
+    /**
+     * 분할 재고 슬롯 한 행만 조건부 차감 (보상 행 전체를 잠그지 않음)
+     * @return 갱신된 행 수 (0이면 해당 슬롯 소진)
+     */
+    long decreaseSlotQuantity(Long rewardId, int slotNo, long quantity);
+
+    /**
+     * 분할 재고 슬롯 한 행에 보충 수량을 더함
+     * @return 갱신된 행 수
+     */
+    long increaseSlotQuantity(Long rewardId, int slotNo, long quantity);
+
+    long sumSlotRemainingQuantity(Long rewardId);
+
+    /**
+     * 분할 보상 행의 잔여 수량을 슬롯 합계로 맞춤 (값이 달라진 보상만 갱신)
+     * @return 갱신된 보상 수
+     */
+    long rollUpSlotRemainingQuantity();
+
+    /**
+     * 조건부 UPDATE로 요청 수량을 예약하고, 부족하면 남은 수량 전부를 예약
+     * @return 실제 예약된 수량
+     */
+    long reserveQuantity(Long id, long requested);
+
+    /**
+     * 분할 재고 슬롯 한 행에서 요청 수량 중 남은 만큼만 예약
+     * @return 실제 예약된 수량
+     */
+    long reserveSlotQuantity(Long rewardId, int slotNo, long requested);
 }
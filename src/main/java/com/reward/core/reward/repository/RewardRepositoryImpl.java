@@ -1,5 +1,7 @@
 package com.reward.core.reward.repository;
 
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLSubQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.reward.core.reward.domain.Reward;
 import jakarta.persistence.LockModeType;
@@ -8,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Optional;
 
 import static com.reward.core.reward.domain.QReward.reward;
+import static com.reward.core.reward.domain.QRewardStockSlot.rewardStockSlot;
 
 @RequiredArgsConstructor
 public class RewardRepositoryImpl implements RewardRepositoryCustom {
@@ -23,4 +26,96 @@ public class RewardRepositoryImpl implements RewardRepositoryCustom {
                 .setHint("jakarta.persistence.lock.timeout", 3000)
                 .fetchOne());
     }
+
+    @Override
+    public long decreaseQuantity(Long id, long quantity) {
+        // 벌크 UPDATE는 @Version을 우회하므로 버전을 직접 증가시켜 낙관적 락과의 정합성을 유지
+        return queryFactory
+                .update(reward)
+                .set(reward.remainingQuantity, reward.remainingQuantity.subtract(quantity))
+                .set(reward.version, reward.version.add(1L))
+                .where(reward.id.eq(id),
+                        reward.remainingQuantity.goe(quantity))
+                .execute();
+    }
+
+    @Override
+    public long decreaseSlotQuantity(Long rewardId, int slotNo, long quantity) {
+        return queryFactory
+                .update(rewardStockSlot)
+                .set(rewardStockSlot.remainingQuantity, rewardStockSlot.remainingQuantity.subtract(quantity))
+                .where(rewardStockSlot.reward.id.eq(rewardId),
+                        rewardStockSlot.slotNo.eq(slotNo),
+                        rewardStockSlot.remainingQuantity.goe(quantity))
+                .execute();
+    }
+
+    @Override
+    public long increaseSlotQuantity(Long rewardId, int slotNo, long quantity) {
+        return queryFactory
+                .update(rewardStockSlot)
+                .set(rewardStockSlot.remainingQuantity, rewardStockSlot.remainingQuantity.add(quantity))
+                .where(rewardStockSlot.reward.id.eq(rewardId),
+                        rewardStockSlot.slotNo.eq(slotNo))
+                .execute();
+    }
+
+    @Override
+    public long sumSlotRemainingQuantity(Long rewardId) {
+        Long sum = queryFactory
+                .select(rewardStockSlot.remainingQuantity.sum())
+                .from(rewardStockSlot)
+                .where(rewardStockSlot.reward.id.eq(rewardId))
+                .fetchOne();
+        return sum == null ? 0L : sum;
+    }
+
+    @Override
+    public long rollUpSlotRemainingQuantity() {
+        JPQLSubQuery<Long> slotSum = JPAExpressions
+                .select(rewardStockSlot.remainingQuantity.sum())
+                .from(rewardStockSlot)
+                .where(rewardStockSlot.reward.id.eq(reward.id));
+        return queryFactory
+                .update(reward)
+                .set(reward.remainingQuantity, slotSum)
+                .set(reward.version, reward.version.add(1L))
+                .where(reward.stockSlotCount.gt(1),
+                        reward.remainingQuantity.ne(slotSum))
+                .execute();
+    }
+
+    @Override
+    public long reserveQuantity(Long id, long requested) {
+        if (decreaseQuantity(id, requested) > 0) {
+            return requested;
+        }
+        // 부족한 경우 잠금 읽기로 최신 잔여 수량을 확인 (일반 SELECT는 REPEATABLE READ 스냅샷을 읽을 수 있음)
+        Long remaining = queryFactory
+                .select(reward.remainingQuantity)
+                .from(reward)
+                .where(reward.id.eq(id))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", 3000)
+                .fetchOne();
+        long quantity = remaining == null ? 0 : Math.min(requested, remaining);
+        return quantity > 0 && decreaseQuantity(id, quantity) > 0 ? quantity : 0;
+    }
+
+    @Override
+    public long reserveSlotQuantity(Long rewardId, int slotNo, long requested) {
+        if (decreaseSlotQuantity(rewardId, slotNo, requested) > 0) {
+            return requested;
+        }
+        Long remaining = queryFactory
+                .select(rewardStockSlot.remainingQuantity)
+                .from(rewardStockSlot)
+                .where(rewardStockSlot.reward.id.eq(rewardId),
+                        rewardStockSlot.slotNo.eq(slotNo))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", 3000)
+                .fetchOne();
+        long quantity = remaining == null ? 0 : Math.min(requested, remaining);
+        return quantity > 0 && decreaseSlotQuantity(rewardId, slotNo, quantity) > 0 ? quantity : 0;
+    }
 }
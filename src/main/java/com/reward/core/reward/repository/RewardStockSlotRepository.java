@@ -0,0 +1,11 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.reward.domain.RewardStockSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RewardStockSlotRepository extends JpaRepository<RewardStockSlot, Long> {
+
+    List<RewardStockSlot> findAllByRewardIdOrderBySlotNo(Long rewardId);
+}
@@ -0,0 +1,84 @@
+package com.reward.core.reward.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 장애 시 사용하는 노드 로컬 일일 참여 횟수 (새 사용자 키는 최대 capacity개)
+ * Redis 키와 동일한 키로 장애 중 증감분(delta)만 기록하며, 복구 시 Redis에 합산(INCRBY)됩니다.
+ * 장애 이전의 Redis 횟수는 알 수 없으므로 장애 중에는 노드별로 일일 한도를 다시 적용합니다.
+ * 기록된 키를 밀어내면 해당 사용자의 횟수가 초기화되고 증감분도 합산되지 않으므로,
+ * 용량이 차면 기존 키는 그대로 두고 새 사용자의 참여만 거절합니다. (보상 트랜잭션의 감소와 합산 실패분 복구는 항상 기록)
+ * 키 단위 원자 연산(ConcurrentHashMap.compute/merge)만 사용하므로 장애 중 몰리는 요청이 전역 락에서 줄 서지 않습니다.
+ */
+@Slf4j
+@Component
+public class LocalParticipationCounter {
+
+    private final Map<String, Long> counts = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public LocalParticipationCounter(@Value("${reward.participation.local-capacity:100000}") int capacity,
+                                     MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        Gauge.builder("reward.participation.local.entries", this, LocalParticipationCounter::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도 이내면 증가시키고, 초과하면 증가시키지 않습니다.
+     * @return 증가를 시도한 뒤의 횟수 (한도 초과 시 max + 1)
+     * @throws IllegalStateException 용량이 가득 차 새 키를 기록할 수 없을 때
+     */
+    public long increase(String key, int max) {
+        // 동시에 들어온 새 키 몇 개만큼은 capacity를 넘을 수 있음 (전역 락을 피하기 위한 근사 검사)
+        if (counts.size() >= capacity && !counts.containsKey(key)) {
+            log.warn("로컬 참여 횟수 저장 공간이 가득 차 새 사용자의 참여를 거절합니다. (capacity: {})", capacity);
+            throw new IllegalStateException("일시적으로 참여할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        long[] attempted = new long[1];
+        counts.compute(key, (k, current) -> {
+            long count = (current == null ? 0L : current) + 1;
+            attempted[0] = count;
+            return count <= max ? Long.valueOf(count) : current;
+        });
+        return attempted[0];
+    }
+
+    public void decrease(String key) {
+        counts.merge(key, -1L, Long::sum);
+    }
+
+    /**
+     * 기록된 증감분을 모두 꺼내고 비웁니다. (Redis 합산용)
+     * 키마다 원자적으로 제거하므로 꺼내는 도중 들어온 증감분은 다음 합산에 포함됩니다.
+     */
+    public Map<String, Long> drain() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String key : counts.keySet()) {
+            Long delta = counts.remove(key);
+            if (delta != null) {
+                drained.merge(key, delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Redis 합산에 실패한 증감분을 다시 기록합니다.
+     */
+    public void restore(Map<String, Long> deltas) {
+        deltas.forEach((key, delta) -> counts.merge(key, delta, Long::sum));
+    }
+
+    public int size() {
+        return counts.size();
+    }
+}
@@ -0,0 +1,140 @@
+package com.reward.core.reward.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 메모리 매핑 파일 경품 테이프 (단일 노드용)
+ * 파일 구조: [커서 8바이트][칸 수 8바이트][보상 ID 8바이트 * 칸 수]
+ * 커서는 매핑된 헤더에 VarHandle getAndAdd로 원자적으로 증가시키므로 추첨에 잠금이나 네트워크 왕복이 없고,
+ * 프로세스를 재기동해도 파일에 남은 커서부터 이어서 꺼냅니다. (OS 장애 시에는 마지막 기록 이후의 커서가 유실될 수 있음)
+ * 돌려놓은 칸은 파일 중간에 끼워 넣을 수 없으므로 메모리 큐에 보관했다가 먼저 꺼냅니다.
+ */
+class MappedPrizeTape implements PrizeTape {
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final int CURSOR_OFFSET = 0;
+    private static final int COUNT_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private record Mapping(MappedByteBuffer buffer, long count) {
+    }
+
+    private final Path file;
+    private final Queue<Long> returned = new ConcurrentLinkedQueue<>();
+    private volatile Mapping mapping;
+
+    MappedPrizeTape(Path file) {
+        this.file = file.toAbsolutePath();
+        if (Files.exists(this.file)) {
+            this.mapping = map();
+        }
+    }
+
+    @Override
+    public synchronized void load(long[] outcomes) {
+        if (HEADER_SIZE + (long) outcomes.length * Long.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalStateException("경품 테이프가 너무 큽니다. (" + outcomes.length + "칸)");
+        }
+        Path loading = file.resolveSibling(file.getFileName() + ".loading");
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(loading, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+                buffer.putLong(0L).putLong(outcomes.length);
+                for (long outcome : outcomes) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        write(channel, buffer);
+                    }
+                    buffer.putLong(outcome);
+                }
+                write(channel, buffer);
+                channel.force(true);
+            }
+            Files.move(loading, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("경품 테이프 파일을 쓸 수 없습니다: " + file, e);
+        }
+        returned.clear();
+        mapping = map();
+    }
+
+    @Override
+    public long pop() {
+        Long back = returned.poll();
+        if (back != null) {
+            return back;
+        }
+        Mapping current = mapping;
+        if (current == null) {
+            return NOT_LOADED;
+        }
+        long index = (long) LONGS.getAndAdd(current.buffer(), CURSOR_OFFSET, 1L);
+        if (index >= current.count()) {
+            return EXHAUSTED;
+        }
+        return current.buffer().getLong(HEADER_SIZE + (int) (index * Long.BYTES));
+    }
+
+    @Override
+    public void giveBack(long outcome) {
+        returned.add(outcome);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return mapping != null;
+    }
+
+    @Override
+    public long remaining() {
+        Mapping current = mapping;
+        if (current == null) {
+            return 0;
+        }
+        long cursor = (long) LONGS.getVolatile(current.buffer(), CURSOR_OFFSET);
+        return current.count() - Math.min(cursor, current.count()) + returned.size();
+    }
+
+    @Override
+    public synchronized void unload() {
+        mapping = null;
+        returned.clear();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("경품 테이프 파일을 삭제할 수 없습니다: " + file, e);
+        }
+    }
+
+    private Mapping map() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return new Mapping(buffer, buffer.getLong(COUNT_OFFSET));
+        } catch (IOException e) {
+            throw new UncheckedIOException("경품 테이프 파일을 매핑할 수 없습니다: " + file, e);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
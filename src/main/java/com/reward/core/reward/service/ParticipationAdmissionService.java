@@ -0,0 +1,191 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.common.config.ParticipationProperties;
+import com.reward.core.common.config.RateLimitProperties;
+import com.reward.core.common.utils.DistributedRateLimiter;
+import com.reward.core.common.utils.LeasedRateLimiter;
+import com.reward.core.common.utils.RateLimitAlgorithm;
+import com.reward.core.common.utils.RedisHealthCircuit;
+import com.reward.core.reward.dto.ParticipationPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 참여 진입 검사 (처리율 제한 + 일일 참여 횟수 선점)
+ * 두 검사를 하나의 Lua 스크립트로 묶어 Redis 왕복 1회로 원자적으로 처리합니다.
+ * 참여 횟수 키는 UserParticipationService와 동일하므로 보상 트랜잭션(compensate)은 그대로 사용합니다.
+ * 보상 풀 전체 처리율 상한(reward.participation.pool-rate-limit)은 사용자별 검사 전에 보상 풀 키(global, campaign:{id})로 판정하며,
+ * 할당량 임대(LeasedRateLimiter)가 켜져 있으면 대부분의 요청을 노드 로컬에서 판정합니다.
+ * 사용자별 키도 임대 대상 구간이면 처리율 제한은 로컬에서 판정하고 스크립트는 참여 횟수만 처리합니다.
+ * (기본 설정에서 사용자별 키는 임대 대상이 아니므로 사용자별 검사는 왕복 1회를 유지)
+ * 한도 값은 보상 풀별 정책(ParticipationPolicy)에서 가져옵니다. (기본 보상 풀: reward.participation.*, 캠페인: Campaign)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticipationAdmissionService {
+
+    private static final long RATE_LIMITED = 0L;
+    private static final long QUOTA_EXCEEDED = -1L;
+
+    /**
+     * KEYS[1]: 처리율 제한 키, KEYS[2]: 일일 참여 횟수 키
+     * ARGV[1..4]: 처리율 제한 알고리즘 입력, ARGV[5]: 일일 최대 참여 횟수, ARGV[6]: 참여 횟수 키 TTL(초)
+     * 반환: 1 이상 = 허용(현재 참여 횟수), 0 = 처리율 제한, -1 = 일일 한도 초과
+     */
+    private static final String QUOTA_SCRIPT =
+            "local count = redis.call('incr', KEYS[2]) " +
+            "if count == 1 then " +
+            "    redis.call('expire', KEYS[2], ARGV[6]) " +
+            "end " +
+            "if count > tonumber(ARGV[5]) then " +
+            "    redis.call('decr', KEYS[2]) " +
+            "    return -1 " +
+            "end " +
+            "return count";
+
+    private final Map<RateLimitAlgorithm, DefaultRedisScript<Long>> admissionScripts = createScripts();
+    private final DefaultRedisScript<Long> quotaScript = new DefaultRedisScript<>(QUOTA_SCRIPT, Long.class);
+
+    private static Map<RateLimitAlgorithm, DefaultRedisScript<Long>> createScripts() {
+        Map<RateLimitAlgorithm, DefaultRedisScript<Long>> scripts = new EnumMap<>(RateLimitAlgorithm.class);
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            scripts.put(algorithm, new DefaultRedisScript<>(algorithm.checkScript() + QUOTA_SCRIPT, Long.class));
+        }
+        return scripts;
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final LeasedRateLimiter leasedRateLimiter;
+    private final UserParticipationService participationService;
+    private final RateLimitProperties rateLimitProperties;
+    private final RedisHealthCircuit redisHealthCircuit;
+    private final ParticipationProperties participationProperties;
+
+    /**
+     * 기본 보상 풀 정책으로 검사합니다.
+     * @param userId 유저 ID
+     * @throws IllegalStateException 처리율 제한 또는 일일 참여 한도 초과 시
+     */
+    public void admit(Long userId) {
+        admit(participationProperties.defaultPolicy(), userId);
+    }
+
+    /**
+     * @throws IllegalStateException 처리율 제한 또는 일일 참여 한도 초과 시
+     */
+    public void admit(ParticipationPolicy policy, Long userId) {
+        admitPool(policy.campaignId(), userId);
+
+        String rateLimitKey = rateLimitKey(policy.campaignId(), userId);
+        boolean leased = leasedRateLimiter.appliesTo(rateLimitKey);
+        if (leased && !leasedRateLimiter.isAllowed(rateLimitKey, policy.rateLimit(), policy.rateWindowSeconds())) {
+            throw rateLimited(userId);
+        }
+
+        Long result = executeAdmission(policy, rateLimitKey, userId, leased);
+        if (result == null) {
+            admitSeparately(policy, rateLimitKey, userId, leased);
+            return;
+        }
+
+        if (result == RATE_LIMITED) {
+            throw rateLimited(userId);
+        }
+        if (result == QUOTA_EXCEEDED) {
+            throw participationService.quotaExceeded(userId, policy.dailyLimit());
+        }
+        log.info("사용자 {} - 참여 횟수 증가 (현재: {}회)", userId, result);
+    }
+
+    private Long executeAdmission(ParticipationPolicy policy, String rateLimitKey, Long userId, boolean rateLimitChecked) {
+        // 서킷이 열려 있거나 연결 실패로 스크립트가 실행되지 않은 것이 확실할 때만 null → 개별 검사(각각 로컬 구현으로 Fallback)
+        // 응답 타임아웃 등 참여 횟수가 이미 증가했을 수 있는 실패는 예외를 그대로 던져 요청을 거절 (이중 차감 방지)
+        return redisHealthCircuit.executeAtMostOnce("admission", () -> {
+            RateLimitAlgorithm algorithm = rateLimitProperties.algorithmFor(rateLimitKey);
+            String[] rateLimitArgs = algorithm.arguments(System.currentTimeMillis(),
+                    policy.rateLimit(), policy.rateWindowSeconds() * 1000L);
+            DefaultRedisScript<Long> script = rateLimitChecked ? quotaScript : admissionScripts.get(algorithm);
+            return redisTemplate.execute(script,
+                    List.of(algorithm.redisKey(rateLimitKey), participationService.generateKey(policy.campaignId(), userId)),
+                    rateLimitArgs[0], rateLimitArgs[1], rateLimitArgs[2], rateLimitArgs[3],
+                    String.valueOf(policy.dailyLimit()),
+                    String.valueOf(UserParticipationService.PARTICIPATION_TTL.toSeconds()));
+        }, () -> null);
+    }
+
+    /**
+     * 보상 풀 전체 처리율 상한을 검사합니다. (사용자별 검사보다 먼저 실행하여 거절된 요청이 참여 횟수를 선점하지 않도록 함)
+     * 이후 사용자별 검사에서 거절된 요청도 보상 풀 예산은 사용한 것으로 셉니다.
+     */
+    private void admitPool(Long campaignId, Long userId) {
+        int limit = participationProperties.getPoolRateLimit();
+        if (limit <= 0) {
+            return;
+        }
+        String poolKey = poolRateLimitKey(campaignId);
+        int windowSeconds = participationProperties.getPoolRateWindowSeconds();
+        boolean allowed = leasedRateLimiter.appliesTo(poolKey)
+                ? leasedRateLimiter.isAllowed(poolKey, limit, windowSeconds)
+                : distributedRateLimiter.isAllowed(poolKey, limit, windowSeconds);
+        if (!allowed) {
+            throw rateLimited(userId);
+        }
+    }
+
+    /**
+     * 통합 스크립트를 사용할 수 없을 때 기존 방식(처리율 제한 → 참여 횟수 선점)으로 검사합니다.
+     */
+    private void admitSeparately(ParticipationPolicy policy, String rateLimitKey, Long userId, boolean rateLimitChecked) {
+        if (!rateLimitChecked
+                && !distributedRateLimiter.isAllowed(rateLimitKey, policy.rateLimit(), policy.rateWindowSeconds())) {
+            throw rateLimited(userId);
+        }
+        participationService.checkAndIncrease(policy, userId);
+    }
+
+    /**
+     * 사용자의 처리율 제한 키(모든 알고리즘)와 오늘 참여 횟수 키를 지웁니다. (워밍업 가상 사용자 정리용)
+     */
+    public void reset(Long campaignId, Long userId) {
+        String rateLimitKey = rateLimitKey(campaignId, userId);
+        List<String> keys = new ArrayList<>();
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            keys.add(algorithm.redisKey(rateLimitKey));
+        }
+        keys.add(participationService.generateKey(campaignId, userId));
+        redisTemplate.delete(keys);
+    }
+
+    private IllegalStateException rateLimited(Long userId) {
+        log.warn("사용자 {} - 분산 처리율 제한에 걸렸습니다.", userId);
+        return new IllegalStateException("너무 빈번한 참여 요청입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 보상 풀 전체 처리율 상한 키 (첫 구간 global/campaign은 할당량 임대 대상 구간)
+     */
+    static String poolRateLimitKey(Long campaignId) {
+        return campaignId == null ? "global" : "campaign:" + campaignId;
+    }
+
+    static String rateLimitKey(Long userId) {
+        return rateLimitKey(null, userId);
+    }
+
+    /**
+     * 첫 구간(user)으로 알고리즘을 고르므로 캠페인 키도 user로 시작합니다. (reward.rate-limit.algorithms)
+     */
+    static String rateLimitKey(Long campaignId, Long userId) {
+        return campaignId == null ? "user:" + userId : "user:" + userId + ":campaign:" + campaignId;
+    }
+}
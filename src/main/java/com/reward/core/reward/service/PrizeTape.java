@@ -0,0 +1,41 @@
+package com.reward.core.reward.service;
+
+/**
+ * 미리 섞어 둔 추첨 결과(보상 ID) 목록 저장소
+ * 참여 1회마다 앞에서부터 한 칸을 원자적으로 꺼냅니다.
+ */
+interface PrizeTape {
+
+    // 낙첨 칸
+    long BLANK = 0;
+
+    // 적재된 테이프를 모두 꺼냄
+    long EXHAUSTED = -1;
+
+    // 적재된 테이프가 없음
+    long NOT_LOADED = -2;
+
+    /**
+     * 기존 테이프를 outcomes로 교체합니다. (커서는 처음으로)
+     */
+    void load(long[] outcomes);
+
+    /**
+     * @return 보상 ID, BLANK, EXHAUSTED 또는 NOT_LOADED
+     */
+    long pop();
+
+    /**
+     * 꺼낸 칸을 지급하지 못했을 때(시스템 오류) 다시 뽑힐 수 있도록 돌려놓습니다.
+     */
+    void giveBack(long outcome);
+
+    boolean isLoaded();
+
+    /**
+     * 남은 칸 수 (적재된 테이프가 없으면 0)
+     */
+    long remaining();
+
+    void unload();
+}
@@ -0,0 +1,260 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.common.utils.RedisHealthCircuit;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.dto.RewardSnapshot;
+import com.reward.core.reward.repository.RewardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경품 테이프 추첨 (Draw Mode: TAPE)
+ * 캠페인 시작 시 보상별 잔여 수량만큼의 당첨 칸(과 낙첨 칸)을 만들어 섞은 뒤 테이프로 적재하고,
+ * 참여 1회마다 한 칸을 원자적으로 꺼냅니다.
+ * 보상별 당첨 수가 정확히 재고와 같고, 추첨은 O(1) 꺼내기 한 번이며, 꺼낸 칸이 곧 재고 토큰이므로
+ * 추첨 도중 재고 소진으로 실패하는 일이 없습니다. (Redis 재고 선차감/행 락 없이 조건부 UPDATE로 지급)
+ * 테이프가 적재되지 않았거나 Redis 장애 시에는 가중치 추첨(RewardDrawEngine)으로 처리합니다.
+ * 테이프는 보상 풀(기본 보상 풀, 캠페인)마다 따로 적재합니다.
+ */
+@Slf4j
+@Service
+public class PrizeTapeService {
+
+    // long[] 400MB (매핑 파일 한도 2GB 이내)
+    private static final int MAX_TAPE_SIZE = 50_000_000;
+    private static final Long DEFAULT_POOL = 0L;
+
+    public enum DrawMode {
+        WEIGHTED, // 가중치 추첨 (RewardDrawEngine)
+        TAPE      // 경품 테이프
+    }
+
+    public enum Store {
+        REDIS,  // 여러 노드가 공유
+        MAPPED  // 단일 노드 메모리 매핑 파일
+    }
+
+    public enum Outcome {
+        WIN,
+        BLANK,
+        EXHAUSTED,
+        UNAVAILABLE // 미적재 또는 Redis 장애 → 가중치 추첨
+    }
+
+    /**
+     * @param reward 당첨 시에만 존재
+     */
+    public record Draw(Outcome outcome, RewardSnapshot reward) {
+    }
+
+    /**
+     * @param prizes 보상 ID별 당첨 칸 수
+     */
+    public record TapeSummary(Long campaignId, Store store, long size, long blanks, Map<Long, Long> prizes) {
+    }
+
+    public record TapeStatus(Long campaignId, DrawMode mode, Store store, boolean loaded, long remaining) {
+    }
+
+    private record RewardIndex(long catalogVersion, Map<Long, RewardSnapshot> rewards) {
+    }
+
+    private final RewardRepository rewardRepository;
+    private final RewardStockSlotService rewardStockSlotService;
+    private final RewardCatalog rewardCatalog;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisHealthCircuit redisHealthCircuit;
+    private final DrawMode mode;
+    private final Store store;
+    private final Path file;
+    private final Map<Long, PrizeTape> tapes = new ConcurrentHashMap<>();
+    private final Map<Long, RewardIndex> rewardIndexes = new ConcurrentHashMap<>();
+    private final Map<Outcome, Counter> draws = new EnumMap<>(Outcome.class);
+
+    public PrizeTapeService(RewardRepository rewardRepository,
+                            RewardStockSlotService rewardStockSlotService,
+                            RewardCatalog rewardCatalog,
+                            StringRedisTemplate redisTemplate,
+                            RedisHealthCircuit redisHealthCircuit,
+                            MeterRegistry meterRegistry,
+                            @Value("${reward.draw.mode:WEIGHTED}") DrawMode mode,
+                            @Value("${reward.draw.tape.store:REDIS}") Store store,
+                            @Value("${reward.draw.tape.file:${java.io.tmpdir}/reward-prize-tape.bin}") String file) {
+        this.rewardRepository = rewardRepository;
+        this.rewardStockSlotService = rewardStockSlotService;
+        this.rewardCatalog = rewardCatalog;
+        this.redisTemplate = redisTemplate;
+        this.redisHealthCircuit = redisHealthCircuit;
+        this.mode = mode;
+        this.store = store;
+        this.file = Path.of(file);
+        for (Outcome outcome : Outcome.values()) {
+            draws.put(outcome, Counter.builder("reward.draw.tape.draws")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public boolean isEnabled() {
+        return mode == DrawMode.TAPE;
+    }
+
+    /**
+     * 보상 풀의 테이프에서 한 칸을 꺼냅니다.
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     */
+    public Draw draw(Long campaignId) {
+        PrizeTape tape = tape(campaignId);
+        long slot = store == Store.REDIS
+                ? redisHealthCircuit.execute("prize-tape", tape::pop, () -> PrizeTape.NOT_LOADED)
+                : tape.pop();
+
+        Draw draw;
+        if (slot == PrizeTape.NOT_LOADED) {
+            draw = new Draw(Outcome.UNAVAILABLE, null);
+        } else if (slot == PrizeTape.EXHAUSTED) {
+            draw = new Draw(Outcome.EXHAUSTED, null);
+        } else if (slot == PrizeTape.BLANK) {
+            draw = new Draw(Outcome.BLANK, null);
+        } else {
+            RewardSnapshot reward = rewardIndex(campaignId).rewards().get(slot);
+            if (reward == null) {
+                log.warn("보상 {} - 카탈로그에 없는 보상이 테이프에서 나와 낙첨 처리합니다.", slot);
+                draw = new Draw(Outcome.BLANK, null);
+            } else {
+                draw = new Draw(Outcome.WIN, reward);
+            }
+        }
+        draws.get(draw.outcome()).increment();
+        return draw;
+    }
+
+    /**
+     * 시스템 오류로 지급하지 못한 당첨 칸을 테이프에 돌려놓습니다.
+     */
+    public void giveBack(Long campaignId, Long rewardId) {
+        try {
+            tape(campaignId).giveBack(rewardId);
+        } catch (Exception e) {
+            // 돌려놓지 못하면 해당 칸만큼 당첨 수가 재고보다 적어지며, 남은 재고는 배치 지급 등으로 처리
+            log.error("보상 {} - 경품 테이프 칸 반환 실패", rewardId, e);
+        }
+    }
+
+    /**
+     * 보상 풀의 보상별 잔여 수량만큼의 당첨 칸과 blanks개의 낙첨 칸을 섞어 테이프를 교체합니다. (캠페인 시작 전 실행)
+     * 칸 순서를 예측할 수 없도록 SecureRandom으로 섞습니다. (Fisher-Yates)
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     * @param blanks 낙첨 칸 수 (예상 참여 수 - 총 재고, 0이면 테이프가 빌 때까지 모두 당첨)
+     */
+    public TapeSummary load(Long campaignId, long blanks) {
+        if (blanks < 0) {
+            throw new IllegalStateException("낙첨 칸 수는 0 이상이어야 합니다.");
+        }
+
+        Map<Long, Long> prizes = new LinkedHashMap<>();
+        long size = blanks;
+        List<Reward> rewards = campaignId == null
+                ? rewardRepository.findByCampaignIdIsNull()
+                : rewardRepository.findByCampaignId(campaignId);
+        for (Reward reward : rewards) {
+            long remaining = rewardStockSlotService.getRemainingQuantity(reward);
+            if (remaining > 0) {
+                prizes.put(reward.getId(), remaining);
+                size += remaining;
+            }
+        }
+        if (size > MAX_TAPE_SIZE) {
+            throw new IllegalStateException("경품 테이프는 최대 " + MAX_TAPE_SIZE + "칸까지 만들 수 있습니다. (요청: " + size + "칸)");
+        }
+
+        // 배열 기본값 0 = 낙첨 칸
+        long[] outcomes = new long[(int) size];
+        int index = 0;
+        for (Map.Entry<Long, Long> prize : prizes.entrySet()) {
+            Arrays.fill(outcomes, index, index + prize.getValue().intValue(), prize.getKey());
+            index += prize.getValue().intValue();
+        }
+        shuffle(outcomes);
+        tape(campaignId).load(outcomes);
+
+        log.info("경품 테이프 적재 완료 (보상 풀: {}, {}, {}칸, 낙첨 {}칸, 보상별 {})",
+                poolName(campaignId), store, size, blanks, prizes);
+        return new TapeSummary(campaignId, store, size, blanks, prizes);
+    }
+
+    public TapeStatus status(Long campaignId) {
+        PrizeTape tape = tape(campaignId);
+        boolean loaded = tape.isLoaded();
+        return new TapeStatus(campaignId, mode, store, loaded, loaded ? tape.remaining() : 0);
+    }
+
+    /**
+     * 테이프를 내리면 해당 보상 풀은 가중치 추첨으로 돌아갑니다.
+     */
+    public void unload(Long campaignId) {
+        tape(campaignId).unload();
+        log.info("경품 테이프를 내렸습니다. (보상 풀: {}, {})", poolName(campaignId), store);
+    }
+
+    /**
+     * 보상 풀별 테이프 (MAPPED: 캠페인마다 파일 이름 뒤에 -{campaignId}를 붙임)
+     */
+    private PrizeTape tape(Long campaignId) {
+        return tapes.computeIfAbsent(campaignId == null ? DEFAULT_POOL : campaignId, key -> store == Store.REDIS
+                ? new RedisPrizeTape(redisTemplate, campaignId)
+                : new MappedPrizeTape(campaignId == null ? file : file.resolveSibling(fileName(campaignId))));
+    }
+
+    private String fileName(Long campaignId) {
+        String name = file.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        return extension < 0
+                ? name + "-" + campaignId
+                : name.substring(0, extension) + "-" + campaignId + name.substring(extension);
+    }
+
+    /**
+     * 카탈로그 버전마다 보상 풀별 보상 ID → 스냅샷 색인을 한 번만 만듭니다.
+     */
+    private RewardIndex rewardIndex(Long campaignId) {
+        Long poolKey = campaignId == null ? DEFAULT_POOL : campaignId;
+        RewardCatalog.Snapshot catalog = rewardCatalog.current(campaignId);
+        RewardIndex current = rewardIndexes.get(poolKey);
+        if (current == null || current.catalogVersion() != catalog.version()) {
+            current = new RewardIndex(catalog.version(), catalog.rewards().stream()
+                    .collect(Collectors.toUnmodifiableMap(RewardSnapshot::id, Function.identity())));
+            rewardIndexes.put(poolKey, current);
+        }
+        return current;
+    }
+
+    private static String poolName(Long campaignId) {
+        return campaignId == null ? "기본" : String.valueOf(campaignId);
+    }
+
+    private static void shuffle(long[] outcomes) {
+        SecureRandom random = new SecureRandom();
+        for (int i = outcomes.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = outcomes[i];
+            outcomes[i] = outcomes[j];
+            outcomes[j] = swap;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.reward.core.reward.service;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 리스트 경품 테이프 (여러 노드가 하나의 테이프를 공유)
+ * 임시 키에 나누어 적재한 뒤 RENAME으로 한 번에 교체하며, 추첨은 LPOP 한 번입니다.
+ * Redis는 빈 리스트를 삭제하므로 적재 여부는 별도 키로 구분합니다. (소진과 미적재를 구분)
+ * 키: 기본 보상 풀 reward:draw:tape, 캠페인 reward:draw:tape:campaign:{campaignId}
+ */
+class RedisPrizeTape implements PrizeTape {
+
+    private static final String KEY_PREFIX = "reward:draw:tape";
+    private static final int PUSH_CHUNK_SIZE = 10_000;
+
+    /**
+     * KEYS[1]: 테이프, KEYS[2]: 적재 표시
+     * 반환: 보상 ID(낙첨 0), 소진 -1, 미적재 -2
+     */
+    private static final String POP_SCRIPT =
+            "local slot = redis.call('lpop', KEYS[1]) " +
+            "if slot then " +
+            "    return tonumber(slot) " +
+            "end " +
+            "if redis.call('exists', KEYS[2]) == 1 then " +
+            "    return -1 " +
+            "end " +
+            "return -2";
+
+    private final DefaultRedisScript<Long> popScript = new DefaultRedisScript<>(POP_SCRIPT, Long.class);
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final String loadingKey;
+    private final String loadedKey;
+
+    /**
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     */
+    RedisPrizeTape(StringRedisTemplate redisTemplate, Long campaignId) {
+        this.redisTemplate = redisTemplate;
+        this.key = campaignId == null ? KEY_PREFIX : KEY_PREFIX + ":campaign:" + campaignId;
+        this.loadingKey = key + ":loading";
+        this.loadedKey = key + ":loaded";
+    }
+
+    @Override
+    public void load(long[] outcomes) {
+        redisTemplate.delete(loadingKey);
+        for (int from = 0; from < outcomes.length; from += PUSH_CHUNK_SIZE) {
+            List<String> chunk = new ArrayList<>(PUSH_CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + PUSH_CHUNK_SIZE, outcomes.length); i++) {
+                chunk.add(String.valueOf(outcomes[i]));
+            }
+            redisTemplate.opsForList().rightPushAll(loadingKey, chunk);
+        }
+        if (outcomes.length > 0) {
+            redisTemplate.rename(loadingKey, key);
+        } else {
+            redisTemplate.delete(key);
+        }
+        redisTemplate.opsForValue().set(loadedKey, String.valueOf(outcomes.length));
+    }
+
+    @Override
+    public long pop() {
+        Long slot = redisTemplate.execute(popScript, List.of(key, loadedKey));
+        return slot == null ? NOT_LOADED : slot;
+    }
+
+    @Override
+    public void giveBack(long outcome) {
+        redisTemplate.opsForList().rightPush(key, String.valueOf(outcome));
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(loadedKey));
+    }
+
+    @Override
+    public long remaining() {
+        Long size = redisTemplate.opsForList().size(key);
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public void unload() {
+        redisTemplate.delete(List.of(key, loadingKey, loadedKey));
+    }
+}
@@ -0,0 +1,191 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.repository.RewardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+
+/**
+ * Redis 재고 선차감 (Inventory Mode)
+ * 캠페인 재고를 Redis에 적재해 두고 Lua 스크립트로 원자적으로 차감하여,
+ * 토큰을 얻은 요청만 DB 쓰기 단계로 진입시킵니다. (낙첨/소진 요청은 트랜잭션을 열지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisStockService {
+
+    public enum Token {
+        GRANTED,     // 재고 토큰 획득 → 경량 DB 쓰기 진행
+        SOLD_OUT,    // Redis 재고 소진 → DB 접근 없이 실패
+        UNAVAILABLE  // 미적재/비활성/Redis 장애 → 기존 비관적 락 경로로 Fallback
+    }
+
+    public record StockReconciliation(Long rewardId, long dbRemaining, Long redisRemaining, boolean adjusted) {
+    }
+
+    private static final String KEY_PREFIX = "reward:stock:";
+
+    private static final String ACQUIRE_SCRIPT =
+            "local stock = redis.call('get', KEYS[1]) " +
+            "if not stock then " +
+            "    return -1 " +
+            "end " +
+            "if tonumber(stock) <= 0 then " +
+            "    return 0 " +
+            "end " +
+            "redis.call('decr', KEYS[1]) " +
+            "return 1";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "    return redis.call('incrby', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return -1";
+
+    // 배치 지급 등 DB에서 직접 차감한 수량만큼 Redis 재고도 줄임 (0 미만으로 내려가지 않음)
+    private static final String CONSUME_SCRIPT =
+            "local stock = redis.call('get', KEYS[1]) " +
+            "if not stock then " +
+            "    return -1 " +
+            "end " +
+            "local consumed = math.min(math.max(tonumber(stock), 0), tonumber(ARGV[1])) " +
+            "if consumed > 0 then " +
+            "    redis.call('decrby', KEYS[1], consumed) " +
+            "end " +
+            "return consumed";
+
+    private final DefaultRedisScript<Long> acquireScript = new DefaultRedisScript<>(ACQUIRE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> consumeScript = new DefaultRedisScript<>(CONSUME_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RewardRepository rewardRepository;
+    private final RewardStockSlotService rewardStockSlotService;
+
+    @Value("${reward.inventory.redis-stock.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 재고 토큰 1개를 원자적으로 차감합니다.
+     */
+    public Token tryAcquire(Long rewardId) {
+        if (!enabled) {
+            return Token.UNAVAILABLE;
+        }
+        try {
+            Long result = redisTemplate.execute(acquireScript, Collections.singletonList(generateKey(rewardId)));
+            if (result == null || result < 0) {
+                return Token.UNAVAILABLE;
+            }
+            return result == 1L ? Token.GRANTED : Token.SOLD_OUT;
+        } catch (Exception e) {
+            log.error("Redis 장애 발생으로 비관적 락 경로로 Fallback 합니다. (Reward: {})", rewardId, e);
+            return Token.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * DB 쓰기가 시스템 오류로 실패한 경우 선점한 토큰을 반환합니다.
+     */
+    public void release(Long rewardId) {
+        try {
+            redisTemplate.execute(releaseScript, Collections.singletonList(generateKey(rewardId)), "1");
+        } catch (Exception e) {
+            // 반환에 실패하면 Redis 재고가 DB보다 적게 남을 뿐이며, 캠페인 종료 후 reconcile로 보정됨
+            log.error("보상 {} - 재고 토큰 반환 실패", rewardId, e);
+        }
+    }
+
+    /**
+     * DB 재고 보충 수량을 Redis 재고에도 더합니다. (적재되지 않은 보상은 다음 적재 시 DB 잔여 수량으로 반영)
+     */
+    public void replenish(Long rewardId, long quantity) {
+        if (!enabled || quantity <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(releaseScript, Collections.singletonList(generateKey(rewardId)), String.valueOf(quantity));
+        } catch (Exception e) {
+            // 반영에 실패하면 Redis 재고가 DB보다 적게 남으므로 reconcile로 보정
+            log.error("보상 {} - Redis 재고 보충 반영 실패 ({}개)", rewardId, quantity, e);
+        }
+    }
+
+    /**
+     * DB에서 토큰 없이 직접 차감한 수량(배치 지급)을 Redis 재고에도 반영합니다.
+     * 실시간 참여 경로가 이미 소진된 재고로 토큰을 발급하지 않도록 하기 위한 것으로, 실패해도 DB 정합성에는 영향이 없습니다.
+     */
+    public void consume(Long rewardId, long quantity) {
+        if (!enabled || quantity <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(consumeScript, Collections.singletonList(generateKey(rewardId)), String.valueOf(quantity));
+        } catch (Exception e) {
+            // 반영에 실패하면 Redis 재고가 DB보다 많이 남지만, 초과 토큰은 DB 조건부 차감에서 소진 처리되고 reconcile로 보정됨
+            log.error("보상 {} - Redis 재고 차감 반영 실패 ({}개)", rewardId, quantity, e);
+        }
+    }
+
+    /**
+     * DB의 잔여 수량을 Redis 재고로 적재합니다. (캠페인 시작 전 실행)
+     */
+    public long load(Long rewardId) {
+        Reward reward = rewardRepository.findById(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+        long remaining = rewardStockSlotService.getRemainingQuantity(reward);
+        redisTemplate.opsForValue().set(generateKey(rewardId), String.valueOf(remaining));
+        log.info("보상 {} - Redis 재고 적재 완료 ({}개)", rewardId, remaining);
+        return remaining;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Redis 재고 키가 없을 때만 DB 잔여 수량으로 적재합니다. (여러 노드가 동시에 워밍업해도 차감된 재고를 덮어쓰지 않음)
+     * @return 새로 적재했으면 true
+     */
+    public boolean loadIfAbsent(Reward reward) {
+        long remaining = rewardStockSlotService.getRemainingQuantity(reward);
+        boolean loaded = Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(generateKey(reward.getId()), String.valueOf(remaining)));
+        if (loaded) {
+            log.info("보상 {} - Redis 재고 적재 완료 ({}개)", reward.getId(), remaining);
+        }
+        return loaded;
+    }
+
+    /**
+     * DB를 기준(Source of Truth)으로 Redis 재고를 맞춥니다. (캠페인 종료 후 실행)
+     * 토큰 획득 후 DB 커밋 전에 프로세스가 종료되면 Redis 재고가 DB보다 적게 남을 수 있습니다.
+     */
+    public StockReconciliation reconcile(Long rewardId) {
+        Reward reward = rewardRepository.findById(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+        long dbRemaining = rewardStockSlotService.getRemainingQuantity(reward);
+
+        String key = generateKey(rewardId);
+        String cached = redisTemplate.opsForValue().get(key);
+        Long redisRemaining = cached == null ? null : Long.valueOf(cached);
+
+        boolean adjusted = redisRemaining != null && redisRemaining != dbRemaining;
+        if (adjusted) {
+            log.warn("보상 {} - 재고 불일치 보정 (DB: {}, Redis: {})", rewardId, dbRemaining, redisRemaining);
+            redisTemplate.opsForValue().set(key, String.valueOf(dbRemaining));
+        }
+        return new StockReconciliation(rewardId, dbRemaining, redisRemaining, adjusted);
+    }
+
+    private String generateKey(Long rewardId) {
+        return KEY_PREFIX + rewardId;
+    }
+}
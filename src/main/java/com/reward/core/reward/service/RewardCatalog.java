@@ -0,0 +1,142 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.dto.RewardSnapshot;
+import com.reward.core.reward.event.RewardChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 2단계 보상 카탈로그 (Near Cache)
+ * 1차: 노드 로컬 불변 스냅샷 (역직렬화/네트워크 왕복 없음)
+ * 2차: Redis 캐시 (RewardCatalogLoader)
+ * 보상이 변경되면 Redis 캐시를 비우고 Pub/Sub으로 모든 노드의 1차 스냅샷을 무효화합니다.
+ * 스냅샷은 보상 풀(기본 보상 풀, 캠페인)별로 따로 보관하며, 버전은 모든 보상 풀이 공유합니다.
+ */
+@Slf4j
+@Component
+public class RewardCatalog {
+
+    private static final String INVALIDATION_CHANNEL = "reward:catalog:invalidate";
+    private static final Long DEFAULT_POOL = 0L;
+
+    public record Snapshot(long version, List<RewardSnapshot> rewards) {
+    }
+
+    private final RewardCatalogLoader rewardCatalogLoader;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Counter nearHits;
+    private final Counter nearMisses;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public RewardCatalog(RewardCatalogLoader rewardCatalogLoader,
+                         StringRedisTemplate redisTemplate,
+                         RedisMessageListenerContainer listenerContainer,
+                         MeterRegistry meterRegistry) {
+        this.rewardCatalogLoader = rewardCatalogLoader;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.nearHits = Counter.builder("reward.catalog.requests")
+                .tag("level", "near").tag("result", "hit")
+                .register(meterRegistry);
+        this.nearMisses = Counter.builder("reward.catalog.requests")
+                .tag("level", "near").tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (!nodeId.equals(publisher)) {
+                log.info("다른 노드의 보상 변경 통지 수신, 로컬 카탈로그 무효화");
+                invalidateLocal();
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 기본 보상 풀의 현재 버전 카탈로그 스냅샷
+     */
+    public Snapshot current() {
+        return current(null);
+    }
+
+    /**
+     * 보상 풀의 현재 버전 카탈로그 스냅샷 (1차 캐시 적중 시 맵 조회와 버전 비교만 수행)
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     */
+    public Snapshot current(Long campaignId) {
+        Long poolKey = campaignId == null ? DEFAULT_POOL : campaignId;
+        Snapshot current = snapshots.get(poolKey);
+        if (current != null && current.version() == catalogVersion.get()) {
+            nearHits.increment();
+            return current;
+        }
+        nearMisses.increment();
+        return reload(poolKey, campaignId);
+    }
+
+    public List<RewardSnapshot> getRewards() {
+        return current().rewards();
+    }
+
+    /**
+     * 보상 변경 커밋 이후 Redis 캐시를 비우고 모든 노드에 무효화를 통지합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRewardChanged(RewardChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        rewardCatalogLoader.evict();
+        invalidateLocal();
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId);
+        } catch (Exception e) {
+            // 통지 실패 시 다른 노드는 Redis 캐시 TTL 만료 후 갱신됨
+            log.error("보상 카탈로그 무효화 통지 발행 실패", e);
+        }
+    }
+
+    private void invalidateLocal() {
+        catalogVersion.incrementAndGet();
+    }
+
+    /**
+     * 같은 보상 풀의 동시 미스는 한 번만 적재합니다. (다른 보상 풀의 적재는 막지 않음)
+     */
+    private Snapshot reload(Long poolKey, Long campaignId) {
+        return snapshots.compute(poolKey, (key, current) -> {
+            long version = catalogVersion.get();
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            List<RewardSnapshot> rewards = campaignId == null
+                    ? rewardCatalogLoader.load()
+                    : rewardCatalogLoader.load(campaignId);
+            Snapshot reloaded = new Snapshot(version, List.copyOf(rewards));
+            log.info("보상 카탈로그 갱신 완료 (보상 풀: {}, 버전: {}, 보상: {}개)",
+                    campaignId == null ? "기본" : campaignId, version, reloaded.rewards().size());
+            return reloaded;
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.dto.RewardSnapshot;
+import com.reward.core.reward.repository.RewardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 보상 카탈로그 2차 캐시 (Redis)
+ * RewardCatalog(1차, On-Heap)에서 호출하여 Spring 프록시를 거치도록 별도 빈으로 분리합니다.
+ */
+@Slf4j
+@Component
+public class RewardCatalogLoader {
+
+    private final RewardRepository rewardRepository;
+    private final Counter databaseLoads;
+
+    public RewardCatalogLoader(RewardRepository rewardRepository, MeterRegistry meterRegistry) {
+        this.rewardRepository = rewardRepository;
+        this.databaseLoads = Counter.builder("reward.catalog.loads")
+                .description("Redis 캐시 미스로 DB에서 보상 목록을 조회한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기본 보상 풀 (캠페인에 속하지 않은 보상)
+     */
+    @Cacheable(value = "rewards", key = "'all'")
+    public List<RewardSnapshot> load() {
+        log.info("보상 목록을 조회합니다 (캐시 미적용 시 DB 접근)");
+        databaseLoads.increment();
+        return rewardRepository.findByCampaignIdIsNull().stream()
+                .map(RewardSnapshot::from)
+                .toList();
+    }
+
+    @Cacheable(value = "rewards", key = "'campaign:' + #campaignId")
+    public List<RewardSnapshot> load(Long campaignId) {
+        log.info("캠페인 {} 보상 목록을 조회합니다 (캐시 미적용 시 DB 접근)", campaignId);
+        databaseLoads.increment();
+        return rewardRepository.findByCampaignId(campaignId).stream()
+                .map(RewardSnapshot::from)
+                .toList();
+    }
+
+    @CacheEvict(value = "rewards", allEntries = true)
+    public void evict() {
+        log.info("보상 목록 Redis 캐시를 비웁니다.");
+    }
+}
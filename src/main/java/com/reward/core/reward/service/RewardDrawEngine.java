@@ -0,0 +1,173 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.common.utils.AliasMethodPicker;
+import com.reward.core.reward.dto.RewardSnapshot;
+import com.reward.core.reward.event.RewardChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가중치 추첨 엔진
+ * 카탈로그 버전(및 소진 목록 버전)마다 별칭 테이블(AliasMethodPicker)을 한 번만 만들어 두고 원자적으로 교체합니다.
+ * 요청 경로는 버전 비교 후 O(1) 선택만 수행합니다.
+ * 소진된 보상은 노드별 소진 목록으로 관리하여 테이블에서 제외(또는 대체 보상에 가중치 이전)하고,
+ * Redis Pub/Sub으로 다른 노드에도 전파합니다. 재고 보충 등 보상 변경 시의 소진 해제도 같은 방식으로 전파합니다.
+ * 별칭 테이블은 보상 풀(기본 보상 풀, 캠페인)별로 따로 만듭니다. (보상 ID가 풀마다 다르므로 소진 목록은 공유)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RewardDrawEngine {
+
+    private static final String SOLD_OUT_CHANNEL = "reward:draw:sold-out";
+    private static final String RESTOCKED_CHANNEL = "reward:draw:restocked";
+    private static final Long DEFAULT_POOL = 0L;
+
+    private record DrawSnapshot(long catalogVersion, long soldOutVersion, AliasMethodPicker<RewardSnapshot> picker) {
+    }
+
+    private final RewardCatalog rewardCatalog;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${reward.draw.fallback-reward-id:#{null}}")
+    private Long fallbackRewardId;
+
+    private final AtomicLong soldOutVersion = new AtomicLong();
+    private final Set<Long> soldOutRewardIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, DrawSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeSoldOut() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Long rewardId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (soldOutRewardIds.add(rewardId)) {
+                log.info("보상 {} - 다른 노드에서 소진 통지 수신, 추첨 후보에서 제외", rewardId);
+                soldOutVersion.incrementAndGet();
+            }
+        }, new ChannelTopic(SOLD_OUT_CHANNEL));
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Long rewardId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (clearSoldOut(rewardId)) {
+                log.info("보상 {} - 다른 노드에서 소진 해제 통지 수신, 추첨 후보에 복귀", rewardId);
+            }
+        }, new ChannelTopic(RESTOCKED_CHANNEL));
+    }
+
+    public RewardSnapshot pick() {
+        return pick(null);
+    }
+
+    /**
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     */
+    public RewardSnapshot pick(Long campaignId) {
+        Long poolKey = campaignId == null ? DEFAULT_POOL : campaignId;
+        RewardCatalog.Snapshot catalog = rewardCatalog.current(campaignId);
+        DrawSnapshot current = snapshots.get(poolKey);
+        if (current == null
+                || current.catalogVersion() != catalog.version()
+                || current.soldOutVersion() != soldOutVersion.get()) {
+            current = rebuild(poolKey, catalog);
+        }
+        return current.picker().pick();
+    }
+
+    /**
+     * 지급 단계에서 소진이 확인된 보상을 추첨 후보에서 제외하고 다른 노드에 통지합니다.
+     */
+    public void markSoldOut(Long rewardId) {
+        if (!soldOutRewardIds.add(rewardId)) {
+            return;
+        }
+        log.info("보상 {} - 소진 확인, 추첨 후보에서 제외", rewardId);
+        soldOutVersion.incrementAndGet();
+        try {
+            redisTemplate.convertAndSend(SOLD_OUT_CHANNEL, String.valueOf(rewardId));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 각자 소진을 확인하는 시점에 제외됨
+            log.error("보상 {} - 소진 통지 발행 실패", rewardId, e);
+        }
+    }
+
+    /**
+     * 보상 구성 변경(카탈로그 버전 증가)은 RewardCatalog가 처리하며,
+     * 재고가 다시 채워졌을 수 있으므로 해당 보상의 소진 표시를 해제하고 다른 노드에 통지합니다. (커밋 이후 반영)
+     * 다른 노드에서 소진된 보상일 수 있으므로 이 노드의 소진 목록에 없어도 통지합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRewardChanged(RewardChangedEvent event) {
+        if (event.rewardId() == null) {
+            return;
+        }
+        clearSoldOut(event.rewardId());
+        try {
+            redisTemplate.convertAndSend(RESTOCKED_CHANNEL, String.valueOf(event.rewardId()));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 재기동 전까지 해당 보상을 제외한 채 추첨함
+            log.error("보상 {} - 소진 해제 통지 발행 실패", event.rewardId(), e);
+        }
+    }
+
+    private boolean clearSoldOut(Long rewardId) {
+        if (!soldOutRewardIds.remove(rewardId)) {
+            return false;
+        }
+        soldOutVersion.incrementAndGet();
+        return true;
+    }
+
+    private DrawSnapshot rebuild(Long poolKey, RewardCatalog.Snapshot catalog) {
+        return snapshots.compute(poolKey, (key, current) -> {
+            long currentSoldOutVersion = soldOutVersion.get();
+            if (current != null
+                    && current.catalogVersion() == catalog.version()
+                    && current.soldOutVersion() == currentSoldOutVersion) {
+                return current;
+            }
+
+            List<RewardSnapshot> rewards = catalog.rewards();
+            Map<Long, Integer> weights = effectiveWeights(rewards);
+            DrawSnapshot rebuilt = new DrawSnapshot(catalog.version(), currentSoldOutVersion,
+                    new AliasMethodPicker<>(rewards, reward -> weights.getOrDefault(reward.id(), 0)));
+            log.info("추첨 테이블 갱신 완료 (보상 풀: {}, 카탈로그 버전: {}, 후보: {}개, 소진: {}개)",
+                    poolKey, catalog.version(), rebuilt.picker().size(), soldOutRewardIds.size());
+            return rebuilt;
+        });
+    }
+
+    /**
+     * 소진된 보상의 가중치를 제거하거나, 대체 보상이 설정된 경우 대체 보상에 합산합니다.
+     */
+    private Map<Long, Integer> effectiveWeights(List<RewardSnapshot> rewards) {
+        Map<Long, Integer> weights = new HashMap<>();
+        int releasedWeight = 0;
+        for (RewardSnapshot reward : rewards) {
+            if (reward.isSoldOut() || soldOutRewardIds.contains(reward.id())) {
+                releasedWeight += reward.weight();
+            } else {
+                weights.put(reward.id(), reward.weight());
+            }
+        }
+
+        if (releasedWeight > 0 && fallbackRewardId != null && weights.containsKey(fallbackRewardId)) {
+            weights.merge(fallbackRewardId, releasedWeight, Integer::sum);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,133 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.common.config.RewardHistoryProperties;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.Partition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보상 이력 월별 파티션 관리
+ * MySQL에서는 기동 시 reward_histories를 received_at 기준 월별 RANGE 파티션 테이블로 전환하고,
+ * 매일 partition-months-ahead개월 뒤까지 파티션을 미리 만들어 둡니다. (삽입은 항상 이번 달 파티션의 인덱스 끝에만 쌓임)
+ * 보관 기간(hot-months)이 지난 월 파티션은 아카이브 잡이 작업 테이블과 맞바꾸어(EXCHANGE PARTITION) 떼어 낸 뒤 파일로 옮기고 pold에 합칩니다.
+ * 파티션을 지원하지 않는 DB(H2)나 전환하지 않은 테이블은 월 단위 논리 파티션을 기간 조건으로 삭제합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RewardHistoryPartitionManager {
+
+    private final RewardHistoryPartitionJdbcRepository partitionRepository;
+    private final RewardHistoryProperties properties;
+
+    /**
+     * 여러 노드가 동시에 실행하면 먼저 끝난 노드의 변경만 반영되고 나머지는 경고만 남김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reward.history.partition-cron:0 0 2 * * *}")
+    public void maintain() {
+        if (!properties.isPartitioned() || !partitionRepository.supportsPartitioning()) {
+            return;
+        }
+        try {
+            if (partitionRepository.isPartitioned()) {
+                addUpcomingMonths();
+            } else {
+                partition();
+            }
+        } catch (DataAccessException e) {
+            log.warn("보상 이력 파티션 변경 실패 (다른 노드가 먼저 변경했거나 DDL 권한이 없음)", e);
+        }
+    }
+
+    /**
+     * 실제 파티션 또는 논리 파티션 (오래된 순)
+     */
+    public List<Partition> getPartitions() {
+        return partitionRepository.isPartitioned()
+                ? partitionRepository.findPartitions()
+                : partitionRepository.findMonthlyRanges(currentMonth());
+    }
+
+    /**
+     * 상한이 보관 시작 시각(이번 달 1일 - (hot-months - 1)개월) 이하인 파티션
+     * (오래된 순, pold는 늦게 들어온 이력이 있거나 이전 실행이 떼어 낸 작업 테이블이 남아 있을 때만)
+     */
+    public List<Partition> findColdPartitions() {
+        if (properties.getHotMonths() < 2) {
+            // 최근 일자 집계가 지난달까지 거슬러 올라가므로, 지난달 이력은 항상 원본으로 남아 있어야 함
+            throw new IllegalStateException("reward.history.hot-months는 2 이상이어야 합니다.");
+        }
+        LocalDateTime hotFrom = currentMonth().minusMonths(properties.getHotMonths() - 1).atStartOfDay();
+        return getPartitions().stream()
+                .filter(partition -> partition.to() != null && !partition.to().isAfter(hotFrom))
+                .filter(partition -> !partition.physical()
+                        || !RewardHistoryPartitionJdbcRepository.OLD_PARTITION.equals(partition.name())
+                        || partitionRepository.count(partition) > 0
+                        || partitionRepository.hasDetached(partition))
+                .toList();
+    }
+
+    /**
+     * 가장 오래된 이력의 달(또는 보관 시작 직전 달)부터 다음 달 파티션까지 만듭니다. (그 이전 기간은 pold)
+     * 기존 행이 많으면 테이블 복사가 길어지므로 전환하지 않고, 온라인 스키마 변경 도구로 전환하도록 경고만 남깁니다.
+     */
+    private void partition() {
+        long limit = properties.getAutoPartitionMaxRows();
+        if (partitionRepository.countRows(limit + 1) > limit) {
+            log.warn("보상 이력이 {}건을 넘어 파티션 테이블로 자동 전환하지 않습니다. (온라인 스키마 변경 도구로 전환 필요)", limit);
+            return;
+        }
+
+        LocalDate current = currentMonth();
+        LocalDate first = current.minusMonths(properties.getHotMonths());
+        LocalDate oldest = partitionRepository.findOldestMonth();
+        if (oldest != null && oldest.isBefore(first)) {
+            first = oldest;
+        }
+        List<LocalDate> months = months(first, current.plusMonths(properties.getPartitionMonthsAhead()));
+        partitionRepository.partitionByMonth(months);
+        log.info("보상 이력을 월별 파티션 테이블로 전환했습니다. ({} ~ {}, pold + {}개 + pmax)", months.get(0), months.get(months.size() - 1), months.size());
+    }
+
+    private void addUpcomingMonths() {
+        List<Partition> partitions = partitionRepository.findPartitions();
+        Partition last = partitions.get(partitions.size() - 1);
+        if (last.to() != null || last.from() == null) {
+            log.warn("보상 이력 파티션이 pmax(MAXVALUE)로 끝나지 않아 다음 달 파티션을 추가하지 않습니다. (마지막 파티션: {})", last.name());
+            return;
+        }
+
+        LocalDate next = last.from().toLocalDate();
+        LocalDate until = currentMonth().plusMonths(properties.getPartitionMonthsAhead());
+        if (next.isAfter(until)) {
+            return;
+        }
+        List<LocalDate> months = months(next, until);
+        partitionRepository.addMonths(months);
+        log.info("보상 이력 파티션 추가 ({} ~ {})", months.get(0), months.get(months.size() - 1));
+    }
+
+    private static List<LocalDate> months(LocalDate from, LocalDate to) {
+        List<LocalDate> months = new ArrayList<>();
+        for (LocalDate month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    private static LocalDate currentMonth() {
+        return LocalDate.now().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.dto.RewardHistoryCursor;
+import com.reward.core.reward.dto.RewardHistoryPage;
+import com.reward.core.reward.dto.RewardHistoryView;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자 보상 이력 조회 ("내 보상")
+ * OFFSET 페이지네이션은 페이지가 깊어질수록 앞의 행을 모두 읽고 버리므로,
+ * 이전 페이지 마지막 행(receivedAt, id)을 커서로 받아 (user_id, received_at, id) 인덱스에서 바로 이어 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RewardHistoryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final RewardHistoryRepository rewardHistoryRepository;
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (생략하면 최신 이력부터)
+     */
+    @Transactional(readOnly = true)
+    public RewardHistoryPage getHistories(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalStateException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 한 행을 더 읽어 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+        List<RewardHistoryView> rows = rewardHistoryRepository.findPageByUserId(
+                userId, RewardHistoryCursor.decode(cursor), size + 1);
+        if (rows.size() <= size) {
+            return new RewardHistoryPage(rows, null);
+        }
+        List<RewardHistoryView> items = rows.subList(0, size);
+        return new RewardHistoryPage(List.copyOf(items), RewardHistoryCursor.from(items.get(size - 1)).encode());
+    }
+}
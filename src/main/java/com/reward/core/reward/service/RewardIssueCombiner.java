@@ -0,0 +1,172 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.domain.RewardSoldOutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 보상별 지급 요청 결합기 (Group Commit)
+ * 동시에 들어온 같은 보상의 지급 요청을 큐에 모아, 리더 스레드 하나가 최대 K건을 한 트랜잭션으로 처리합니다.
+ * 요청마다 발생하던 행 락 왕복이 묶음 단위로 줄어듭니다.
+ */
+@Slf4j
+@Component
+public class RewardIssueCombiner {
+
+    private final RewardIssueService rewardIssueService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public RewardIssueCombiner(RewardIssueService rewardIssueService,
+                               @Value("${reward.issue.combiner.enabled:false}") boolean enabled,
+                               @Value("${reward.issue.combiner.max-batch-size:100}") int maxBatchSize,
+                               @Value("${reward.issue.combiner.linger-micros:200}") long lingerMicros) {
+        this.rewardIssueService = rewardIssueService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MICROSECONDS.toNanos(lingerMicros);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    int laneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * 지급 요청을 큐에 넣고 결과가 나올 때까지 대기합니다.
+     * 리더가 없으면 호출 스레드가 직접 리더가 되어 한 묶음을 처리하고, 대기 스레드는 자기 결과나 리더 인계 신호가 올 때까지 잠듭니다.
+     * @throws IllegalStateException 수량 소진 시
+     * @throws BatchIssueException 묶음 트랜잭션이 시스템 오류로 실패한 경우
+     */
+    public void issue(Long userId, Long rewardId) {
+        PendingIssue pending = new PendingIssue(userId);
+        // 큐 추가와 유휴 레인 제거가 같은 버킷 락 안에서 일어나므로 제거된 레인에 요청이 남지 않음
+        Lane lane = lanes.compute(rewardId, (id, current) -> {
+            Lane target = current == null ? new Lane() : current;
+            target.queue.add(pending);
+            return target;
+        });
+
+        while (!pending.result.isDone()) {
+            CompletableFuture<Void> handOff = pending.resetHandOff();
+            if (lane.leader.compareAndSet(false, true)) {
+                try {
+                    commitBatch(rewardId, lane);
+                } finally {
+                    lane.leader.set(false);
+                }
+                continue;
+            }
+            // 인터럽트에 반응하지 않는 대기 (이미 큐에 들어간 요청은 리더가 처리하므로 결과를 끝까지 기다림)
+            CompletableFuture.anyOf(pending.result, handOff).exceptionally(e -> null).join();
+        }
+        handOffOrEvict(rewardId, lane);
+        try {
+            pending.result.join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * 남은 요청이 있으면 가장 앞의 대기 스레드에게 리더 역할을 넘기고, 비어 있으면 레인을 제거합니다.
+     */
+    private void handOffOrEvict(Long rewardId, Lane lane) {
+        PendingIssue next = lane.queue.peek();
+        if (next != null) {
+            next.handOff.complete(null);
+            return;
+        }
+        lanes.computeIfPresent(rewardId, (id, current) ->
+                current == lane && current.queue.isEmpty() && !current.leader.get() ? null : current);
+    }
+
+    private void commitBatch(Long rewardId, Lane lane) {
+        // 묶음이 덜 찼으면 잠시 기다려 동시 요청을 더 모음
+        if (lingerNanos > 0 && lane.queue.size() < maxBatchSize) {
+            LockSupport.parkNanos(lingerNanos);
+        }
+
+        List<PendingIssue> batch = new ArrayList<>(maxBatchSize);
+        PendingIssue polled;
+        while (batch.size() < maxBatchSize && (polled = lane.queue.poll()) != null) {
+            batch.add(polled);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> userIds = batch.stream().map(PendingIssue::userId).toList();
+            int granted = rewardIssueService.issueBatch(rewardId, userIds);
+            for (int i = 0; i < batch.size(); i++) {
+                if (i < granted) {
+                    batch.get(i).result.complete(null);
+                } else {
+                    batch.get(i).result.completeExceptionally(new RewardSoldOutException());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("보상 {} - 묶음 지급 실패 ({}건)", rewardId, batch.size(), e);
+            // 같은 예외 인스턴스를 여러 스레드에서 던지지 않도록 대기자마다 새 예외로 감쌈
+            batch.forEach(issue -> issue.result.completeExceptionally(new BatchIssueException(rewardId, e)));
+        }
+    }
+
+    /**
+     * 묶음 지급 트랜잭션의 시스템 오류 (원인 예외는 cause로 전달)
+     */
+    public static class BatchIssueException extends RuntimeException {
+
+        public BatchIssueException(Long rewardId, Throwable cause) {
+            super("보상 " + rewardId + " 묶음 지급 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static class Lane {
+        private final Queue<PendingIssue> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean leader = new AtomicBoolean(false);
+    }
+
+    private static class PendingIssue {
+        private final Long userId;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile CompletableFuture<Void> handOff = new CompletableFuture<>();
+
+        private PendingIssue(Long userId) {
+            this.userId = userId;
+        }
+
+        private Long userId() {
+            return userId;
+        }
+
+        /**
+         * 대기 전에 인계 신호를 새로 만들어, 이미 소비한 신호로 다시 깨어나는 일이 없도록 합니다.
+         */
+        private CompletableFuture<Void> resetHandOff() {
+            CompletableFuture<Void> fresh = new CompletableFuture<>();
+            this.handOff = fresh;
+            return fresh;
+        }
+    }
+}
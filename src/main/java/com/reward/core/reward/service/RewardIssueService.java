@@ -2,16 +2,28 @@ package com.reward.core.reward.service;
 
 import com.reward.core.reward.domain.Reward;
 import com.reward.core.reward.domain.RewardHistory;
+import com.reward.core.reward.domain.RewardSoldOutException;
+import com.reward.core.reward.dto.RewardSnapshot;
+import com.reward.core.reward.repository.RewardHistoryJdbcRepository;
 import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardOutboxJdbcRepository;
 import com.reward.core.reward.repository.RewardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 보상 지급 트랜잭션 (경로별)
+ * 모든 경로는 보상 이력과 함께 당첨 알림 Outbox 행을 같은 트랜잭션에서 저장합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,6 +31,21 @@ public class RewardIssueService {
 
     private final RewardRepository rewardRepository;
     private final RewardHistoryRepository rewardHistoryRepository;
+    private final RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+    private final RewardOutboxJdbcRepository rewardOutboxJdbcRepository;
+
+    /**
+     * 분할 재고 시작 슬롯 선택 방식 (가상 스레드는 요청마다 새로 만들어지므로 스레드 기준 고정은 의미가 없음)
+     */
+    public enum SlotStart {
+        RANDOM,      // 요청마다 임의 슬롯
+        ROUND_ROBIN  // 노드 내 요청 순서대로 슬롯을 돌아가며 선택 (동시 요청이 슬롯에 고르게 퍼짐)
+    }
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    @Value("${reward.inventory.stock-slot.start:RANDOM}")
+    private SlotStart slotStart;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void issue(Long userId, Long rewardId) {
@@ -35,7 +62,91 @@ public class RewardIssueService {
                 .build();
         
         rewardHistoryRepository.save(history);
+        rewardOutboxJdbcRepository.insert(userId, rewardId, rewardWithLock.getName());
         log.info("사용자 {} - 보상 '{}' 지급 완료 (잔여: {})", 
                 userId, rewardWithLock.getName(), rewardWithLock.getRemainingQuantity());
     }
+
+    /**
+     * 묶음 지급 (Group Commit)
+     * 행 락을 한 번만 잡고 요청 수만큼 차감한 뒤 이력을 일괄 저장합니다.
+     * @return 지급된 인원 수 (앞에서부터 순서대로 지급, 나머지는 수량 소진)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int issueBatch(Long rewardId, List<Long> userIds) {
+        Reward rewardWithLock = rewardRepository.findByIdWithLock(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+
+        int granted = (int) rewardWithLock.decreaseQuantityUpTo(userIds.size());
+        if (granted > 0) {
+            LocalDateTime now = LocalDateTime.now();
+            List<RewardHistory> histories = userIds.subList(0, granted).stream()
+                    .map(userId -> RewardHistory.builder()
+                            .userId(userId)
+                            .reward(rewardWithLock)
+                            .receivedAt(now)
+                            .build())
+                    .toList();
+            rewardHistoryJdbcRepository.insertAll(histories);
+            rewardOutboxJdbcRepository.insertAll(rewardId, rewardWithLock.getName(), userIds.subList(0, granted));
+        }
+
+        log.info("보상 '{}' 묶음 지급 완료 (요청: {}, 지급: {}, 잔여: {})",
+                rewardWithLock.getName(), userIds.size(), granted, rewardWithLock.getRemainingQuantity());
+        return granted;
+    }
+
+    /**
+     * Redis 재고 토큰을 획득한 요청 전용 경량 지급
+     * 행 락(SELECT ... FOR UPDATE) 없이 조건부 UPDATE 한 번으로 차감합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void issueWithStockToken(Long userId, RewardSnapshot reward) {
+        Long rewardId = reward.id();
+        if (rewardRepository.decreaseQuantity(rewardId, 1L) == 0) {
+            throw new RewardSoldOutException();
+        }
+
+        RewardHistory history = RewardHistory.builder()
+                .userId(userId)
+                .reward(rewardRepository.getReferenceById(rewardId))
+                .receivedAt(LocalDateTime.now())
+                .build();
+
+        rewardHistoryRepository.save(history);
+        rewardOutboxJdbcRepository.insert(userId, rewardId, reward.name());
+        log.info("사용자 {} - 보상 {} 지급 완료 (Redis 재고 토큰)", userId, rewardId);
+    }
+
+    /**
+     * 분할 재고(Striped Stock) 보상 지급
+     * 임의(또는 라운드 로빈) 슬롯에서 시작해 소진된 슬롯은 건너뛰며 다음 슬롯을 시도합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void issueFromStockSlot(Long userId, RewardSnapshot reward) {
+        Long rewardId = reward.id();
+        int slotCount = reward.stockSlotCount();
+        int startSlot = slotStart == SlotStart.ROUND_ROBIN
+                ? Math.floorMod(nextSlot.getAndIncrement(), slotCount)
+                : ThreadLocalRandom.current().nextInt(slotCount);
+
+        for (int i = 0; i < slotCount; i++) {
+            int slotNo = (startSlot + i) % slotCount;
+            if (rewardRepository.decreaseSlotQuantity(rewardId, slotNo, 1L) == 0) {
+                continue;
+            }
+
+            RewardHistory history = RewardHistory.builder()
+                    .userId(userId)
+                    .reward(rewardRepository.getReferenceById(rewardId))
+                    .receivedAt(LocalDateTime.now())
+                    .build();
+
+            rewardHistoryRepository.save(history);
+            rewardOutboxJdbcRepository.insert(userId, rewardId, reward.name());
+            log.info("사용자 {} - 보상 {} 지급 완료 (재고 슬롯 {})", userId, rewardId, slotNo);
+            return;
+        }
+        throw new RewardSoldOutException();
+    }
 }
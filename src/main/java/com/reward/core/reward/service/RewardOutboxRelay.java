@@ -0,0 +1,135 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.notification.event.NotificationCompletedEvent;
+import com.reward.core.reward.domain.RewardOutbox;
+import com.reward.core.reward.event.RewardIssuedEvent;
+import com.reward.core.reward.repository.RewardOutboxJdbcRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 당첨 알림 Outbox 릴레이
+ * 미완료 행을 batch-size 단위로 잠가(SKIP LOCKED) claim-timeout만큼 선점하고 커밋한 뒤, 잠금 밖에서 RewardIssuedEvent로 발행합니다.
+ * 행은 알림 발송기가 처리를 끝냈다고 알려 올 때(NotificationCompletedEvent) 완료 처리하므로,
+ * 발송 큐/디스크에 있는 동안 노드가 죽어도 선점 기한이 지나면 다시 발행됩니다. (At-least-once, 중복 발송 가능)
+ * 완료된 지 retention이 지난 행은 purge-cron 주기로 나누어 삭제합니다.
+ */
+@Slf4j
+@Component
+public class RewardOutboxRelay {
+
+    private final RewardOutboxJdbcRepository rewardOutboxJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    private final Timer lag;
+    private final DistributionSummary relayBatchSize;
+
+    public RewardOutboxRelay(RewardOutboxJdbcRepository rewardOutboxJdbcRepository,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${reward.outbox.relay.enabled:true}") boolean enabled,
+                             @Value("${reward.outbox.relay.batch-size:500}") int batchSize,
+                             @Value("${reward.outbox.relay.claim-timeout:10m}") Duration claimTimeout,
+                             @Value("${reward.outbox.retention:7d}") Duration retention) {
+        this.rewardOutboxJdbcRepository = rewardOutboxJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+
+        this.lag = Timer.builder("reward.outbox.relay.lag")
+                .description("Outbox 저장부터 발행(선점)까지 걸린 시간")
+                .register(meterRegistry);
+        this.relayBatchSize = DistributionSummary.builder("reward.outbox.relay.batch.size")
+                .description("릴레이 1회당 발행 건수")
+                .register(meterRegistry);
+        Gauge.builder("reward.outbox.pending", rewardOutboxJdbcRepository, RewardOutboxJdbcRepository::countPending)
+                .description("알림 처리가 끝나지 않은 Outbox 행 수 (발송 중 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가득 찬 배치가 나오는 동안은 쉬지 않고 이어서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${reward.outbox.relay.interval-millis:200}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox 릴레이 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * 선점은 짧은 트랜잭션으로 커밋하고, 발송 큐에 넣는 일은 행 잠금을 풀고 나서 합니다.
+     * @return 발행한 건수
+     */
+    int relayBatch() {
+        List<RewardOutbox> claimed = transactionTemplate.execute(status ->
+                rewardOutboxJdbcRepository.claimPending(batchSize, LocalDateTime.now().plus(claimTimeout)));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (RewardOutbox outbox : claimed) {
+            eventPublisher.publishEvent(new RewardIssuedEvent(outbox.getId(), outbox.getUserId(), outbox.getRewardName()));
+            lag.record(Duration.between(outbox.getCreatedAt(), now));
+        }
+        relayBatchSize.record(claimed.size());
+        return claimed.size();
+    }
+
+    /**
+     * 알림 발송기가 처리를 끝낸 행만 완료 처리 (실패하면 선점 기한이 지난 뒤 다시 발행됨)
+     */
+    @EventListener
+    public void handleNotificationCompleted(NotificationCompletedEvent event) {
+        rewardOutboxJdbcRepository.markPublished(event.referenceIds());
+    }
+
+    /**
+     * 완료된 지 retention이 지난 행을 batch-size 단위로 나누어 삭제 (긴 잠금을 피하기 위해 건별 짧은 DELETE 반복)
+     * @return 삭제한 건수
+     */
+    @Scheduled(cron = "${reward.outbox.purge-cron:0 50 3 * * *}")
+    public long purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = rewardOutboxJdbcRepository.deletePublishedBefore(cutoff, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("완료된 Outbox 행 {}건 삭제 ({} 이전)", purged, cutoff);
+        }
+        return purged;
+    }
+}
@@ -1,58 +1,73 @@
 package com.reward.core.reward.service;
 
-import com.reward.core.common.utils.DistributedRateLimiter;
-import com.reward.core.common.utils.WeightedRandomPicker;
-import com.reward.core.reward.domain.Reward;
-import com.reward.core.reward.event.RewardIssuedEvent;
-import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.common.config.ParticipationProperties;
+import com.reward.core.reward.domain.RewardSoldOutException;
+import com.reward.core.reward.dto.ParticipationPolicy;
+import com.reward.core.reward.dto.RewardSnapshot;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RewardService {
 
-    private final RewardRepository rewardRepository;
     private final RewardIssueService rewardIssueService;
-    private final ApplicationEventPublisher eventPublisher;
-    private final DistributedRateLimiter distributedRateLimiter;
+    private final ParticipationAdmissionService admissionService;
     private final UserParticipationService participationService;
+    private final RedisStockService redisStockService;
+    private final RewardIssueCombiner rewardIssueCombiner;
+    private final RewardDrawEngine rewardDrawEngine;
+    private final PrizeTapeService prizeTapeService;
+    private final ParticipationProperties participationProperties;
 
+    /**
+     * 기본 보상 풀(캠페인에 속하지 않은 보상)에서 추첨합니다.
+     */
     @RateLimiter(name = "rewardLimiter")
     public void participate(Long userId) {
-        // 1. Redis 분산 처리율 제한 (1초에 10회 제한 시뮬레이션)
-        if (!distributedRateLimiter.isAllowed("user:" + userId, 10, 1)) {
-            log.warn("사용자 {} - 분산 처리율 제한에 걸렸습니다.", userId);
-            throw new IllegalStateException("너무 빈번한 참여 요청입니다. 잠시 후 다시 시도해주세요.");
-        }
+        participate(participationProperties.defaultPolicy(), userId);
+    }
 
-        // 2. 일일 참여 횟수 선점 (Redis)
-        participationService.checkAndIncrease(userId);
+    /**
+     * 정책의 보상 풀(캠페인)에서 추첨합니다. 참여 한도와 추첨 테이블, 경품 테이프는 보상 풀별로 분리됩니다.
+     */
+    @RateLimiter(name = "rewardLimiter")
+    public void participate(ParticipationPolicy policy, Long userId) {
+        Long campaignId = policy.campaignId();
+        // 1~2. Redis 분산 처리율 제한 + 일일 참여 횟수 선점을 단일 스크립트로 처리
+        admissionService.admit(policy, userId);
 
         try {
-            // 3. 후보 보상 목록 조회 (캐시 활용)
-            List<Reward> rewards = getAllRewards();
-            WeightedRandomPicker picker = new WeightedRandomPicker(rewards);
+            // 경품 테이프 모드: 미리 섞어 둔 테이프에서 한 칸을 꺼내 그대로 지급 (미적재/Redis 장애 시 가중치 추첨)
+            if (prizeTapeService.isEnabled()) {
+                PrizeTapeService.Draw draw = prizeTapeService.draw(campaignId);
+                switch (draw.outcome()) {
+                    case WIN -> {
+                        issueFromTape(campaignId, userId, draw.reward());
+                        return;
+                    }
+                    case BLANK, EXHAUSTED -> {
+                        log.info("사용자 {} - 당첨된 보상이 없습니다. (경품 테이프)", userId);
+                        return;
+                    }
+                    case UNAVAILABLE -> {
+                    }
+                }
+            }
 
-            // 4. 가중치 기반 보상 선택
-            Reward selectedReward = picker.pick();
+            // 3~4. 보상 구성 버전별로 미리 만든 별칭 테이블에서 O(1) 가중치 선택
+            RewardSnapshot selectedReward = rewardDrawEngine.pick(campaignId);
             if (selectedReward == null) {
                 log.info("사용자 {} - 당첨된 보상이 없습니다.", userId);
                 return;
             }
 
-            // 5. 실제 지급 처리 (비관적 락 적용된 서비스 호출)
-            rewardIssueService.issue(userId, selectedReward.getId());
-
-            // 6. 이벤트 발행 (알림 등 후속 처리를 위해)
-            eventPublisher.publishEvent(new RewardIssuedEvent(userId, selectedReward.getName()));
+            // 5. 실제 지급 처리 (Redis 재고 선차감 → 실패 시 비관적 락 경로)
+            // 당첨 알림은 지급 트랜잭션에서 Outbox에 저장되고 RewardOutboxRelay가 발행함
+            issue(userId, selectedReward);
 
         } catch (IllegalStateException e) {
             log.info("사용자 {} - 보상 지급 실패 (비즈니스 로직): {}", userId, e.getMessage());
@@ -61,17 +76,69 @@ public class RewardService {
         } catch (Exception e) {
             log.error("사용자 {} - 시스템 오류 발생으로 보상 트랜잭션 실행: {}", userId, e.getMessage());
             // 시스템 오류(DB 장애 등) 발생 시 참여 횟수를 복구 (Compensating Transaction)
-            participationService.compensate(userId);
+            participationService.compensate(campaignId, userId);
+            throw e;
+        }
+    }
+
+    private void issue(Long userId, RewardSnapshot reward) {
+        try {
+            acquireStockAndIssue(userId, reward);
+        } catch (RewardSoldOutException e) {
+            // 소진된 보상은 추첨 후보에서 제외하여 이후 요청이 락을 기다리지 않도록 함 (다른 노드에도 전파)
+            rewardDrawEngine.markSoldOut(reward.id());
             throw e;
         }
     }
 
     /**
-     * 보상 목록 캐싱
+     * 테이프에서 꺼낸 칸이 재고 토큰이므로 Redis 재고 선차감 없이 조건부 UPDATE로 지급합니다.
      */
-    @Cacheable(value = "rewards")
-    public List<Reward> getAllRewards() {
-        log.info("보상 목록을 조회합니다 (캐시 미적용 시 DB 접근)");
-        return rewardRepository.findAll();
+    private void issueFromTape(Long campaignId, Long userId, RewardSnapshot reward) {
+        try {
+            issueToDatabase(userId, reward, true);
+        } catch (RewardSoldOutException e) {
+            // 배치 지급 등으로 DB 재고가 테이프보다 먼저 소진된 경우
+            rewardDrawEngine.markSoldOut(reward.id());
+            throw e;
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            prizeTapeService.giveBack(campaignId, reward.id());
+            throw e;
+        }
+    }
+
+    private void acquireStockAndIssue(Long userId, RewardSnapshot reward) {
+        Long rewardId = reward.id();
+        switch (redisStockService.tryAcquire(rewardId)) {
+            case GRANTED -> {
+                try {
+                    issueToDatabase(userId, reward, true);
+                } catch (IllegalStateException e) {
+                    // DB 재고가 먼저 소진된 경우 토큰은 반환하지 않음 (Redis 재고가 DB에 수렴)
+                    throw e;
+                } catch (Exception e) {
+                    redisStockService.release(rewardId);
+                    throw e;
+                }
+            }
+            case SOLD_OUT -> throw new RewardSoldOutException();
+            case UNAVAILABLE -> issueToDatabase(userId, reward, false);
+        }
+    }
+
+    private void issueToDatabase(Long userId, RewardSnapshot reward, boolean stockTokenGranted) {
+        if (reward.isStockSharded()) {
+            // 분할 재고 보상은 슬롯 단위로 차감 (토큰 여부와 관계없이 단일 행 락을 피함)
+            rewardIssueService.issueFromStockSlot(userId, reward);
+        } else if (stockTokenGranted) {
+            rewardIssueService.issueWithStockToken(userId, reward);
+        } else if (rewardIssueCombiner.isEnabled()) {
+            // 같은 보상의 동시 요청을 묶어 행 락 한 번으로 처리 (Group Commit)
+            rewardIssueCombiner.issue(userId, reward.id());
+        } else {
+            rewardIssueService.issue(userId, reward.id());
+        }
     }
 }
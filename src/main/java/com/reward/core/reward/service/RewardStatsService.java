@@ -0,0 +1,123 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.common.config.RewardHistoryProperties;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardDailyStat;
+import com.reward.core.reward.dto.RewardStats;
+import com.reward.core.reward.repository.RewardDailyStatJdbcRepository;
+import com.reward.core.reward.repository.RewardDailyStatRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 보상 지급 통계
+ * 원본 이력을 스캔하지 않고 일자/보상별 집계(reward_daily_stats)만 읽습니다.
+ * 집계는 보상 이력 잡(rewardHistoryArchiveJob)이 최근 일자를 주기적으로 다시 계산하고(집계가 빠진 이전 일자는 채움),
+ * 아카이브 시 삭제되는 이력의 건수를 더해 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RewardStatsService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final RewardDailyStatRepository rewardDailyStatRepository;
+    private final RewardDailyStatJdbcRepository rewardDailyStatJdbcRepository;
+    private final RewardRepository rewardRepository;
+    private final RewardHistoryProperties properties;
+
+    /**
+     * 최근 rollup-lookback-days일(오늘 포함)의 집계를 원본 이력으로 다시 계산하고,
+     * 그 이전 일자 중 원본 이력은 남아 있는데 집계가 없는 일자(집계 잡 도입 전 이력, 잡이 멈춰 있던 기간)도 채웁니다.
+     * 아카이브된 일자는 원본 이력이 없으므로 다시 계산하지 않습니다.
+     * @return 집계 행 수
+     */
+    @Transactional
+    public int rollUpRecent() {
+        int lookbackDays = properties.getRollupLookbackDays();
+        if (lookbackDays < 1 || lookbackDays > 28) {
+            // 집계 기간이 보관 기간(최소 이번 달 + 지난달) 안에 있어야 아카이브된 일자를 원본으로 덮어쓰지 않음
+            throw new IllegalStateException("reward.history.rollup-lookback-days는 1~28이어야 합니다.");
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate recentFrom = today.minusDays(lookbackDays - 1);
+        int rows = backfill(recentFrom) + rewardDailyStatJdbcRepository.recompute(recentFrom, today.plusDays(1));
+        log.debug("보상 지급 집계 갱신 (최근 {}일, {}행)", lookbackDays, rows);
+        return rows;
+    }
+
+    /**
+     * @param until 이 일자 전까지 (최근 일자는 매번 다시 계산하므로 제외)
+     */
+    private int backfill(LocalDate until) {
+        LocalDate oldest = rewardDailyStatJdbcRepository.findOldestHistoryDate();
+        if (oldest == null || !oldest.isBefore(until)) {
+            return 0;
+        }
+        int rows = 0;
+        List<LocalDate> dates = rewardDailyStatJdbcRepository.findUncomputedDates(oldest, until);
+        for (LocalDate date : dates) {
+            rows += rewardDailyStatJdbcRepository.recompute(date, date.plusDays(1));
+        }
+        if (!dates.isEmpty()) {
+            log.info("집계가 없던 보상 지급 일자 {}일 집계 ({} ~ {}, {}행)", dates.size(), dates.get(0), dates.get(dates.size() - 1), rows);
+        }
+        return rows;
+    }
+
+    /**
+     * @param campaignId 지정하면 해당 캠페인 보상 풀의 보상만 집계 (캠페인에서 빠진 보상의 과거 지급은 제외)
+     */
+    @Transactional(readOnly = true)
+    public RewardStats getStats(LocalDate from, LocalDate to, Long campaignId) {
+        if (from.isAfter(to)) {
+            throw new IllegalStateException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalStateException("통계 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<RewardDailyStat> stats;
+        Map<Long, String> rewardNames;
+        if (campaignId == null) {
+            stats = rewardDailyStatRepository.findByStatDateBetweenOrderByStatDate(from, to);
+            rewardNames = names(rewardRepository.findAllById(stats.stream().map(RewardDailyStat::getRewardId).distinct().toList()));
+        } else {
+            rewardNames = names(rewardRepository.findByCampaignId(campaignId));
+            stats = rewardNames.isEmpty()
+                    ? List.of()
+                    : rewardDailyStatRepository.findByStatDateBetweenAndRewardIdInOrderByStatDate(from, to, rewardNames.keySet());
+        }
+
+        Map<Long, Long> rewardTotals = stats.stream()
+                .collect(Collectors.groupingBy(RewardDailyStat::getRewardId, Collectors.summingLong(RewardDailyStat::getIssuedCount)));
+        Map<LocalDate, Long> dailyTotals = stats.stream()
+                .collect(Collectors.groupingBy(RewardDailyStat::getStatDate, TreeMap::new, Collectors.summingLong(RewardDailyStat::getIssuedCount)));
+
+        return new RewardStats(from, to,
+                rewardTotals.values().stream().mapToLong(Long::longValue).sum(),
+                rewardTotals.entrySet().stream()
+                        .map(total -> new RewardStats.RewardTotal(total.getKey(), rewardNames.get(total.getKey()), total.getValue()))
+                        .sorted(Comparator.comparingLong(RewardStats.RewardTotal::issuedCount).reversed())
+                        .toList(),
+                dailyTotals.entrySet().stream()
+                        .map(total -> new RewardStats.DailyTotal(total.getKey(), total.getValue()))
+                        .toList());
+    }
+
+    private static Map<Long, String> names(List<Reward> rewards) {
+        return rewards.stream().collect(Collectors.toMap(Reward::getId, Reward::getName));
+    }
+}
@@ -0,0 +1,75 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.repository.RewardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 배치 지급용 청크 단위 재고 예약
+ * 청크마다 조건부 UPDATE 한 번으로 필요한 수량을 차감하고, 재고가 부족하면 남은 수량만 예약합니다.
+ * 실시간 참여 경로와 같은 행(또는 재고 슬롯)을 같은 조건부 차감으로 줄이므로 두 경로가 동시에 실행되어도 초과 지급되지 않습니다.
+ * 호출한 청크 트랜잭션에 참여하며, Redis 재고 반영과 소진 통지는 커밋 이후에 실행됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RewardStockReservationService {
+
+    private final RewardRepository rewardRepository;
+    private final RedisStockService redisStockService;
+    private final RewardDrawEngine rewardDrawEngine;
+
+    /**
+     * @return 실제 예약된 수량 (0 ~ requested)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserve(Long rewardId, long requested) {
+        if (requested <= 0) {
+            return 0;
+        }
+        Reward reward = rewardRepository.findById(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+
+        long reserved = reward.isStockSharded()
+                ? reserveFromSlots(rewardId, reward.getStockSlotCount(), requested)
+                : rewardRepository.reserveQuantity(rewardId, requested);
+
+        if (reserved < requested) {
+            log.warn("보상 {} - 재고 부족으로 {}개 중 {}개만 예약", rewardId, requested, reserved);
+        }
+        afterCommit(rewardId, reserved, reserved < requested);
+        return reserved;
+    }
+
+    /**
+     * 임의의 슬롯부터 순회하며 부족한 수량을 다음 슬롯에서 채웁니다.
+     */
+    private long reserveFromSlots(Long rewardId, int slotCount, long requested) {
+        int startSlot = ThreadLocalRandom.current().nextInt(slotCount);
+        long reserved = 0;
+        for (int i = 0; i < slotCount && reserved < requested; i++) {
+            reserved += rewardRepository.reserveSlotQuantity(rewardId, (startSlot + i) % slotCount, requested - reserved);
+        }
+        return reserved;
+    }
+
+    private void afterCommit(Long rewardId, long reserved, boolean soldOut) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisStockService.consume(rewardId, reserved);
+                if (soldOut) {
+                    rewardDrawEngine.markSoldOut(rewardId);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardStockSlot;
+import com.reward.core.reward.event.RewardChangedEvent;
+import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.reward.repository.RewardStockSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분할 재고(Striped Stock) 관리
+ * 인기 보상의 수량을 N개의 슬롯 행으로 나누어 단일 행 락 경합을 분산시킵니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RewardStockSlotService {
+
+    public record StockSummary(Long rewardId, long totalQuantity, long remainingQuantity, List<Long> slotRemainingQuantities) {
+    }
+
+    private final RewardRepository rewardRepository;
+    private final RewardStockSlotRepository rewardStockSlotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 보상의 잔여 수량을 slotCount개의 슬롯으로 균등 분배합니다.
+     */
+    @Transactional
+    public StockSummary shard(Long rewardId, int slotCount) {
+        if (slotCount < 2) {
+            throw new IllegalStateException("재고 슬롯은 2개 이상이어야 합니다.");
+        }
+        Reward reward = rewardRepository.findByIdWithLock(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+        reward.shardStock(slotCount);
+
+        long remaining = reward.getRemainingQuantity();
+        List<RewardStockSlot> slots = new ArrayList<>(slotCount);
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            // 나머지는 앞쪽 슬롯부터 1개씩 배분
+            long quantity = remaining / slotCount + (slotNo < remaining % slotCount ? 1 : 0);
+            slots.add(RewardStockSlot.builder()
+                    .reward(reward)
+                    .slotNo(slotNo)
+                    .remainingQuantity(quantity)
+                    .build());
+        }
+        rewardStockSlotRepository.saveAll(slots);
+        eventPublisher.publishEvent(new RewardChangedEvent(rewardId));
+
+        log.info("보상 {} - 재고 {}개를 {}개 슬롯으로 분할", rewardId, remaining, slotCount);
+        return toSummary(reward, slots);
+    }
+
+    /**
+     * 재고를 보충합니다. 분할 보상은 보충 수량을 슬롯에 균등 분배합니다.
+     * 엔티티 수정으로 반영하므로 커밋 후 RewardEntityListener가 RewardChangedEvent를 발행하여
+     * 모든 노드의 보상 캐시를 갱신하고 소진 표시를 해제합니다.
+     */
+    @Transactional
+    public StockSummary restock(Long rewardId, long quantity) {
+        if (quantity < 1) {
+            throw new IllegalStateException("보충 수량은 1개 이상이어야 합니다.");
+        }
+        Reward reward = rewardRepository.findByIdWithLock(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+        reward.restock(quantity);
+
+        if (!reward.isStockSharded()) {
+            log.info("보상 {} - 재고 {}개 보충", rewardId, quantity);
+            return new StockSummary(rewardId, reward.getTotalQuantity(), reward.getRemainingQuantity(), List.of());
+        }
+
+        // 슬롯은 보상 행 락 없이 조건부 UPDATE로 차감되므로 같은 방식의 증가 UPDATE로 보충 (덮어쓰기 방지)
+        int slotCount = reward.getStockSlotCount();
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            long slotQuantity = quantity / slotCount + (slotNo < quantity % slotCount ? 1 : 0);
+            if (slotQuantity > 0) {
+                rewardRepository.increaseSlotQuantity(rewardId, slotNo, slotQuantity);
+            }
+        }
+        log.info("보상 {} - 재고 {}개를 {}개 슬롯에 나누어 보충", rewardId, quantity, slotCount);
+        return toSummary(reward, rewardStockSlotRepository.findAllByRewardIdOrderBySlotNo(rewardId));
+    }
+
+    /**
+     * 운영자 조회용 재고 현황 (분할 보상은 슬롯 잔여 수량 합계, 보상 행은 갱신하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public StockSummary getStock(Long rewardId) {
+        Reward reward = rewardRepository.findById(rewardId)
+                .orElseThrow(() -> new IllegalArgumentException("보상을 찾을 수 없습니다."));
+        if (!reward.isStockSharded()) {
+            return new StockSummary(rewardId, reward.getTotalQuantity(), reward.getRemainingQuantity(), List.of());
+        }
+        return toSummary(reward, rewardStockSlotRepository.findAllByRewardIdOrderBySlotNo(rewardId));
+    }
+
+    /**
+     * 분할 보상 행의 잔여 수량을 슬롯 합계로 주기적으로 맞춤 (목록/통계 등 보상 행을 직접 읽는 조회용)
+     */
+    @Scheduled(cron = "${reward.inventory.stock-slot.rollup-cron:0 * * * * *}")
+    @Transactional
+    public long rollUpSlotQuantities() {
+        long updated = rewardRepository.rollUpSlotRemainingQuantity();
+        if (updated > 0) {
+            log.debug("분할 재고 잔여 수량 집계 - 보상 {}개 갱신", updated);
+        }
+        return updated;
+    }
+
+    /**
+     * 분할 여부와 관계없이 DB 기준 잔여 수량을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public long getRemainingQuantity(Reward reward) {
+        return reward.isStockSharded()
+                ? rewardRepository.sumSlotRemainingQuantity(reward.getId())
+                : reward.getRemainingQuantity();
+    }
+
+    private StockSummary toSummary(Reward reward, List<RewardStockSlot> slots) {
+        return new StockSummary(
+                reward.getId(),
+                reward.getTotalQuantity(),
+                slots.stream().mapToLong(RewardStockSlot::getRemainingQuantity).sum(),
+                slots.stream().map(RewardStockSlot::getRemainingQuantity).toList());
+    }
+}
@@ -1,58 +1,155 @@
 package com.reward.core.reward.service;
 
+import com.reward.core.common.utils.RedisHealthCircuit;
+import com.reward.core.reward.dto.ParticipationPolicy;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserParticipationService {
 
+    private static final String REDIS_COMPONENT = "participation";
+
+    /**
+     * KEYS[1]: 일일 참여 횟수 키, ARGV[1]: 일일 최대 참여 횟수, ARGV[2]: 키 TTL(초)
+     * 증가/만료 설정/한도 초과 시 되돌리기를 한 번에 실행하여 중간 실패로 횟수가 어긋나지 않도록 합니다.
+     * 반환: 증가를 시도한 뒤의 횟수 (한도 초과 시 max + 1, 실제 값은 그대로)
+     */
+    private static final String INCREASE_SCRIPT =
+            "local count = redis.call('incr', KEYS[1]) " +
+            "if count == 1 then " +
+            "    redis.call('expire', KEYS[1], ARGV[2]) " +
+            "end " +
+            "if count > tonumber(ARGV[1]) then " +
+            "    redis.call('decr', KEYS[1]) " +
+            "end " +
+            "return count";
+
+    private final DefaultRedisScript<Long> increaseScript = new DefaultRedisScript<>(INCREASE_SCRIPT, Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final RedisHealthCircuit redisHealthCircuit;
+    private final LocalParticipationCounter localParticipationCounter;
     private static final String KEY_PREFIX = "user:participation:";
-    private static final int MAX_PARTICIPATION_PER_DAY = 3;
+    static final Duration PARTICIPATION_TTL = Duration.ofDays(1);
+
+    @PostConstruct
+    void registerRecovery() {
+        redisHealthCircuit.onRecovery(this::reconcileLocalCounts);
+    }
 
     /**
-     * 유저의 일일 참여 횟수를 확인하고 증가시킵니다.
+     * 유저의 일일 참여 횟수를 확인하고 증가시킵니다. (참여 횟수는 보상 풀별로 따로 셈)
+     * Redis 서킷이 열려 있거나 연결 실패로 스크립트가 실행되지 않은 것이 확실할 때만 노드 로컬 카운터로 처리합니다.
+     * (응답 타임아웃 등 Redis에 이미 반영되었을 수 있는 실패는 로컬에서 다시 세지 않고 예외를 던짐)
      * @param userId 유저 ID
      * @throws IllegalStateException 참여 횟수 초과 시
      */
-    public void checkAndIncrease(Long userId) {
-        String key = generateKey(userId);
-        Long count = redisTemplate.opsForValue().increment(key);
+    public void checkAndIncrease(ParticipationPolicy policy, Long userId) {
+        String key = generateKey(policy.campaignId(), userId);
+        int dailyLimit = policy.dailyLimit();
+        long count = redisHealthCircuit.executeAtMostOnce(REDIS_COMPONENT,
+                () -> increaseInRedis(key, dailyLimit),
+                () -> localParticipationCounter.increase(key, dailyLimit));
 
-        if (count != null && count == 1) {
-            redisTemplate.expire(key, Duration.ofDays(1));
+        if (count > dailyLimit) {
+            throw quotaExceeded(userId, dailyLimit);
         }
 
-        if (count != null && count > MAX_PARTICIPATION_PER_DAY) {
-            // 한도 초과 시 다시 감소시키고 예외 발생
-            redisTemplate.opsForValue().decrement(key);
-            log.warn("사용자 {} - 일일 참여 한도 초과 ({}회)", userId, MAX_PARTICIPATION_PER_DAY);
-            throw new IllegalStateException("오늘은 더 이상 참여할 수 없습니다. (일일 최대 3회)");
-        }
-        
         log.info("사용자 {} - 참여 횟수 증가 (현재: {}회)", userId, count);
     }
 
     /**
-     * 보상 트랜잭션: 실패 시 참여 횟수를 다시 감소시킵니다.
+     * 보상 트랜잭션: 실패 시 참여 횟수를 다시 감소시킵니다. (기본 보상 풀)
      * @param userId 유저 ID
      */
     public void compensate(Long userId) {
-        String key = generateKey(userId);
-        redisTemplate.opsForValue().decrement(key);
+        compensate(null, userId);
+    }
+
+    /**
+     * 보상 트랜잭션: 실패 시 해당 보상 풀의 참여 횟수를 다시 감소시킵니다.
+     * @param campaignId 캠페인 ID (null이면 기본 보상 풀)
+     */
+    public void compensate(Long campaignId, Long userId) {
+        String key = generateKey(campaignId, userId);
+        try {
+            redisHealthCircuit.executeAtMostOnce(REDIS_COMPONENT,
+                    () -> redisTemplate.opsForValue().decrement(key),
+                    () -> {
+                        localParticipationCounter.decrease(key);
+                        return null;
+                    });
+        } catch (RuntimeException e) {
+            // 감소가 반영되었는지 알 수 없으면 다시 감소시키지 않음 (참여 기회 1회를 덜 돌려주는 쪽으로 처리)
+            log.error("사용자 {} - 참여 횟수 롤백 결과를 알 수 없어 건너뜁니다: {}", userId, e.getMessage());
+            return;
+        }
         log.info("사용자 {} - 보상 트랜잭션 실행: 참여 횟수 롤백", userId);
     }
 
-    private String generateKey(Long userId) {
+    IllegalStateException quotaExceeded(Long userId, int dailyLimit) {
+        log.warn("사용자 {} - 일일 참여 한도 초과 ({}회)", userId, dailyLimit);
+        return new IllegalStateException("오늘은 더 이상 참여할 수 없습니다. (일일 최대 " + dailyLimit + "회)");
+    }
+
+    private long increaseInRedis(String key, int dailyLimit) {
+        Long count = redisTemplate.execute(increaseScript, Collections.singletonList(key),
+                String.valueOf(dailyLimit), String.valueOf(PARTICIPATION_TTL.toSeconds()));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Redis 복구 시 장애 중 로컬에 기록된 증감분을 Redis에 합산합니다.
+     */
+    void reconcileLocalCounts() {
+        Map<String, Long> deltas = localParticipationCounter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<String, Long> remaining = new HashMap<>(deltas);
+        try {
+            for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+                if (entry.getValue() != 0) {
+                    redisTemplate.opsForValue().increment(entry.getKey(), entry.getValue());
+                    // 장애 중 새로 생긴 키도 하루 뒤 만료되도록 보장
+                    Long ttl = redisTemplate.getExpire(entry.getKey());
+                    if (ttl != null && ttl < 0) {
+                        redisTemplate.expire(entry.getKey(), PARTICIPATION_TTL);
+                    }
+                }
+                remaining.remove(entry.getKey());
+            }
+            log.info("장애 중 로컬 참여 횟수 {}건을 Redis에 반영했습니다.", deltas.size());
+        } catch (Exception e) {
+            log.error("로컬 참여 횟수 반영 실패, 남은 {}건은 다음 복구 시 반영합니다.", remaining.size(), e);
+            localParticipationCounter.restore(remaining);
+        }
+    }
+
+    String generateKey(Long userId) {
+        return generateKey(null, userId);
+    }
+
+    /**
+     * 기본 보상 풀은 기존 키(user:participation:{userId}:{날짜})를 그대로 사용합니다.
+     */
+    String generateKey(Long campaignId, Long userId) {
         String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
-        return KEY_PREFIX + userId + ":" + today;
+        String scope = campaignId == null ? "" : "campaign:" + campaignId + ":";
+        return KEY_PREFIX + scope + userId + ":" + today;
     }
 }
@@ -2,6 +2,7 @@ package com.reward.core;
 
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -10,6 +11,13 @@ import org.testcontainers.utility.DockerImageName;
 
 @Testcontainers
 @SpringBootTest
+@TestPropertySource(properties = {
+        "reward.warm-up.on-startup=false", // 기동 워밍업이 테스트 데이터와 겹치지 않도록
+        "reward.history.rollup-cron=-", // 예약 집계/아카이브가 테스트 데이터와 겹치지 않도록
+        "reward.history.archive-cron=-",
+        "reward.inventory.stock-slot.rollup-cron=-",
+        "reward.outbox.purge-cron=-"
+})
 public abstract class AbstractIntegrationTest {
 
     @Container
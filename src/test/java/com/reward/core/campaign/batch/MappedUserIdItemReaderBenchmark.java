@@ -0,0 +1,70 @@
+package com.reward.core.campaign.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew benchmark 로 실행
+ * 5천만 건 당첨자 파일의 읽기 처리량과 힙 사용량을 측정합니다.
+ */
+@Tag("benchmark")
+class MappedUserIdItemReaderBenchmark {
+
+    private static final long ROWS = 50_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("5천만 건 파일을 메모리 매핑 리더로 읽을 때의 rows/sec와 힙 사용량")
+    void read_50MillionRows() throws IOException {
+        Path file = tempDir.resolve("winners-50m.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("userId\n");
+            for (long userId = 1; userId <= ROWS; userId++) {
+                writer.write(Long.toString(userId));
+                writer.write('\n');
+            }
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long peakHeap = heapBefore;
+
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(file);
+        reader.open(new ExecutionContext());
+        long start = System.nanoTime();
+        long rows = 0;
+        long checksum = 0;
+        Long userId;
+        while ((userId = reader.read()) != null) {
+            rows++;
+            checksum += userId;
+            if ((rows & 0xFFFFF) == 0) {
+                peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        reader.close();
+
+        System.out.printf("[mmap reader] %,d rows, %.2f s, %,.0f rows/s, 파일 %,d MB, 최대 힙 증가 %,d MB%n",
+                rows, seconds, rows / seconds, Files.size(file) / (1024 * 1024),
+                (peakHeap - heapBefore) / (1024 * 1024));
+
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(checksum).isEqualTo(ROWS * (ROWS + 1) / 2);
+    }
+}
@@ -0,0 +1,158 @@
+package com.reward.core.campaign.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedUserIdItemReaderTest {
+
+    private static final String CONTENT = "userId,name\r\n1,kim\r\n22\n\n333,lee\r\n4444\n 55555\n987654321";
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "매핑 창 {0}바이트")
+    @ValueSource(longs = {3, 7, 1024})
+    @DisplayName("헤더/빈 줄/추가 컬럼/CRLF가 섞여 있어도 각 줄의 첫 필드를 사용자 ID로 읽어야 한다.")
+    void read_ShouldParseFirstColumnAcrossWindows(long windowSize) throws IOException {
+        // given
+        Path file = write(CONTENT);
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(file, windowSize);
+
+        // when
+        reader.open(new ExecutionContext());
+        List<Long> userIds = readAll(reader);
+        reader.close();
+
+        // then
+        assertThat(userIds).containsExactly(1L, 22L, 333L, 4444L, 55555L, 987654321L);
+    }
+
+    @Test
+    @DisplayName("ExecutionContext에 저장된 바이트 위치부터 재시작해야 한다.")
+    void open_WithSavedOffset_ShouldResumeFromOffset() throws IOException {
+        // given: 3건 처리 후 커밋 지점에서 중단
+        Path file = write(CONTENT);
+        ExecutionContext executionContext = new ExecutionContext();
+        MappedUserIdItemReader first = new MappedUserIdItemReader(file, 4);
+        first.open(executionContext);
+        first.read();
+        first.read();
+        first.read();
+        first.update(executionContext);
+        first.close();
+
+        // when
+        MappedUserIdItemReader restarted = new MappedUserIdItemReader(file, 4);
+        restarted.open(executionContext);
+        List<Long> remaining = readAll(restarted);
+        restarted.close();
+
+        // then
+        assertThat(remaining).containsExactly(4444L, 55555L, 987654321L);
+    }
+
+    @Test
+    @DisplayName("빈 파일은 아무것도 읽지 않아야 한다.")
+    void read_EmptyFile_ShouldReturnNull() throws IOException {
+        // given
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(write(""));
+
+        // when
+        reader.open(new ExecutionContext());
+
+        // then
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"1\nkim\n3", "1\n12a3\n3", "1\n9223372036854775808\n3"})
+    @DisplayName("첫 줄 헤더가 아닌데 사용자 ID로 읽을 수 없는 줄은 건너뛰지 않고 위치와 함께 실패해야 한다.")
+    void read_InvalidLine_ShouldFailWithOffset(String content) throws IOException {
+        // given
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(write(content), 4);
+        reader.open(new ExecutionContext());
+
+        // when
+        Long first = reader.read();
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(ParseException.class)
+                .hasMessageContaining("2 바이트 위치");
+        reader.close();
+    }
+
+    @Test
+    @DisplayName("long 최댓값 사용자 ID는 그대로 읽어야 한다.")
+    void read_MaxLongUserId_ShouldParse() throws IOException {
+        // given
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(write(Long.MAX_VALUE + "\n"));
+        reader.open(new ExecutionContext());
+
+        // when & then
+        assertThat(reader.read()).isEqualTo(Long.MAX_VALUE);
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "매핑 창 {0}바이트")
+    @ValueSource(longs = {2, 1024})
+    @DisplayName("헤더 없이 UTF-8 BOM으로 시작하는 파일은 BOM만 건너뛰고 첫 줄부터 사용자 ID로 읽어야 한다.")
+    void read_BomWithoutHeader_ShouldKeepFirstUserId(long windowSize) throws IOException {
+        // given
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(write("\uFEFF1\n22\n333"), windowSize);
+
+        // when
+        reader.open(new ExecutionContext());
+        List<Long> userIds = readAll(reader);
+        reader.close();
+
+        // then
+        assertThat(userIds).containsExactly(1L, 22L, 333L);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"\uFEFFuserId\n1\n22", "2024_winners\n1\n22"})
+    @DisplayName("BOM 뒤의 헤더나 숫자로 시작하는 헤더처럼 사용자 ID로 읽히지 않는 첫 줄만 헤더로 건너뛰어야 한다.")
+    void read_HeaderNotParsableAsId_ShouldSkipFirstLine(String content) throws IOException {
+        // given
+        MappedUserIdItemReader reader = new MappedUserIdItemReader(write(content), 4);
+
+        // when
+        reader.open(new ExecutionContext());
+        List<Long> userIds = readAll(reader);
+        reader.close();
+
+        // then
+        assertThat(userIds).containsExactly(1L, 22L);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("winners.csv"), content);
+    }
+
+    private List<Long> readAll(MappedUserIdItemReader reader) {
+        List<Long> userIds = new ArrayList<>();
+        Long userId;
+        while ((userId = reader.read()) != null) {
+            userIds.add(userId);
+        }
+        return userIds;
+    }
+}
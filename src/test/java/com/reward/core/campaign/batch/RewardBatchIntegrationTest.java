@@ -5,15 +5,24 @@ import com.reward.core.reward.domain.RewardType;
 import com.reward.core.reward.repository.RewardHistoryRepository;
 import com.reward.core.AbstractIntegrationTest;
 import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,6 +38,17 @@ class RewardBatchIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private RewardHistoryRepository rewardHistoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAll();
+    }
+
     @Test
     @DisplayName("보상 지급 배치 작업이 성공적으로 완료되어야 한다.")
     void rewardJob_Success() throws Exception {
@@ -54,4 +74,209 @@ class RewardBatchIntegrationTest extends AbstractIntegrationTest {
         assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
         assertThat(rewardHistoryRepository.count()).isEqualTo(1000L);
     }
+
+    @Test
+    @DisplayName("당첨자 파일을 입력으로 주면 파일의 사용자 수만큼 보상 이력이 저장되어야 한다.")
+    void rewardJob_WithInputFile_Success() throws Exception {
+        // given
+        Reward reward = Reward.builder()
+                .name("파일 배치 보상")
+                .type(RewardType.POINT)
+                .totalQuantity(2500L)
+                .remainingQuantity(2500L)
+                .weight(100)
+                .build();
+        Long rewardId = rewardRepository.save(reward).getId();
+
+        Path inputFile = tempDir.resolve("winners.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(inputFile)) {
+            writer.write("userId\n");
+            for (long userId = 1; userId <= 2500; userId++) {
+                writer.write(userId + "\n");
+            }
+        }
+
+        // when
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addString("inputFile", inputFile.toString())
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(2500L);
+    }
+
+    @Test
+    @DisplayName("파티션 수를 지정하면 구간을 나누어 병렬 처리하고, 누락/중복 없이 정확한 건수가 저장되어야 한다.")
+    void rewardJob_Partitioned_Success() throws Exception {
+        // given
+        Long rewardId = saveReward("분할 배치 보상", 1000L);
+
+        // when
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addLong("partitions", 4L)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions())
+                .extracting(StepExecution::getStepName)
+                .filteredOn(name -> name.startsWith("rewardWorkerStep"))
+                .hasSize(4);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(1000L);
+        assertThat(countDistinctUsers()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("당첨자 파일을 분할 처리해도 줄 경계에서 누락/중복 없이 정확한 건수가 저장되어야 한다.")
+    void rewardJob_PartitionedWithInputFile_Success() throws Exception {
+        // given
+        Long rewardId = saveReward("분할 파일 배치 보상", 2500L);
+        Path inputFile = tempDir.resolve("partitioned-winners.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(inputFile)) {
+            writer.write("userId\n");
+            for (long userId = 1; userId <= 2500; userId++) {
+                writer.write(userId + "\n");
+            }
+        }
+
+        // when
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addString("inputFile", inputFile.toString())
+                .addLong("partitions", 3L)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(2500L);
+        assertThat(countDistinctUsers()).isEqualTo(2500L);
+    }
+
+    @Test
+    @DisplayName("배치 도중 재고가 소진되면 남은 수량만 지급하고, 미지급 사용자는 초과 파일에 기록되어야 한다.")
+    void rewardJob_StockRunsOutMidChunk_WritesOverflow() throws Exception {
+        // given: 청크(100건) 경계와 맞지 않는 재고 650개, 대상 1000명
+        Long rewardId = saveReward("부족 재고 배치 보상", 650L);
+
+        // when
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(650L);
+        assertThat(rewardRepository.findById(rewardId).orElseThrow().getRemainingQuantity()).isZero();
+
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getExecutionContext().getLong(RewardPayoutWriter.OVERFLOW_COUNT_KEY)).isEqualTo(350L);
+        Path overflowFile = Path.of(stepExecution.getExecutionContext().getString(RewardPayoutWriter.OVERFLOW_FILE_KEY));
+        assertThat(Files.readAllLines(overflowFile))
+                .hasSize(351) // 헤더 + 미지급 350명
+                .startsWith("userId", "651")
+                .endsWith("1000");
+    }
+
+    @Test
+    @DisplayName("입력 파일의 중복 사용자와 이미 지급된 사용자는 제외되고, 제외 건수가 filterCount로 집계되어야 한다.")
+    void rewardJob_DuplicateUsers_ShouldBeFiltered() throws Exception {
+        // given: 1~500 두 번 + 이미 지급된 사용자 1~100
+        Long rewardId = saveReward("중복 제외 배치 보상", 1000L);
+        jdbcTemplate.batchUpdate("INSERT INTO reward_histories (user_id, reward_id, received_at) VALUES (?, ?, NOW())",
+                java.util.stream.LongStream.rangeClosed(1, 100)
+                        .mapToObj(userId -> new Object[]{userId, rewardId})
+                        .toList());
+        Path inputFile = tempDir.resolve("duplicated-winners.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(inputFile)) {
+            for (int round = 0; round < 2; round++) {
+                for (long userId = 1; userId <= 500; userId++) {
+                    writer.write(userId + "\n");
+                }
+            }
+        }
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addString("inputFile", inputFile.toString())
+                .addLong("partitions", 2L)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(rewardHistoryRepository.count()).isEqualTo(500L);
+        assertThat(countDistinctUsers()).isEqualTo(500L);
+        assertThat(jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith("rewardWorkerStep"))
+                .mapToLong(StepExecution::getFilterCount)
+                .sum()).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("같은 대상으로 배치를 다시 실행하면 새로 저장되는 이력이 없어야 한다.")
+    void rewardJob_Rerun_ShouldNotPayTwice() throws Exception {
+        // given
+        Long rewardId = saveReward("재실행 배치 보상", 2000L);
+        JobParametersBuilder builder = new JobParametersBuilder().addLong("rewardId", rewardId);
+        jobLauncherTestUtils.launchJob(builder.addLong("time", System.currentTimeMillis()).toJobParameters());
+
+        // when
+        JobExecution rerun = jobLauncherTestUtils.launchJob(builder.addLong("time", System.currentTimeMillis() + 1).toJobParameters());
+
+        // then
+        assertThat(rerun.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(rerun.getStepExecutions().iterator().next().getFilterCount()).isEqualTo(1000L);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(1000L);
+        assertThat(rewardRepository.findById(rewardId).orElseThrow().getRemainingQuantity()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("없는 보상 ID로 실행하면 재고 예약이나 이력 저장 없이 잡이 실패해야 한다.")
+    void rewardJob_WithUnknownReward_ShouldFailBeforeProcessing() throws Exception {
+        // given
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("rewardId", Long.MAX_VALUE)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(jobExecution.getAllFailureExceptions())
+                .anySatisfy(e -> assertThat(e).hasStackTraceContaining("보상을 찾을 수 없습니다."));
+        assertThat(rewardHistoryRepository.count()).isZero();
+    }
+
+    private Long saveReward(String name, long quantity) {
+        Reward reward = Reward.builder()
+                .name(name)
+                .type(RewardType.POINT)
+                .totalQuantity(quantity)
+                .remainingQuantity(quantity)
+                .weight(100)
+                .build();
+        return rewardRepository.save(reward).getId();
+    }
+
+    private Long countDistinctUsers() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT user_id) FROM reward_histories", Long.class);
+    }
 }
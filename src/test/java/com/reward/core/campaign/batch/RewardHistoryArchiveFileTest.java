@@ -0,0 +1,93 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.HistoryRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RewardHistoryArchiveFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록한 이력을 같은 순서와 값(µs 단위 지급 시각, 음수 사용자 ID 포함)으로 다시 읽어야 한다.")
+    void read_ShouldReturnWrittenRows() throws IOException {
+        // given: ID 간격과 지급 시각이 불규칙하고 시각이 뒤섞인 이력
+        List<HistoryRow> rows = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        long id = 0;
+        for (int i = 0; i < 10_000; i++) {
+            id += ThreadLocalRandom.current().nextLong(1, 1_000);
+            rows.add(new HistoryRow(id,
+                    i % 100 == 0 ? -i : ThreadLocalRandom.current().nextLong(1, 10_000_000),
+                    ThreadLocalRandom.current().nextLong(1, 20),
+                    base.plusNanos(ThreadLocalRandom.current().nextLong(0, 31L * 24 * 3600 * 1_000_000) * 1_000)));
+        }
+
+        // when
+        Path file;
+        try (RewardHistoryArchiveFile.Writer writer = RewardHistoryArchiveFile.create(tempDir, "reward_histories-p202501")) {
+            for (HistoryRow row : rows) {
+                writer.write(row);
+            }
+            file = writer.commit();
+        }
+        List<HistoryRow> read = new ArrayList<>();
+        long count = RewardHistoryArchiveFile.read(file, read::add);
+
+        // then
+        assertThat(file.getFileName().toString()).isEqualTo("reward_histories-p202501-" + id + ".rha.gz");
+        assertThat(count).isEqualTo(rows.size());
+        assertThat(read).containsExactlyElementsOf(rows);
+        assertThat(Files.size(file)).isLessThan(rows.size() * 16L);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    @DisplayName("commit 없이 닫으면 임시 파일을 지워야 한다.")
+    void close_WithoutCommit_ShouldDeleteTempFile() throws IOException {
+        // given
+        try (RewardHistoryArchiveFile.Writer writer = RewardHistoryArchiveFile.create(tempDir, "reward_histories-p202501")) {
+            writer.write(new HistoryRow(1, 1, 1, LocalDateTime.of(2025, 1, 1, 0, 0)));
+        }
+
+        // then
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 아카이브 파일은 읽기에 실패해야 한다.")
+    void read_TruncatedFile_ShouldFail() throws IOException {
+        // given
+        Path file;
+        try (RewardHistoryArchiveFile.Writer writer = RewardHistoryArchiveFile.create(tempDir, "reward_histories-p202501")) {
+            for (long id = 1; id <= 1_000; id++) {
+                writer.write(new HistoryRow(id, id * 7, 1, LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id)));
+            }
+            file = writer.commit();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        // when & then
+        assertThatThrownBy(() -> RewardHistoryArchiveFile.read(file, row -> {
+        })).isInstanceOfAny(IllegalStateException.class, IOException.class);
+    }
+}
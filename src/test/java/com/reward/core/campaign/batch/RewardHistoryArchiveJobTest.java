@@ -0,0 +1,285 @@
+package com.reward.core.campaign.batch;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardHistory;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.dto.RewardStats;
+import com.reward.core.reward.repository.RewardDailyStatRepository;
+import com.reward.core.reward.repository.RewardHistoryArchiveRepository;
+import com.reward.core.reward.repository.RewardHistoryJdbcRepository;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.HistoryRow;
+import com.reward.core.reward.repository.RewardHistoryPartitionJdbcRepository.Partition;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.reward.service.RewardHistoryPartitionManager;
+import com.reward.core.reward.service.RewardStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RewardHistoryArchiveJobTest extends AbstractIntegrationTest {
+
+    private static final Path ARCHIVE_DIR = Path.of(System.getProperty("java.io.tmpdir"), "reward-history-archive-" + UUID.randomUUID());
+
+    @DynamicPropertySource
+    static void archiveDir(DynamicPropertyRegistry registry) {
+        registry.add("reward.history.archive-dir", ARCHIVE_DIR::toString);
+    }
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("rewardHistoryArchiveJob")
+    private Job rewardHistoryArchiveJob;
+
+    @Autowired
+    private RewardHistoryPartitionManager rewardHistoryPartitionManager;
+
+    @Autowired
+    private RewardStatsService rewardStatsService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+
+    @Autowired
+    private RewardDailyStatRepository rewardDailyStatRepository;
+
+    @Autowired
+    private RewardHistoryArchiveRepository rewardHistoryArchiveRepository;
+
+    @Autowired
+    private RewardHistoryPartitionJdbcRepository partitionRepository;
+
+    @Autowired
+    private PaidUserIndexRegistry paidUserIndexRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 보관 기간(기본 6개월)이 지난 일자
+    private final LocalDate coldDay = LocalDate.now().withDayOfMonth(10).minusMonths(8);
+    private final LocalDate today = LocalDate.now();
+    private Reward reward;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryPartitionManager.maintain();
+        rewardHistoryRepository.deleteAllInBatch();
+        rewardDailyStatRepository.deleteAllInBatch();
+        rewardHistoryArchiveRepository.deleteAllInBatch();
+        reward = rewardRepository.save(Reward.builder()
+                .name("아카이브 보상")
+                .type(RewardType.POINT)
+                .totalQuantity(100L)
+                .remainingQuantity(100L)
+                .weight(100)
+                .build());
+
+        List<RewardHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            histories.add(history(coldDay.atTime(9, i)));
+        }
+        for (int i = 0; i < 2; i++) {
+            histories.add(history(coldDay.plusDays(1).atTime(23, 59, 59, 999_999_000)));
+        }
+        for (int i = 0; i < 4; i++) {
+            histories.add(history(LocalDateTime.now().minusSeconds(i)));
+        }
+        rewardHistoryJdbcRepository.insertAll(histories);
+    }
+
+    /**
+     * 아카이브 목록은 다른 테스트 컨텍스트(다른 archive-dir)의 지급 잡도 읽으므로 남기지 않음
+     */
+    @AfterEach
+    void tearDown() {
+        rewardHistoryArchiveRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("MySQL에서는 보상 이력이 월별 파티션 테이블이고 다음 달 파티션이 미리 만들어져 있어야 한다.")
+    void maintain_ShouldPartitionByMonth() {
+        // when
+        List<Partition> partitions = rewardHistoryPartitionManager.getPartitions();
+
+        // then
+        assertThat(partitions).isNotEmpty().allMatch(Partition::physical);
+        assertThat(partitions.get(0).name()).isEqualTo("pold");
+        assertThat(partitions.get(partitions.size() - 1).name()).isEqualTo("pmax");
+        assertThat(partitions.get(partitions.size() - 2).to())
+                .isAfter(today.withDayOfMonth(1).plusMonths(1).atStartOfDay());
+        assertThat(rewardHistoryPartitionManager.findColdPartitions()).isNotEmpty();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() " +
+                "AND TABLE_NAME = 'reward_histories' AND INDEX_NAME = 'idx_reward_histories_reward_id' ORDER BY SEQ_IN_INDEX",
+                String.class)).containsExactly("reward_id", "id");
+    }
+
+    @Test
+    @DisplayName("집계만 실행해도 최근 일자 이전에 집계가 없던 일자는 원본 이력으로 채워야 한다.")
+    void rollUp_ShouldBackfillUncomputedDays() throws Exception {
+        // when
+        JobExecution jobExecution = run(false);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(rewardStatsService.getStats(coldDay, coldDay.plusDays(1), null).days()).containsExactly(
+                new RewardStats.DailyTotal(coldDay, 3),
+                new RewardStats.DailyTotal(coldDay.plusDays(1), 2));
+    }
+
+    @Test
+    @DisplayName("집계만 실행하면 원본 이력은 그대로 두고 최근 일자 통계를 집계에서 조회해야 한다.")
+    void rollUp_ShouldKeepHistories() throws Exception {
+        // when
+        JobExecution jobExecution = run(false);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(9);
+        RewardStats stats = rewardStatsService.getStats(today.minusDays(1), today, null);
+        assertThat(stats.totalIssued()).isEqualTo(4);
+        assertThat(stats.rewards()).containsExactly(new RewardStats.RewardTotal(reward.getId(), "아카이브 보상", 4));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션은 아카이브 파일로 옮겨 삭제하고, 일자별 건수는 집계에 남아야 한다.")
+    void archive_ShouldMoveColdPartitionsToFiles() throws Exception {
+        // when
+        JobExecution jobExecution = run(true);
+
+        // then: 원본에는 최근 이력만 남음
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(4);
+        assertThat(rewardHistoryPartitionManager.findColdPartitions()).isEmpty();
+
+        // 아카이브 파일에 콜드 이력 5건
+        List<HistoryRow> archived = new ArrayList<>();
+        for (Path file : archiveFiles()) {
+            RewardHistoryArchiveFile.read(file, archived::add);
+        }
+        assertThat(archived).hasSize(5)
+                .allMatch(row -> row.rewardId() == reward.getId() && row.receivedAt().toLocalDate().isBefore(coldDay.plusDays(2)));
+
+        // 통계는 집계에서 조회 (일자 경계 23:59:59.999999는 해당 일자)
+        RewardStats stats = rewardStatsService.getStats(coldDay.minusDays(1), coldDay.plusDays(2), null);
+        assertThat(stats.totalIssued()).isEqualTo(5);
+        assertThat(stats.days()).containsExactly(
+                new RewardStats.DailyTotal(coldDay, 3),
+                new RewardStats.DailyTotal(coldDay.plusDays(1), 2));
+    }
+
+    @Test
+    @DisplayName("아카이브를 다시 실행해도 집계 건수를 두 번 더하지 않아야 한다.")
+    void archive_Rerun_ShouldNotDoubleCount() throws Exception {
+        // given
+        run(true);
+
+        // when
+        JobExecution rerun = run(true);
+
+        // then
+        assertThat(rerun.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(rewardStatsService.getStats(coldDay, coldDay.plusDays(1), null).totalIssued()).isEqualTo(5);
+        assertThat(rewardStatsService.getStats(today, today, null).totalIssued()).isEqualTo(4);
+        assertThat(rewardHistoryArchiveRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("떼어 낸 뒤 늦게 들어온 이력은 떼어 낸 이력과 섞이지 않고 다음 아카이브에 포함되어야 한다.")
+    void archive_LateHistoryAfterDetach_ShouldBeArchivedSeparately() throws Exception {
+        // given: 이전 실행이 pold를 떼어 낸 뒤 중단되었고, 그 사이 과거 일자 이력이 늦게 들어옴
+        Partition old = rewardHistoryPartitionManager.getPartitions().get(0);
+        partitionRepository.detach(old);
+        rewardHistoryJdbcRepository.insertAll(List.of(history(coldDay.atTime(12, 0))));
+
+        // when
+        JobExecution jobExecution = run(true);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(partitionRepository.findDetachedTables()).isEmpty();
+        assertThat(rewardHistoryRepository.count()).isEqualTo(4);
+        assertThat(rewardHistoryArchiveRepository.findAll())
+                .extracting(archive -> archive.getRowCount())
+                .containsExactlyInAnyOrder(5L, 1L);
+        assertThat(rewardStatsService.getStats(coldDay, coldDay, null).totalIssued()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지급 완료 사용자 인덱스는 아카이브되어 원본에서 지워진 이력의 사용자도 포함해야 한다.")
+    void paidUserIndex_ShouldIncludeArchivedHistories() throws Exception {
+        // given: 콜드 이력만 있는 사용자 2
+        rewardHistoryJdbcRepository.insertAll(List.of(RewardHistory.builder()
+                .userId(2L)
+                .reward(reward)
+                .receivedAt(coldDay.atTime(10, 0))
+                .build()));
+        run(true);
+        long jobExecutionId = Long.MIN_VALUE;
+
+        // when
+        PaidUserIndex index = paidUserIndexRegistry.get(jobExecutionId, reward.getId());
+
+        // then
+        try {
+            assertThat(index.claim(2L)).isFalse();
+            assertThat(index.claim(1L)).isFalse();
+            assertThat(index.claim(3L)).isTrue();
+        } finally {
+            paidUserIndexRegistry.afterJob(new JobExecution(jobExecutionId));
+        }
+    }
+
+    private JobExecution run(boolean archive) throws Exception {
+        return jobLauncher.run(rewardHistoryArchiveJob, new JobParametersBuilder()
+                .addString("runKey", "test-" + UUID.randomUUID())
+                .addString("archive", String.valueOf(archive))
+                .toJobParameters());
+    }
+
+    private List<Path> archiveFiles() throws IOException {
+        try (var files = Files.list(ARCHIVE_DIR)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".rha.gz")).toList();
+        }
+    }
+
+    private RewardHistory history(LocalDateTime receivedAt) {
+        return RewardHistory.builder()
+                .userId(1L)
+                .reward(reward)
+                .receivedAt(receivedAt)
+                .build();
+    }
+}
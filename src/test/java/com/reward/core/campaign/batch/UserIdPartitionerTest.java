@@ -0,0 +1,63 @@
+package com.reward.core.campaign.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIdPartitionerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("사용자 ID 구간은 빈틈 없이 균등하게 나누어져야 한다.")
+    void partition_Range_ShouldCoverWholeRange() {
+        // when
+        Map<String, ExecutionContext> partitions = new UserIdPartitioner(3, null, 1, 1000).partition(0);
+
+        // then
+        assertThat(partitions.values())
+                .extracting(context -> context.getLong(UserIdPartitioner.START_ID) + "~" + context.getLong(UserIdPartitioner.END_ID))
+                .containsExactly("1~334", "335~667", "668~1000");
+    }
+
+    @Test
+    @DisplayName("파일 구간 경계는 줄 시작 위치에 맞춰지고, 각 구간을 읽은 결과를 합치면 원본과 같아야 한다.")
+    void partition_File_ShouldAlignToLineBoundaries() throws IOException {
+        // given
+        String content = "userId\n" + LongStream.rangeClosed(1, 997)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining("\n")) + "\n";
+        Path file = Files.writeString(tempDir.resolve("winners.csv"), content);
+
+        // when
+        Map<String, ExecutionContext> partitions = new UserIdPartitioner(4, file, 0, 0).partition(0);
+        List<Long> userIds = new ArrayList<>();
+        for (ExecutionContext context : partitions.values()) {
+            MappedUserIdItemReader reader = new MappedUserIdItemReader(file,
+                    context.getLong(UserIdPartitioner.START_OFFSET), context.getLong(UserIdPartitioner.END_OFFSET), 64);
+            reader.open(new ExecutionContext());
+            Long userId;
+            while ((userId = reader.read()) != null) {
+                userIds.add(userId);
+            }
+            reader.close();
+        }
+
+        // then
+        assertThat(partitions).hasSize(4);
+        assertThat(userIds).containsExactlyElementsOf(LongStream.rangeClosed(1, 997).boxed().toList());
+    }
+}
@@ -0,0 +1,120 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.campaign.dto.CampaignRequest;
+import com.reward.core.campaign.repository.CampaignRepository;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CampaignParticipationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    private final Long userId = 21L;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAll();
+        rewardRepository.deleteAll();
+        campaignRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("캠페인 참여는 해당 캠페인 보상 풀에서만 추첨해야 한다.")
+    void participate_ShouldDrawOnlyFromCampaignPool() {
+        // given
+        Long springId = openCampaign("봄 캠페인", 3);
+        Long summerId = openCampaign("여름 캠페인", 3);
+        Long springRewardId = rewardIn(springId, "봄 쿠폰");
+        Long summerRewardId = rewardIn(summerId, "여름 포인트");
+
+        // when
+        campaignService.participate(springId, userId);
+        campaignService.participate(springId, userId);
+        campaignService.participate(summerId, userId);
+
+        // then
+        Map<Long, Long> issued = rewardHistoryRepository.findAll().stream()
+                .collect(Collectors.groupingBy(history -> history.getReward().getId(), Collectors.counting()));
+        assertThat(issued).containsExactlyInAnyOrderEntriesOf(Map.of(springRewardId, 2L, summerRewardId, 1L));
+    }
+
+    @Test
+    @DisplayName("일일 참여 한도는 캠페인마다 따로 적용되어야 한다.")
+    void participate_ShouldApplyDailyLimitPerCampaign() {
+        // given
+        Long springId = openCampaign("봄 캠페인", 1);
+        Long summerId = openCampaign("여름 캠페인", 1);
+        rewardIn(springId, "봄 쿠폰");
+        rewardIn(summerId, "여름 포인트");
+        campaignService.participate(springId, userId);
+
+        // when & then
+        assertThatThrownBy(() -> campaignService.participate(springId, userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("오늘은 더 이상 참여할 수 없습니다. (일일 최대 1회)");
+        campaignService.participate(summerId, userId);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참여 기간이 아닌 캠페인은 참여 횟수를 쓰지 않고 거절해야 하며, 기간을 수정하면 바로 반영되어야 한다.")
+    void participate_OutsideWindow_ShouldBeRejected() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long campaignId = campaignService.create(new CampaignRequest("예정 캠페인",
+                now.plusDays(1), now.plusDays(2), 1, null, null)).id();
+        rewardIn(campaignId, "예정 쿠폰");
+
+        // when & then
+        assertThatThrownBy(() -> campaignService.participate(campaignId, userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("캠페인 참여 기간이 아닙니다.");
+
+        campaignService.update(campaignId, new CampaignRequest("예정 캠페인",
+                now.minusDays(1), now.plusDays(1), null, null, null));
+        campaignService.participate(campaignId, userId);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(1);
+    }
+
+    private Long openCampaign(String name, int dailyLimit) {
+        LocalDateTime now = LocalDateTime.now();
+        return campaignService.create(new CampaignRequest(name, now.minusHours(1), now.plusDays(1),
+                dailyLimit, null, null)).id();
+    }
+
+    private Long rewardIn(Long campaignId, String name) {
+        Long rewardId = rewardRepository.save(Reward.builder()
+                .name(name)
+                .type(RewardType.COUPON)
+                .totalQuantity(10L)
+                .remainingQuantity(10L)
+                .weight(100)
+                .build()).getId();
+        campaignService.assignReward(campaignId, rewardId);
+        return rewardId;
+    }
+}
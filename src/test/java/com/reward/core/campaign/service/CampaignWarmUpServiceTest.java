@@ -0,0 +1,106 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "reward.inventory.redis-stock.enabled=true",
+        "reward.warm-up.round-iterations=500",
+        "reward.warm-up.max-iterations=2000"
+})
+class CampaignWarmUpServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CampaignWarmUpService warmUpService;
+
+    @Autowired
+    private CampaignWarmUpHealthIndicator healthIndicator;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long rewardId;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAll();
+        rewardRepository.deleteAll();
+        rewardId = rewardRepository.save(Reward.builder()
+                .name("워밍업 쿠폰")
+                .type(RewardType.COUPON)
+                .totalQuantity(50L)
+                .remainingQuantity(50L)
+                .weight(100)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("워밍업은 보상 스냅샷과 Redis 재고 키를 적재하고 커넥션을 연 뒤, 가상 실행으로 만든 Redis 키를 지워야 한다.")
+    void warmUp_ShouldPreloadAndCleanUpDryRunKeys() {
+        // when
+        CampaignWarmUpService.Report report = warmUpService.warmUp(null);
+
+        // then
+        assertThat(report.state()).isEqualTo(CampaignWarmUpService.State.READY);
+        assertThat(report.rewards()).isEqualTo(1);
+        assertThat(report.stockKeysLoaded()).isEqualTo(1);
+        assertThat(report.connections()).isPositive();
+        assertThat(report.dryRunIterations()).isBetween(1L, 2000L);
+        assertThat(redisTemplate.opsForValue().get("reward:stock:" + rewardId)).isEqualTo("50");
+
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertThat(redisTemplate.hasKey("user:participation:-1:" + today)).isFalse();
+        assertThat(redisTemplate.hasKey("rate_limit:gcra:user:-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 적재된 Redis 재고는 다시 워밍업해도 덮어쓰지 않아야 한다.")
+    void warmUp_ShouldNotOverwriteLoadedStock() {
+        // given
+        warmUpService.warmUp(null);
+        redisTemplate.opsForValue().set("reward:stock:" + rewardId, "7");
+
+        // when
+        CampaignWarmUpService.Report report = warmUpService.warmUp(null);
+
+        // then
+        assertThat(report.stockKeysLoaded()).isZero();
+        assertThat(redisTemplate.opsForValue().get("reward:stock:" + rewardId)).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("기동 워밍업이 없으면 헬스 지표는 UP이며 보상 풀별 워밍업 결과를 상세 정보로 노출해야 한다.")
+    void health_ShouldExposeReports() {
+        // given
+        warmUpService.warmUp(null);
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsKey("default");
+    }
+}
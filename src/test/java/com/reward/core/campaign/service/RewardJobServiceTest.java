@@ -0,0 +1,174 @@
+package com.reward.core.campaign.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.campaign.dto.JobProgress;
+import com.reward.core.campaign.dto.StepProgress;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RewardJobServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RewardJobService rewardJobService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("배치를 비동기로 시작하면 실행 ID가 바로 반환되고, 완료 후 진행 현황에 파티션별 처리 건수가 집계되어야 한다.")
+    void start_ShouldReturnExecutionIdAndReportProgress() throws Exception {
+        // given
+        Long rewardId = saveReward(1000L);
+
+        // when
+        Long executionId = rewardJobService.start(rewardId, null, 4);
+        JobProgress progress = awaitFinished(executionId);
+
+        // then
+        assertThat(progress.status()).isEqualTo(BatchStatus.COMPLETED.name());
+        assertThat(progress.readCount()).isEqualTo(1000L);
+        assertThat(progress.writeCount()).isEqualTo(1000L);
+        assertThat(progress.skipCount()).isZero();
+        assertThat(progress.progress()).isEqualTo(1.0);
+        assertThat(progress.etaSeconds()).isNull();
+        assertThat(progress.steps())
+                .extracting(StepProgress::stepName)
+                .filteredOn(name -> name.startsWith("rewardWorkerStep"))
+                .hasSize(4);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("완료된 배치는 재시작할 수 없어야 한다.")
+    void restart_CompletedJob_ShouldFail() throws Exception {
+        // given
+        Long executionId = rewardJobService.start(saveReward(10L), null, 1);
+        awaitFinished(executionId);
+
+        // when & then
+        assertThatThrownBy(() -> rewardJobService.restart(executionId))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("중단된 노드에서 STARTED로 남아 갱신이 멈춘 실행은 실패 처리 후 재시작되어야 한다.")
+    void restart_StaleStartedExecution_ShouldFailItAndRestart() throws Exception {
+        // given
+        JobExecution crashed = createStartedExecution(saveReward(10L));
+        markLastUpdated(crashed, LocalDateTime.now().minusHours(1));
+
+        // when
+        Long restartedId = rewardJobService.restart(crashed.getId());
+        JobProgress progress = awaitFinished(restartedId);
+
+        // then
+        JobExecution stale = jobExplorer.getJobExecution(crashed.getId());
+        assertThat(stale.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(stale.getStepExecutions()).allSatisfy(step -> assertThat(step.getStatus()).isEqualTo(BatchStatus.FAILED));
+        assertThat(progress.status()).isEqualTo(BatchStatus.COMPLETED.name());
+        assertThat(rewardHistoryRepository.count()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("최근까지 갱신된 STARTED 실행은 다른 노드에서 실행 중일 수 있으므로 재시작할 수 없어야 한다.")
+    void restart_RecentlyUpdatedStartedExecution_ShouldFail() throws Exception {
+        // given
+        JobExecution running = createStartedExecution(saveReward(10L));
+
+        // when & then
+        assertThatThrownBy(() -> rewardJobService.restart(running.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(jobExplorer.getJobExecution(running.getId()).getStatus()).isEqualTo(BatchStatus.STARTED);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 실행 ID를 조회하면 예외가 발생해야 한다.")
+    void getProgress_UnknownExecution_ShouldFail() {
+        assertThatThrownBy(() -> rewardJobService.getProgress(Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("배치 작업을 찾을 수 없습니다.");
+    }
+
+    private JobProgress awaitFinished(Long executionId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        JobProgress progress = rewardJobService.getProgress(executionId);
+        while (BatchStatus.valueOf(progress.status()).isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            progress = rewardJobService.getProgress(executionId);
+        }
+        return progress;
+    }
+
+    /**
+     * 노드가 rewardStep 실행 중에 중단된 상황 (잡/Step 실행이 STARTED로 남음)
+     */
+    private JobExecution createStartedExecution(Long rewardId) throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("rewardId", rewardId)
+                .addLong("partitions", 1L)
+                .addLong("time", System.nanoTime())
+                .toJobParameters();
+        JobExecution jobExecution = jobRepository.createJobExecution("rewardJob", jobParameters);
+        jobExecution.setStatus(BatchStatus.STARTED);
+        jobExecution.setStartTime(LocalDateTime.now());
+        jobRepository.update(jobExecution);
+        StepExecution stepExecution = jobExecution.createStepExecution("rewardStep");
+        stepExecution.setStatus(BatchStatus.STARTED);
+        stepExecution.setStartTime(LocalDateTime.now());
+        jobRepository.add(stepExecution);
+        return jobExecution;
+    }
+
+    private void markLastUpdated(JobExecution jobExecution, LocalDateTime lastUpdated) {
+        jdbcTemplate.update("UPDATE BATCH_JOB_EXECUTION SET LAST_UPDATED = ? WHERE JOB_EXECUTION_ID = ?",
+                lastUpdated, jobExecution.getId());
+        jdbcTemplate.update("UPDATE BATCH_STEP_EXECUTION SET LAST_UPDATED = ? WHERE JOB_EXECUTION_ID = ?",
+                lastUpdated, jobExecution.getId());
+    }
+
+    private Long saveReward(long quantity) {
+        return rewardRepository.save(Reward.builder()
+                .name("비동기 배치 보상")
+                .type(RewardType.POINT)
+                .totalQuantity(quantity)
+                .remainingQuantity(quantity)
+                .weight(100)
+                .build()).getId();
+    }
+}
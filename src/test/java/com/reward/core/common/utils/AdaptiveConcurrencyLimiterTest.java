@@ -0,0 +1,165 @@
+package com.reward.core.common.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long PHASE_MILLIS = 90_000;
+    private static final long MEASURE_MILLIS = 30_000;
+    private static final long BASE_RTT_MILLIS = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final long[] now = {0};
+
+    /**
+     * @param overloaded 공급자가 과부하로 거절한 요청인지
+     */
+    private record Call(long doneNanos, boolean overloaded, AdaptiveConcurrencyLimiter.Permit permit) {
+    }
+
+    @Test
+    @DisplayName("한도만큼 허가한 뒤에는 대기하지 않고 거절하며, 반납하면 다시 허가해야 한다.")
+    void tryAcquire_ShouldRejectBeyondLimit() {
+        // given
+        AdaptiveConcurrencyLimiter.Settings settings = new AdaptiveConcurrencyLimiter.Settings();
+        settings.setInitialLimit(2);
+        AdaptiveConcurrencyLimiter limiter = limiter(settings);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // when
+        AdaptiveConcurrencyLimiter.Permit rejected = limiter.tryAcquire();
+        first.onSuccess();
+        first.onSuccess();
+
+        // then
+        assertThat(rejected).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isNotNull();
+        assertThat(meterRegistry.get("reward.concurrency.rejections").tag("limiter", "simulation").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 허가는 반납되는 즉시 깨어나 허가하고, 기한 안에 자리가 나지 않으면 거절해야 한다.")
+    void acquire_ShouldWaitForReleaseWithinTimeout() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter.Settings settings = new AdaptiveConcurrencyLimiter.Settings();
+        settings.setInitialLimit(1);
+        AdaptiveConcurrencyLimiter limiter = limiter(settings);
+        AdaptiveConcurrencyLimiter.Permit held = limiter.tryAcquire();
+
+        // when
+        AdaptiveConcurrencyLimiter.Permit timedOut = limiter.acquire(50, TimeUnit.MILLISECONDS);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        held.onSuccess();
+
+        // then
+        assertThat(timedOut).isNull();
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("윈도우 안에 실패가 있으면 한도를 backoff-ratio만큼 줄여야 한다.")
+    void onDropped_ShouldDecreaseLimit() {
+        // given
+        AdaptiveConcurrencyLimiter.Settings settings = new AdaptiveConcurrencyLimiter.Settings();
+        settings.setInitialLimit(100);
+        AdaptiveConcurrencyLimiter limiter = limiter(settings);
+
+        // when
+        for (int i = 0; i < settings.getWindowMinSamples(); i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            now[0] += TimeUnit.MILLISECONDS.toNanos(settings.getWindowMillis());
+            if (i == 0) {
+                permit.onDropped();
+            } else {
+                permit.onSuccess();
+            }
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(90);
+        assertThat(meterRegistry.get("reward.concurrency.limit").tag("limiter", "simulation").gauge().value())
+                .isEqualTo(90.0);
+    }
+
+    /**
+     * 가상 시간(1ms 단위)으로 공급자를 시뮬레이션합니다.
+     * 공급자는 capacity건까지는 기본 RTT로 응답하고, 그 이상은 동시 요청 수에 비례해 느려지며 (큐잉),
+     * capacity의 2배를 넘으면 과부하 오류를 반환합니다. 발송 측 수요는 항상 한도보다 많습니다.
+     * 처리 용량이 40 -> 10 (장애) -> 40 (복구)으로 바뀌는 동안 한도가 각 용량 근처로 수렴하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("공급자 처리 용량이 바뀌면 동시 요청 한도가 응답 시간을 보고 해당 용량 근처로 수렴해야 한다.")
+    void simulation_ShouldConvergeToProviderCapacity() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(new AdaptiveConcurrencyLimiter.Settings());
+        int[] capacities = {40, 10, 40};
+        double[] averageLimits = new double[capacities.length];
+        PriorityQueue<Call> calls = new PriorityQueue<>(Comparator.comparingLong(Call::doneNanos));
+
+        // when
+        for (long tick = 0; tick < PHASE_MILLIS * capacities.length; tick++) {
+            now[0] = tick * TICK_NANOS;
+            int phase = (int) (tick / PHASE_MILLIS);
+            int capacity = capacities[phase];
+
+            while (!calls.isEmpty() && calls.peek().doneNanos() <= now[0]) {
+                Call call = calls.poll();
+                if (call.overloaded()) {
+                    call.permit().onDropped();
+                } else {
+                    call.permit().onSuccess();
+                }
+            }
+
+            AdaptiveConcurrencyLimiter.Permit permit;
+            while ((permit = limiter.tryAcquire()) != null) {
+                int inFlight = limiter.getInFlight();
+                long rttMillis = (long) (BASE_RTT_MILLIS * Math.max(1.0, (double) inFlight / capacity));
+                calls.add(new Call(now[0] + rttMillis * TICK_NANOS, inFlight > capacity * 2, permit));
+            }
+
+            // 각 구간의 마지막 30초 동안 1초마다 한도를 기록
+            if (tick % PHASE_MILLIS >= PHASE_MILLIS - MEASURE_MILLIS && tick % 1_000 == 0) {
+                averageLimits[phase] += limiter.getLimit() / (MEASURE_MILLIS / 1_000.0);
+            }
+        }
+
+        // then
+        for (int phase = 0; phase < capacities.length; phase++) {
+            assertThat(averageLimits[phase])
+                    .as("구간 %d (용량 %d)의 평균 한도", phase, capacities[phase])
+                    .isBetween((double) capacities[phase], capacities[phase] * 2.5);
+        }
+        assertThat(averageLimits[1]).isLessThan(averageLimits[0] / 2);
+        assertThat(averageLimits[2]).isGreaterThan(averageLimits[1] * 2);
+        assertThat(meterRegistry.get("reward.concurrency.rtt").tags("limiter", "simulation", "window", "short").gauge().value())
+                .isGreaterThanOrEqualTo(BASE_RTT_MILLIS);
+        assertThat(meterRegistry.get("reward.concurrency.rejections").tag("limiter", "simulation").counter().count())
+                .isPositive();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(AdaptiveConcurrencyLimiter.Settings settings) {
+        return new AdaptiveConcurrencyLimiter("simulation", settings, meterRegistry, () -> now[0]);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reward.core.common.utils;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AliasMethodPickerTest {
+
+    @Test
+    @DisplayName("별칭 테이블 선택 결과가 가중치 비율을 통계적으로 따라야 한다.")
+    void pick_WithWeights_ShouldFollowProbability() {
+        // given
+        Reward r1 = Reward.builder().id(1L).name("10%").weight(10).type(RewardType.POINT).build();
+        Reward r2 = Reward.builder().id(2L).name("20%").weight(20).type(RewardType.POINT).build();
+        Reward r3 = Reward.builder().id(3L).name("70%").weight(70).type(RewardType.POINT).build();
+
+        AliasMethodPicker<Reward> picker = new AliasMethodPicker<>(List.of(r1, r2, r3), Reward::getWeight);
+
+        int iterations = 100_000;
+        Map<String, Integer> counts = new HashMap<>();
+
+        // when
+        for (int i = 0; i < iterations; i++) {
+            Reward picked = picker.pick();
+            counts.put(picked.getName(), counts.getOrDefault(picked.getName(), 0) + 1);
+        }
+
+        // then
+        assertThat((double) counts.get("10%") / iterations).isCloseTo(0.10, within(0.01));
+        assertThat((double) counts.get("20%") / iterations).isCloseTo(0.20, within(0.01));
+        assertThat((double) counts.get("70%") / iterations).isCloseTo(0.70, within(0.01));
+    }
+
+    @Test
+    @DisplayName("가중치가 0인 보상은 선택되지 않아야 하며, 후보가 없으면 null을 반환해야 한다.")
+    void pick_WithZeroWeights_ShouldSkipOrReturnNull() {
+        // given
+        Reward zero = Reward.builder().id(1L).name("0%").weight(0).type(RewardType.POINT).build();
+        Reward all = Reward.builder().id(2L).name("100%").weight(5).type(RewardType.POINT).build();
+
+        AliasMethodPicker<Reward> picker = new AliasMethodPicker<>(List.of(zero, all), Reward::getWeight);
+        AliasMethodPicker<Reward> emptyPicker = new AliasMethodPicker<>(List.of(zero), Reward::getWeight);
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(picker.pick().getName()).isEqualTo("100%");
+        }
+        assertThat(emptyPicker.pick()).isNull();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reward.core.common.utils;
+
+import com.reward.core.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistributedRateLimiterTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DistributedRateLimiter distributedRateLimiter;
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("같은 밀리초에 몰린 동시 요청도 윈도우 내 허용 횟수만큼만 통과해야 한다.")
+    void isAllowed_ConcurrentBurst_ShouldAllowExactlyLimit(RateLimitAlgorithm algorithm) throws InterruptedException {
+        // given
+        String key = "test:burst:" + algorithm.name();
+        int limit = 20;
+        int threadCount = 100;
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    ready.await();
+                    if (distributedRateLimiter.isAllowed(key, limit, 60, algorithm)) {
+                        allowed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+        }
+
+        // then
+        assertThat(allowed.get()).isEqualTo(limit);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("윈도우가 지나면 다시 허용되어야 한다.")
+    void isAllowed_AfterWindow_ShouldAllowAgain(RateLimitAlgorithm algorithm) throws InterruptedException {
+        // given
+        String key = "test:window:" + algorithm.name();
+        for (int i = 0; i < 5; i++) {
+            assertThat(distributedRateLimiter.isAllowed(key, 5, 1, algorithm)).isTrue();
+        }
+        assertThat(distributedRateLimiter.isAllowed(key, 5, 1, algorithm)).isFalse();
+
+        // when
+        // 2개 버킷 가중 합산은 이전 윈도우가 완전히 지나야 0이 되므로 2배 대기
+        Thread.sleep(2_100);
+
+        // then
+        assertThat(distributedRateLimiter.isAllowed(key, 5, 1, algorithm)).isTrue();
+    }
+}
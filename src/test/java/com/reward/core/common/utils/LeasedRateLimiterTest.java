@@ -0,0 +1,109 @@
+package com.reward.core.common.utils;
+
+import com.reward.core.AbstractIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 여러 개를 같은 Redis에 붙여 임대 방식의 정확도와 Redis 호출 감소를 확인합니다.
+ */
+class LeasedRateLimiterTest extends AbstractIntegrationTest {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private DistributedRateLimiter distributedRateLimiter;
+
+    @Autowired
+    private RedisHealthCircuit redisHealthCircuit;
+
+    @Test
+    @DisplayName("여러 노드가 동시에 요청해도 전체 허용 횟수는 윈도우 예산을 넘지 않아야 한다.")
+    void isAllowed_MultiNode_ShouldNotExceedGlobalLimit() throws InterruptedException {
+        // given
+        int nodeCount = 4;
+        int requestsPerNode = 200;
+        int limit = 100;
+        List<SimpleMeterRegistry> registries = new ArrayList<>();
+        List<LeasedRateLimiter> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            registries.add(registry);
+            nodes.add(new LeasedRateLimiter(redisTemplate, distributedRateLimiter, redisHealthCircuit, registry, true, 0.25, 200, Set.of("test")));
+        }
+        String key = "test:lease:multi-node:" + System.nanoTime();
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (LeasedRateLimiter node : nodes) {
+                for (int i = 0; i < requestsPerNode; i++) {
+                    executorService.submit(() -> {
+                        ready.await();
+                        if (node.isAllowed(key, limit, WINDOW_SECONDS)) {
+                            allowed.incrementAndGet();
+                        }
+                        return null;
+                    });
+                }
+            }
+            ready.countDown();
+        } finally {
+            nodes.forEach(LeasedRateLimiter::shutdown);
+        }
+
+        // then
+        double redisCalls = registries.stream()
+                .mapToDouble(registry -> registry.get("reward.rate-limit.lease.redis.calls").tag("operation", "lease").counter().count())
+                .sum();
+        System.out.printf("허용: %d / 요청: %d, Redis 임대 호출: %.0f%n", allowed.get(), nodeCount * requestsPerNode, redisCalls);
+
+        assertThat(allowed.get()).isLessThanOrEqualTo(limit);
+        assertThat(allowed.get()).isGreaterThan(limit / 2);
+        assertThat(redisCalls).isLessThan(nodeCount * requestsPerNode / 10.0);
+    }
+
+    @Test
+    @DisplayName("단일 노드는 임대분으로 대부분을 로컬에서 판정하고, 유휴 잔량은 Redis에 반환해야 한다.")
+    void isAllowed_SingleNode_ShouldDecideLocallyAndReturnUnused() throws InterruptedException {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LeasedRateLimiter node = new LeasedRateLimiter(redisTemplate, distributedRateLimiter, redisHealthCircuit, registry, true, 0.5, 100, Set.of("test"));
+        String key = "test:lease:single-node:" + System.nanoTime();
+        int limit = 100;
+
+        try {
+            // when
+            for (int i = 0; i < 10; i++) {
+                assertThat(node.isAllowed(key, limit, WINDOW_SECONDS)).isTrue();
+            }
+            Thread.sleep(500);
+
+            // then: 10개만 사용했으므로 임대분의 나머지는 반환됨
+            long window = System.currentTimeMillis() / (WINDOW_SECONDS * 1000L);
+            String leased = redisTemplate.opsForValue().get("rate_limit:lease:" + key + ":" + window);
+            assertThat(leased).isEqualTo("10");
+            assertThat(registry.get("reward.rate-limit.lease.decisions").tag("source", "local").counter().count())
+                    .isEqualTo(9.0);
+        } finally {
+            node.shutdown();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reward.core.common.utils;
+
+import com.reward.core.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew benchmark 로 실행
+ * 알고리즘별 Redis 메모리 사용량(used_memory 증가분)과 처리량을 비교합니다.
+ */
+@Tag("benchmark")
+class RateLimitAlgorithmBenchmark extends AbstractIntegrationTest {
+
+    private static final int USERS = 5_000;
+    private static final int REQUESTS_PER_USER = 40;
+    private static final int LIMIT = 100;
+    private static final int WINDOW_SECONDS = 60;
+    private static final int CLIENTS = 64;
+
+    @Autowired
+    private DistributedRateLimiter distributedRateLimiter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("처리율 제한 알고리즘별 Redis 메모리와 처리량 비교")
+    void compare_MemoryAndThroughput(RateLimitAlgorithm algorithm) throws InterruptedException {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        long memoryBefore = usedMemory();
+
+        int totalRequests = USERS * REQUESTS_PER_USER;
+        CountDownLatch latch = new CountDownLatch(totalRequests);
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(CLIENTS, Thread.ofVirtual().factory())) {
+            for (int request = 0; request < REQUESTS_PER_USER; request++) {
+                for (int user = 0; user < USERS; user++) {
+                    String key = "bench:" + user;
+                    executorService.submit(() -> {
+                        try {
+                            distributedRateLimiter.isAllowed(key, LIMIT, WINDOW_SECONDS, algorithm);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+            }
+            latch.await();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long memoryUsed = usedMemory() - memoryBefore;
+
+        System.out.printf("[%s] %,.0f ops/s, Redis 메모리 %,d bytes (%.1f B/key)%n",
+                algorithm, totalRequests / seconds, memoryUsed, (double) memoryUsed / USERS);
+
+        assertThat(redisTemplate.hasKey(algorithm.redisKey("bench:0"))).isTrue();
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+}
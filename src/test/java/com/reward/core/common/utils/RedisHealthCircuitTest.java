@@ -0,0 +1,102 @@
+package com.reward.core.common.utils;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisHealthCircuitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisHealthCircuit redisHealthCircuit;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMillis(100))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build();
+        redisHealthCircuit = new RedisHealthCircuit(CircuitBreakerRegistry.of(config), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("실패가 누적되어 서킷이 열리면 Redis를 호출하지 않고 곧바로 로컬 구현으로 처리해야 한다.")
+    void execute_WhenOpen_ShouldSkipRedisCall() {
+        // given
+        AtomicInteger redisCalls = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            redisHealthCircuit.execute("test", () -> {
+                redisCalls.incrementAndGet();
+                throw new RedisConnectionFailureException("Redis is down");
+            }, () -> "local");
+        }
+
+        // when
+        String result = redisHealthCircuit.execute("test", () -> {
+            redisCalls.incrementAndGet();
+            return "redis";
+        }, () -> "local");
+
+        // then
+        assertThat(result).isEqualTo("local");
+        assertThat(redisCalls.get()).isEqualTo(4);
+        assertThat(redisHealthCircuit.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("reward.redis.fallbacks").tag("component", "test").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("reward.redis.outages").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("reward.redis.available").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("대기 후 탐침 요청이 성공하여 서킷이 닫히면 복구 작업이 실행되어야 한다.")
+    void execute_WhenRecovered_ShouldRunRecoveryTasks() throws InterruptedException {
+        // given
+        CountDownLatch recovered = new CountDownLatch(1);
+        redisHealthCircuit.onRecovery(recovered::countDown);
+        for (int i = 0; i < 4; i++) {
+            redisHealthCircuit.execute("test", () -> {
+                throw new RedisConnectionFailureException("Redis is down");
+            }, () -> "local");
+        }
+        Thread.sleep(150);
+
+        // when
+        String result = redisHealthCircuit.execute("test", () -> "redis", () -> "local");
+
+        // then
+        assertThat(result).isEqualTo("redis");
+        assertThat(recovered.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(redisHealthCircuit.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재실행하면 안 되는 호출은 연결 실패일 때만 로컬 구현으로 처리하고, 타임아웃 등 결과를 알 수 없는 실패는 그대로 던져야 한다.")
+    void executeAtMostOnce_ShouldFallbackOnlyWhenCommandWasNotSent() {
+        // when
+        String connectionFailure = redisHealthCircuit.executeAtMostOnce("test", () -> {
+            throw new RedisConnectionFailureException("Redis is down");
+        }, () -> "local");
+
+        // then
+        assertThat(connectionFailure).isEqualTo("local");
+        assertThatThrownBy(() -> redisHealthCircuit.executeAtMostOnce("test", () -> {
+            throw new QueryTimeoutException("Redis command timed out");
+        }, () -> "local"))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(meterRegistry.get("reward.redis.fallbacks").tag("component", "test").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,78 @@
+package com.reward.core.common.utils;
+
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class RewardPickerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURE_ITERATIONS = 1_000_000;
+
+    @ParameterizedTest(name = "보상 {0}개")
+    @ValueSource(ints = {3, 10_000})
+    @DisplayName("요청마다 WeightedRandomPicker를 생성하는 방식과 캐시된 별칭 테이블의 선택 성능 비교")
+    void compare_PerRequestTreeMap_With_CachedAliasTable(int poolSize) {
+        List<Reward> rewards = LongStream.rangeClosed(1, poolSize)
+                .mapToObj(id -> Reward.builder()
+                        .id(id)
+                        .name("보상 " + id)
+                        .type(RewardType.POINT)
+                        .weight(ThreadLocalRandom.current().nextInt(1, 100))
+                        .build())
+                .toList();
+        AliasMethodPicker<Reward> aliasPicker = new AliasMethodPicker<>(rewards, Reward::getWeight);
+
+        // 1만 개 풀에서 요청마다 TreeMap을 만드는 기존 방식은 반복 횟수를 줄여 측정
+        int treeMapIterations = poolSize > 100 ? MEASURE_ITERATIONS / 1_000 : MEASURE_ITERATIONS;
+        Result treeMap = measure(() -> new WeightedRandomPicker(rewards).pick(), treeMapIterations);
+        Result alias = measure(aliasPicker::pick, MEASURE_ITERATIONS);
+
+        System.out.printf("[pool=%d] per-request TreeMap: %,.0f ops/s, %.1f B/op%n", poolSize, treeMap.opsPerSecond(), treeMap.bytesPerOp());
+        System.out.printf("[pool=%d] cached alias table: %,.0f ops/s, %.1f B/op%n", poolSize, alias.opsPerSecond(), alias.bytesPerOp());
+
+        assertThat(alias.bytesPerOp()).isLessThan(1.0);
+    }
+
+    private record Result(double opsPerSecond, double bytesPerOp) {
+    }
+
+    private Result measure(Supplier<Reward> pick, int iterations) {
+        for (int i = 0; i < Math.min(WARMUP_ITERATIONS, iterations); i++) {
+            consume(pick.get());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            consume(pick.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(iterations * 1_000_000_000.0 / elapsed, (double) allocated / iterations);
+    }
+
+    private long sink;
+
+    private void consume(Reward reward) {
+        sink += reward.getId();
+    }
+}
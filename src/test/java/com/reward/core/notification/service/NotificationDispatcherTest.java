@@ -0,0 +1,336 @@
+package com.reward.core.notification.service;
+
+import com.reward.core.common.config.NotificationProperties;
+import com.reward.core.common.utils.AdaptiveConcurrencyLimiter;
+import com.reward.core.notification.domain.NotificationDeadLetter;
+import com.reward.core.notification.event.NotificationCompletedEvent;
+import com.reward.core.notification.repository.NotificationDeadLetterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final NotificationDeadLetterRepository deadLetterRepository = mock(NotificationDeadLetterRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationProperties properties = new NotificationProperties();
+    private final List<NotificationDispatcher> dispatchers = new ArrayList<>();
+
+    @TempDir
+    Path spillDir;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        properties.setMulticastSize(500);
+        properties.setLingerMillis(200);
+        properties.setQueueCapacity(10_000);
+        properties.setSpillDir(spillDir.toString());
+        properties.getRetry().setBackoffBaseMillis(10);
+        properties.getRetry().setBackoffMaxMillis(50);
+        when(notificationService.acquire(anyLong())).thenReturn(mock(AdaptiveConcurrencyLimiter.Permit.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatchers.stream().filter(NotificationDispatcher::isRunning).forEach(NotificationDispatcher::stop);
+    }
+
+    @Test
+    @DisplayName("발송 한도만큼 모이면 한 번의 일괄 발송으로 묶고, 나머지는 대기 시간이 지나면 발송해야 한다.")
+    void enqueue_ShouldFlushByMulticastSizeAndLinger() {
+        // given
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> respond(invocation.getArgument(0), n -> null));
+        for (long userId = 1; userId <= 1200; userId++) {
+            dispatcher.enqueue(userId, "당첨을 축하드립니다!");
+        }
+
+        // when
+        dispatcher.start();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationService.Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, timeout(2_000).times(3)).sendMulticast(captor.capture(), any());
+        assertThat(captor.getAllValues())
+                .extracting(List::size)
+                .containsExactlyInAnyOrder(500, 500, 200);
+    }
+
+    @Test
+    @DisplayName("발송기는 동시 요청 허가를 받은 만큼만 묶음을 발송해야 한다.")
+    void dispatch_ShouldBeBoundedByConcurrencyLimit() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter.Settings settings = new AdaptiveConcurrencyLimiter.Settings();
+        settings.setInitialLimit(2);
+        settings.setMaxLimit(2);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, meterRegistry);
+        when(notificationService.acquire(anyLong()))
+                .thenAnswer(invocation -> limiter.acquire(invocation.getArgument(0), TimeUnit.MILLISECONDS));
+        properties.setMulticastSize(10);
+        NotificationDispatcher dispatcher = dispatcher();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            concurrent.decrementAndGet();
+            invocation.getArgument(1, AdaptiveConcurrencyLimiter.Permit.class).onSuccess();
+            return respond(invocation.getArgument(0), n -> null);
+        });
+        for (long userId = 1; userId <= 200; userId++) {
+            dispatcher.enqueue(userId, "당첨을 축하드립니다!");
+        }
+
+        // when
+        dispatcher.start();
+        dispatcher.stop();
+
+        // then
+        assertThat(recipients("success")).isEqualTo(200.0);
+        assertThat(maxConcurrent.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 요청 허가를 받지 못한 묶음은 시도 횟수를 늘리지 않고 다시 큐에 넣어야 한다.")
+    void permitTimeout_ShouldRequeueWithoutCountingAttempt() throws InterruptedException {
+        // given
+        properties.getRetry().setMaxAttempts(1);
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.acquire(anyLong()))
+                .thenReturn(null, null, mock(AdaptiveConcurrencyLimiter.Permit.class));
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> respond(invocation.getArgument(0), n -> null));
+        dispatcher.start();
+
+        // when
+        dispatcher.enqueue(1L, "당첨을 축하드립니다!");
+
+        // then
+        verify(notificationService, timeout(2_000)).sendMulticast(anyList(), any());
+        dispatcher.stop();
+        assertThat(recipients("requeued")).isEqualTo(2.0);
+        assertThat(recipients("success")).isEqualTo(1.0);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 알림을 모두 발송한 뒤 멈춰야 한다.")
+    void stop_ShouldDrainQueue() {
+        // given
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> respond(invocation.getArgument(0), n -> null));
+        dispatcher.start();
+        for (long userId = 1; userId <= 750; userId++) {
+            dispatcher.enqueue(userId, "당첨을 축하드립니다!");
+        }
+
+        // when
+        dispatcher.stop();
+
+        // then
+        assertThat(recipients("success")).isEqualTo(750.0);
+        assertThat(meterRegistry.get("reward.notification.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 발송 요청 자체가 실패하면 백오프 후 재시도하여 발송해야 한다.")
+    void sendFailure_ShouldBeRetried() {
+        // given
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any()))
+                .thenThrow(new IllegalStateException("provider down"))
+                .thenAnswer(invocation -> respond(invocation.getArgument(0), n -> null));
+        dispatcher.start();
+
+        // when
+        dispatcher.enqueue(1L, "당첨을 축하드립니다!");
+
+        // then
+        verify(notificationService, timeout(2_000).times(2)).sendMulticast(anyList(), any());
+        dispatcher.stop();
+        assertThat(recipients("retry")).isEqualTo(1.0);
+        assertThat(recipients("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일시적 오류가 최대 시도 횟수까지 계속되면 Dead Letter로 저장해야 한다.")
+    void transientError_ExceedingMaxAttempts_ShouldBeDeadLettered() {
+        // given
+        properties.getRetry().setMaxAttempts(3);
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> respond(invocation.getArgument(0), n -> "UNAVAILABLE"));
+        dispatcher.start();
+
+        // when
+        dispatcher.enqueue(1L, "당첨을 축하드립니다!");
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDeadLetter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deadLetterRepository, timeout(2_000)).saveAll(captor.capture());
+        verify(notificationService, times(3)).sendMulticast(anyList(), any());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(deadLetter -> {
+                    assertThat(deadLetter.getUserId()).isEqualTo(1L);
+                    assertThat(deadLetter.getAttempts()).isEqualTo(3);
+                    assertThat(deadLetter.getError()).isEqualTo("UNAVAILABLE");
+                });
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 알림(성공, 만료 토큰, Dead Letter)만 참조 ID로 완료를 알리고, 재시도 대기 중인 알림은 알리지 않아야 한다.")
+    void completedNotifications_ShouldBeAcknowledgedByReferenceId() {
+        // given
+        properties.getRetry().setBackoffBaseMillis(60_000);
+        properties.getRetry().setBackoffMaxMillis(60_000);
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> respond(invocation.getArgument(0), n -> switch (n.userId().intValue()) {
+            case 2 -> "INVALID_TOKEN";
+            case 3 -> "INVALID_ARGUMENT";
+            case 4 -> "UNAVAILABLE";
+            default -> null;
+        }));
+        dispatcher.start();
+
+        // when
+        for (long userId = 1; userId <= 4; userId++) {
+            dispatcher.enqueue(userId, "당첨을 축하드립니다!", userId * 100);
+        }
+        dispatcher.enqueue(5L, "참조 없는 알림");
+
+        // then
+        ArgumentCaptor<NotificationCompletedEvent> captor = ArgumentCaptor.forClass(NotificationCompletedEvent.class);
+        verify(eventPublisher, timeout(2_000)).publishEvent(captor.capture());
+        dispatcher.stop();
+        assertThat(captor.getAllValues())
+                .flatExtracting(NotificationCompletedEvent::referenceIds)
+                .containsExactlyInAnyOrder(100L, 200L, 300L);
+    }
+
+    @Test
+    @DisplayName("만료 토큰은 실패할 때마다 삭제하지 않고 모아서 한 번에 삭제해야 한다.")
+    void invalidTokens_ShouldBePurgedInBatch() {
+        // given
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any()))
+                .thenAnswer(invocation -> respond(invocation.getArgument(0), n -> n.userId() % 2 == 0 ? "INVALID_TOKEN" : null));
+        dispatcher.start();
+        for (long userId = 1; userId <= 10; userId++) {
+            dispatcher.enqueue(userId, "당첨을 축하드립니다!");
+        }
+        verify(notificationService, timeout(2_000)).sendMulticast(anyList(), any());
+        dispatcher.stop();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationService, times(1)).purgeTokens(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(2L, 4L, 6L, 8L, 10L);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 디스크로 넘기고, 여유가 생기면 다시 채워 빠짐없이 발송해야 한다.")
+    void fullQueue_ShouldSpillToDiskAndRefill() throws InterruptedException {
+        // given
+        properties.setQueueCapacity(10);
+        properties.setEnqueueTimeoutMillis(0);
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any())).thenAnswer(invocation -> respond(invocation.getArgument(0), n -> null));
+        for (long userId = 1; userId <= 25; userId++) {
+            dispatcher.enqueue(userId, "당첨을 축하드립니다!");
+        }
+        assertThat(meterRegistry.get("reward.notification.spilled").counter().count()).isEqualTo(15.0);
+
+        // when
+        dispatcher.start();
+
+        // then
+        assertThat(awaitSuccess(25)).isEqualTo(25.0);
+        dispatcher.stop();
+        assertThat(meterRegistry.get("reward.notification.spill.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 재시도 대기 중인 알림은 디스크에 남고, 재기동한 발송기가 이어서 발송해야 한다.")
+    void pendingRetries_ShouldSurviveRestart() {
+        // given
+        properties.getRetry().setBackoffBaseMillis(60_000);
+        properties.getRetry().setBackoffMaxMillis(60_000);
+        NotificationDispatcher dispatcher = dispatcher();
+        when(notificationService.sendMulticast(anyList(), any()))
+                .thenThrow(new IllegalStateException("provider down"))
+                .thenAnswer(invocation -> respond(invocation.getArgument(0), n -> null));
+        dispatcher.start();
+        dispatcher.enqueue(1L, "당첨을 축하드립니다!");
+        verify(notificationService, timeout(2_000).times(1)).sendMulticast(anyList(), any());
+
+        // when
+        dispatcher.stop();
+        NotificationDispatcher restarted = dispatcher();
+        restarted.start();
+
+        // then
+        verify(notificationService, timeout(2_000).times(2)).sendMulticast(anyList(), any());
+        restarted.stop();
+        assertThat(recipients("success")).isEqualTo(1.0);
+    }
+
+    private NotificationDispatcher dispatcher() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationService, deadLetterRepository, eventPublisher, properties, meterRegistry);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    /**
+     * 디스크에 넘긴 알림은 실행 중에만 다시 채워지므로, 모두 발송될 때까지 대기한 뒤 종료
+     */
+    private double awaitSuccess(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        double success = recipients("success");
+        while (success < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            success = recipients("success");
+        }
+        return success;
+    }
+
+    private double recipients(String result) {
+        return meterRegistry.find("reward.notification.recipients").tag("result", result).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    /**
+     * @param error 수신자별 실패 사유 (null이면 성공)
+     */
+    private static NotificationService.MulticastResult respond(List<NotificationService.Notification> batch,
+                                                               Function<NotificationService.Notification, String> error) {
+        List<NotificationService.SendResult> results = batch.stream()
+                .map(n -> new NotificationService.SendResult(n.userId(), error.apply(n) == null, error.apply(n)))
+                .toList();
+        int failures = (int) results.stream().filter(result -> !result.success()).count();
+        return new NotificationService.MulticastResult(batch.size() - failures, failures, results);
+    }
+}
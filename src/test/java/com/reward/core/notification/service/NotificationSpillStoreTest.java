@@ -0,0 +1,55 @@
+package com.reward.core.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationSpillStoreTest {
+
+    @TempDir
+    Path spillDir;
+
+    @Test
+    @DisplayName("읽어 간 세그먼트는 commit 전까지 디스크에 남아, 그 사이 종료되면 재기동 시 다시 읽혀야 한다.")
+    void polledSegment_ShouldSurviveUntilCommit() throws Exception {
+        // given
+        NotificationSpillStore store = new NotificationSpillStore(spillDir, 2);
+        store.append("a");
+        store.append("b");
+        store.append("c");
+
+        // when
+        NotificationSpillStore.Segment segment = store.poll();
+
+        // then
+        assertThat(segment.lines()).containsExactly("a", "b");
+        assertThat(Files.exists(segment.path())).isTrue();
+        store.close();
+        NotificationSpillStore restarted = new NotificationSpillStore(spillDir, 2);
+        assertThat(restarted.size()).isEqualTo(3);
+        assertThat(restarted.poll().lines()).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("commit 하면 세그먼트 파일을 삭제하고 남은 줄 수에서 빼야 한다.")
+    void commit_ShouldDeleteSegment() throws Exception {
+        // given
+        NotificationSpillStore store = new NotificationSpillStore(spillDir, 2);
+        store.append("a");
+        store.append("b");
+        NotificationSpillStore.Segment segment = store.poll();
+
+        // when
+        store.commit(segment);
+
+        // then
+        assertThat(Files.exists(segment.path())).isFalse();
+        assertThat(store.isEmpty()).isTrue();
+        assertThat(store.poll()).isNull();
+    }
+}
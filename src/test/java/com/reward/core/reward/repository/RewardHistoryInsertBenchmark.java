@@ -0,0 +1,83 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardHistory;
+import com.reward.core.reward.domain.RewardType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew benchmark 로 실행
+ * 배치 Writer와 같은 방식(청크마다 트랜잭션 1개)으로 JPA saveAll과 다중 행 INSERT를 비교합니다.
+ */
+@Tag("benchmark")
+class RewardHistoryInsertBenchmark extends AbstractIntegrationTest {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest(name = "{0}건")
+    @ValueSource(ints = {100_000, 1_000_000})
+    @DisplayName("보상 이력 저장: JPA saveAll vs JDBC 다중 행 INSERT")
+    void compare_SaveAll_With_MultiRowInsert(int rows) {
+        Reward reward = rewardRepository.save(Reward.builder()
+                .name("벤치마크 보상")
+                .type(RewardType.POINT)
+                .totalQuantity((long) rows)
+                .remainingQuantity((long) rows)
+                .weight(100)
+                .build());
+
+        rewardHistoryRepository.deleteAllInBatch();
+        double saveAll = measure(reward, rows, rewardHistoryRepository::saveAll);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(rows);
+
+        rewardHistoryRepository.deleteAllInBatch();
+        double multiRow = measure(reward, rows, rewardHistoryJdbcRepository::insertAll);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(rows);
+
+        System.out.printf("[%,d rows] JPA saveAll: %,.0f rows/s, multi-row INSERT: %,.0f rows/s (x%.1f)%n",
+                rows, saveAll, multiRow, multiRow / saveAll);
+        rewardHistoryRepository.deleteAllInBatch();
+    }
+
+    private double measure(Reward reward, int rows, Consumer<List<RewardHistory>> writer) {
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        for (int from = 0; from < rows; from += CHUNK_SIZE) {
+            List<RewardHistory> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (long userId = from; userId < Math.min(from + CHUNK_SIZE, rows); userId++) {
+                chunk.add(RewardHistory.builder()
+                        .userId(userId)
+                        .reward(reward)
+                        .receivedAt(now)
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> writer.accept(chunk));
+        }
+        return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,132 @@
+package com.reward.core.reward.repository;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.dto.RewardHistoryPage;
+import com.reward.core.reward.service.RewardHistoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew benchmark 로 실행
+ * 보상 이력 1,000만 건(사용자 약 100만 명, 이력이 많은 사용자 1명은 20만 건)에서
+ * "내 보상" 첫 페이지 조회와 깊은 페이지 조회를 키셋 페이지네이션과 OFFSET 방식으로 비교합니다.
+ */
+@Tag("benchmark")
+class RewardHistoryQueryBenchmark extends AbstractIntegrationTest {
+
+    private static final long ROWS = 10_000_000;
+    private static final long USERS = 1_000_000;
+    private static final long HEAVY_USER_ID = 0;
+    private static final int HEAVY_USER_EVERY = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final int SAMPLES = 1_000;
+    private static final int DEEP_PAGE = 5_000;
+
+    private static final String OFFSET_QUERY =
+            "SELECT h.id, r.id, r.name, r.type, h.received_at FROM reward_histories h JOIN rewards r ON r.id = h.reward_id " +
+            "WHERE h.user_id = ? ORDER BY h.received_at DESC, h.id DESC LIMIT ? OFFSET ?";
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private RewardHistoryService rewardHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_digits");
+        rewardHistoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("보상 이력 1,000만 건: 키셋 페이지네이션 vs OFFSET")
+    void compare_Keyset_With_Offset() {
+        seed();
+
+        // 1. 실행 계획: 사용자 범위를 복합 인덱스로 읽어야 함 (정렬/풀 스캔 없음)
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + OFFSET_QUERY, 1L, PAGE_SIZE, 0).stream()
+                .filter(row -> "h".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+        System.out.println("[plan] " + plan);
+        assertThat(plan.get("key")).isEqualTo("idx_reward_histories_user_received");
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+
+        // 2. 임의 사용자의 첫 페이지
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) {
+            long userId = ThreadLocalRandom.current().nextLong(1, USERS + 1);
+            rewardHistoryService.getHistories(userId, null, PAGE_SIZE);
+        }
+        double firstPageMillis = (System.nanoTime() - start) / 1_000_000.0 / SAMPLES;
+
+        // 3. 이력이 많은 사용자의 깊은 페이지 (커서로 끝까지 이어 읽으며 DEEP_PAGE번째 페이지 시간을 측정)
+        String cursor = null;
+        double keysetDeepMillis = 0;
+        for (int page = 1; page <= DEEP_PAGE; page++) {
+            long pageStart = System.nanoTime();
+            RewardHistoryPage result = rewardHistoryService.getHistories(HEAVY_USER_ID, cursor, PAGE_SIZE);
+            if (page == DEEP_PAGE) {
+                keysetDeepMillis = (System.nanoTime() - pageStart) / 1_000_000.0;
+            }
+            cursor = result.nextCursor();
+        }
+        assertThat(cursor).isNotNull();
+
+        long offsetStart = System.nanoTime();
+        jdbcTemplate.queryForList(OFFSET_QUERY, HEAVY_USER_ID, PAGE_SIZE, (DEEP_PAGE - 1) * PAGE_SIZE);
+        double offsetDeepMillis = (System.nanoTime() - offsetStart) / 1_000_000.0;
+
+        System.out.printf("[%,d rows] first page: %.2f ms/req (%,d users), page %,d of heavy user: keyset %.2f ms, OFFSET %.2f ms (x%.1f)%n",
+                ROWS, firstPageMillis, SAMPLES, DEEP_PAGE, keysetDeepMillis, offsetDeepMillis, offsetDeepMillis / keysetDeepMillis);
+    }
+
+    /**
+     * 0~9 숫자 테이블을 7번 교차 조인하여 서버에서 바로 생성 (100만 건씩 10번 INSERT ... SELECT)
+     * received_at은 1초 간격, 50건마다 한 건은 HEAVY_USER_ID의 이력입니다.
+     */
+    private void seed() {
+        Long rewardId = rewardRepository.save(Reward.builder()
+                .name("벤치마크 보상")
+                .type(RewardType.POINT)
+                .totalQuantity(ROWS)
+                .remainingQuantity(ROWS)
+                .weight(100)
+                .build()).getId();
+
+        rewardHistoryRepository.deleteAllInBatch();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_digits");
+        jdbcTemplate.execute("CREATE TABLE bench_digits (d INT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO bench_digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)");
+
+        long start = System.nanoTime();
+        for (int block = 0; block < ROWS / 1_000_000; block++) {
+            jdbcTemplate.update(
+                    "INSERT INTO reward_histories (user_id, reward_id, received_at) " +
+                    "SELECT CASE WHEN seq.n % ? = 0 THEN ? ELSE seq.n % ? + 1 END, ?, TIMESTAMPADD(SECOND, seq.n, '2025-01-01') " +
+                    "FROM (SELECT ? * 1000000 + d1.d + d2.d * 10 + d3.d * 100 + d4.d * 1000 + d5.d * 10000 + d6.d * 100000 AS n " +
+                    "      FROM bench_digits d1, bench_digits d2, bench_digits d3, bench_digits d4, bench_digits d5, bench_digits d6) seq",
+                    HEAVY_USER_EVERY, HEAVY_USER_ID, USERS, rewardId, block);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE reward_histories");
+        System.out.printf("[seed] %,d rows in %.1f s%n", rewardHistoryRepository.count(),
+                (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,47 @@
+package com.reward.core.reward.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalParticipationCounterTest {
+
+    @Test
+    @DisplayName("용량이 가득 차면 새 키만 거절하고, 기록된 키의 횟수와 한도는 그대로 유지해야 한다.")
+    void increase_WhenFull_ShouldRejectNewKeyAndKeepExistingCounts() {
+        // given
+        LocalParticipationCounter counter = new LocalParticipationCounter(2, new SimpleMeterRegistry());
+        counter.increase("user:1", 2);
+        counter.increase("user:2", 2);
+
+        // when & then
+        assertThatThrownBy(() -> counter.increase("user:3", 2))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(counter.increase("user:1", 2)).isEqualTo(2);
+        assertThat(counter.increase("user:1", 2)).isEqualTo(3);
+        assertThat(counter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("용량이 가득 차도 보상 트랜잭션 감소와 합산 실패분 복구는 버리지 않아야 한다.")
+    void decreaseAndRestore_WhenFull_ShouldKeepDeltas() {
+        // given
+        LocalParticipationCounter counter = new LocalParticipationCounter(1, new SimpleMeterRegistry());
+        counter.increase("user:1", 3);
+
+        // when
+        counter.decrease("user:2");
+        counter.restore(Map.of("user:3", 2L));
+
+        // then
+        assertThat(counter.drain()).containsOnly(
+                Map.entry("user:1", 1L),
+                Map.entry("user:2", -1L),
+                Map.entry("user:3", 2L));
+    }
+}
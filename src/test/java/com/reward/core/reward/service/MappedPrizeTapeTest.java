@@ -0,0 +1,73 @@
+package com.reward.core.reward.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedPrizeTapeTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 꺼내도 모든 칸이 정확히 한 번씩 나와야 한다.")
+    void pop_Concurrently_ShouldReturnEverySlotOnce() throws InterruptedException {
+        // given
+        MappedPrizeTape tape = new MappedPrizeTape(dir.resolve("tape.bin"));
+        long[] outcomes = new long[100_000];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = i % 3;
+        }
+        tape.load(outcomes);
+        Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executorService.submit(() -> {
+                    long slot;
+                    while ((slot = tape.pop()) != PrizeTape.EXHAUSTED) {
+                        counts.computeIfAbsent(slot, key -> new LongAdder()).increment();
+                    }
+                });
+            }
+        }
+
+        // then
+        assertThat(counts.get(0L).sum()).isEqualTo(33_334);
+        assertThat(counts.get(1L).sum()).isEqualTo(33_333);
+        assertThat(counts.get(2L).sum()).isEqualTo(33_333);
+        assertThat(tape.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("재기동하면 파일에 남은 커서부터 이어서 꺼내고, 돌려놓은 칸은 먼저 나와야 한다.")
+    void reopen_ShouldResumeFromCursor() {
+        // given
+        Path file = dir.resolve("tape.bin");
+        MappedPrizeTape tape = new MappedPrizeTape(file);
+        assertThat(tape.pop()).isEqualTo(PrizeTape.NOT_LOADED);
+        tape.load(new long[]{7, 8, 9});
+        assertThat(tape.pop()).isEqualTo(7);
+
+        // when
+        MappedPrizeTape reopened = new MappedPrizeTape(file);
+        reopened.giveBack(7);
+
+        // then
+        assertThat(reopened.remaining()).isEqualTo(3);
+        assertThat(reopened.pop()).isEqualTo(7);
+        assertThat(reopened.pop()).isEqualTo(8);
+        assertThat(reopened.pop()).isEqualTo(9);
+        assertThat(reopened.pop()).isEqualTo(PrizeTape.EXHAUSTED);
+    }
+}
@@ -0,0 +1,139 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.common.config.ParticipationProperties;
+import com.reward.core.common.config.RateLimitProperties;
+import com.reward.core.common.utils.DistributedRateLimiter;
+import com.reward.core.common.utils.LeasedRateLimiter;
+import com.reward.core.common.utils.RateLimitAlgorithm;
+import com.reward.core.common.utils.RedisHealthCircuit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ParticipationAdmissionServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ParticipationAdmissionService admissionService;
+
+    @Autowired
+    private UserParticipationService participationService;
+
+    @Autowired
+    private ParticipationProperties participationProperties;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private DistributedRateLimiter distributedRateLimiter;
+
+    @Autowired
+    private RedisHealthCircuit redisHealthCircuit;
+
+    @Autowired
+    private RateLimitProperties rateLimitProperties;
+
+    private final Long userId = 7L;
+
+    @BeforeEach
+    void setUp() {
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            redisTemplate.delete(algorithm.redisKey(ParticipationAdmissionService.rateLimitKey(userId)));
+        }
+        redisTemplate.delete(participationService.generateKey(userId));
+    }
+
+    @Test
+    @DisplayName("일일 한도까지는 허용되고, 초과 요청은 참여 횟수를 늘리지 않은 채 거절되어야 한다.")
+    void admit_ShouldRejectOverDailyQuotaWithoutIncreasingCount() {
+        // when
+        for (int i = 0; i < participationProperties.getDailyLimit(); i++) {
+            admissionService.admit(userId);
+        }
+
+        // then
+        assertThatThrownBy(() -> admissionService.admit(userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("오늘은 더 이상 참여할 수 없습니다. (일일 최대 3회)");
+        String key = participationService.generateKey(userId);
+        assertThat(redisTemplate.opsForValue().get(key)).isEqualTo("3");
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("윈도우 내 요청 수가 제한을 넘으면 일일 한도 검사 전에 처리율 제한으로 거절되어야 한다.")
+    void admit_ShouldRateLimitWithinWindow() {
+        // given: 한도 초과 요청도 윈도우에는 기록됨
+        for (int i = 0; i < participationProperties.getRateLimit(); i++) {
+            try {
+                admissionService.admit(userId);
+            } catch (IllegalStateException e) {
+                // 일일 한도 초과
+            }
+        }
+
+        // when & then
+        assertThatThrownBy(() -> admissionService.admit(userId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("너무 빈번한 참여 요청입니다. 잠시 후 다시 시도해주세요.");
+        assertThat(redisTemplate.opsForValue().get(participationService.generateKey(userId))).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("진입 검사로 선점한 참여 횟수는 기존 보상 트랜잭션으로 롤백되어야 한다.")
+    void compensate_ShouldRollbackAdmission() {
+        // given
+        admissionService.admit(userId);
+
+        // when
+        participationService.compensate(userId);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(participationService.generateKey(userId))).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("할당량 임대가 켜져 있어도 사용자별 키는 임대하지 않고 진입 검사마다 Redis 왕복 1회로 처리해야 한다.")
+    void admit_WithLeaseEnabled_ShouldUseSingleRoundTripForUserKey() {
+        // given
+        StringRedisTemplate countingTemplate = spy(redisTemplate);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LeasedRateLimiter leasedRateLimiter = new LeasedRateLimiter(countingTemplate, distributedRateLimiter,
+                redisHealthCircuit, registry, true, 0.5, 200, Set.of("global", "campaign"));
+        ParticipationAdmissionService leasedAdmission = new ParticipationAdmissionService(countingTemplate,
+                distributedRateLimiter, leasedRateLimiter, participationService, rateLimitProperties,
+                redisHealthCircuit, participationProperties);
+        int admissions = participationProperties.getDailyLimit();
+
+        // when
+        try {
+            for (int i = 0; i < admissions; i++) {
+                leasedAdmission.admit(userId);
+            }
+        } finally {
+            leasedRateLimiter.shutdown();
+        }
+
+        // then
+        verify(countingTemplate, times(admissions)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertThat(registry.get("reward.rate-limit.lease.redis.calls").tag("operation", "lease").counter().count())
+                .isZero();
+        assertThat(redisTemplate.opsForValue().get(participationService.generateKey(userId)))
+                .isEqualTo(String.valueOf(admissions));
+    }
+}
@@ -0,0 +1,91 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.dto.RewardSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RewardCatalogTest {
+
+    private final RewardCatalogLoader rewardCatalogLoader = mock(RewardCatalogLoader.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RewardCatalog rewardCatalog;
+
+    @BeforeEach
+    void setUp() {
+        when(rewardCatalogLoader.load())
+                .thenReturn(List.of(new RewardSnapshot(1L, "쿠폰", RewardType.COUPON, 100, 10L, 1)));
+        rewardCatalog = new RewardCatalog(rewardCatalogLoader, redisTemplate, listenerContainer, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("1차 스냅샷이 있으면 Redis 캐시를 다시 조회하지 않고 적중 메트릭이 기록되어야 한다.")
+    void current_ShouldServeFromNearCache() {
+        // when
+        rewardCatalog.current();
+        rewardCatalog.current();
+        rewardCatalog.current();
+
+        // then
+        verify(rewardCatalogLoader, times(1)).load();
+        assertThat(meterRegistry.get("reward.catalog.requests").tag("result", "hit").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("reward.catalog.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("보상 변경 시 Redis 캐시를 비우고 다른 노드에 무효화를 통지한 뒤 다시 적재해야 한다.")
+    void invalidate_ShouldEvictAndBroadcast() {
+        // given
+        long before = rewardCatalog.current().version();
+
+        // when
+        rewardCatalog.invalidate();
+        long after = rewardCatalog.current().version();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+        verify(rewardCatalogLoader, times(1)).evict();
+        verify(redisTemplate, times(1)).convertAndSend(eq("reward:catalog:invalidate"), anyString());
+        verify(rewardCatalogLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 통지를 받으면 Redis 캐시는 그대로 두고 로컬 스냅샷만 다시 적재해야 한다.")
+    void onInvalidationMessage_FromOtherNode_ShouldReloadLocalSnapshot() {
+        // given
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        rewardCatalog.subscribeInvalidation();
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        rewardCatalog.current();
+
+        // when
+        listener.getValue().onMessage(new DefaultMessage(
+                "reward:catalog:invalidate".getBytes(StandardCharsets.UTF_8),
+                "other-node".getBytes(StandardCharsets.UTF_8)), null);
+        rewardCatalog.current();
+
+        // then
+        verify(rewardCatalogLoader, never()).evict();
+        verify(rewardCatalogLoader, times(2)).load();
+    }
+}
@@ -3,6 +3,7 @@ package com.reward.core.reward.service;
 import com.reward.core.common.utils.DistributedRateLimiter;
 import com.reward.core.reward.domain.Reward;
 import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.dto.ParticipationPolicy;
 import com.reward.core.reward.repository.RewardRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.util.Optional;
 
@@ -25,6 +27,9 @@ class RewardCompensatingTransactionTest {
     @Autowired
     private RewardService rewardService;
 
+    @Autowired
+    private UserParticipationService participationService;
+
     @MockitoBean
     private RewardIssueService rewardIssueService;
 
@@ -54,11 +59,11 @@ class RewardCompensatingTransactionTest {
         Long rewardId = 1L;
         
         // 1. 참여 횟수 체크 성공 (현재 1회)
-        when(valueOperations.increment(anyString())).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
         
         // 2. 보상 목록 조회 성공
         Reward reward = Reward.builder().id(rewardId).name("테스트 보상").weight(100).build();
-        when(rewardRepository.findAll()).thenReturn(java.util.List.of(reward));
+        when(rewardRepository.findByCampaignIdIsNull()).thenReturn(java.util.List.of(reward));
 
         // 3. DB 처리 중 시스템 예외 발생 시뮬레이션
         doThrow(new RuntimeException("DB Timeout")).when(rewardIssueService).issue(anyLong(), anyLong());
@@ -69,6 +74,32 @@ class RewardCompensatingTransactionTest {
                 .hasMessage("DB Timeout");
 
         // then: 보상 트랜잭션(decrement)이 호출되었는지 확인
-        verify(valueOperations, times(1)).decrement(anyString());
+        verify(valueOperations, times(1)).decrement(participationService.generateKey(null, userId));
+    }
+
+    @Test
+    @DisplayName("캠페인 참여 중 DB 예외 발생 시 해당 캠페인의 참여 횟수 키가 롤백되어야 한다.")
+    void participate_WhenDbFailsInCampaign_ShouldCompensateCampaignScopedCount() {
+        // given
+        Long userId = 1L;
+        Long campaignId = 7L;
+        Long rewardId = 2L;
+        ParticipationPolicy policy = new ParticipationPolicy(campaignId, 3, 10, 1);
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        Reward reward = Reward.builder().id(rewardId).name("캠페인 보상").weight(100).campaignId(campaignId).build();
+        when(rewardRepository.findByCampaignId(campaignId)).thenReturn(java.util.List.of(reward));
+
+        doThrow(new RuntimeException("DB Timeout")).when(rewardIssueService).issue(anyLong(), anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> rewardService.participate(policy, userId))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasMessage("DB Timeout");
+
+        // then: 기본 보상 풀이 아닌 캠페인 범위 키의 참여 횟수가 감소해야 함
+        verify(valueOperations, times(1)).decrement(participationService.generateKey(campaignId, userId));
+        verify(valueOperations, never()).decrement(participationService.generateKey(null, userId));
     }
 }
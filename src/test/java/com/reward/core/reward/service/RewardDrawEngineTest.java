@@ -0,0 +1,118 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.dto.RewardSnapshot;
+import com.reward.core.reward.event.RewardChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RewardDrawEngineTest {
+
+    private final RewardCatalog rewardCatalog = mock(RewardCatalog.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+    private final RewardDrawEngine rewardDrawEngine =
+            new RewardDrawEngine(rewardCatalog, redisTemplate, listenerContainer);
+
+    @BeforeEach
+    void setUp() {
+        RewardSnapshot r1 = new RewardSnapshot(1L, "10%", RewardType.POINT, 10, 10L, 1);
+        RewardSnapshot r2 = new RewardSnapshot(2L, "20%", RewardType.POINT, 20, 10L, 1);
+        RewardSnapshot r3 = new RewardSnapshot(3L, "70%", RewardType.POINT, 70, 10L, 1);
+        when(rewardCatalog.current(null)).thenReturn(new RewardCatalog.Snapshot(1L, List.of(r1, r2, r3)));
+    }
+
+    @Test
+    @DisplayName("소진된 보상은 추첨 후보에서 제외되고 다른 노드에 소진 통지가 발행되어야 한다.")
+    void markSoldOut_ShouldExcludeRewardAndBroadcast() {
+        // given
+        rewardDrawEngine.pick();
+
+        // when
+        rewardDrawEngine.markSoldOut(3L);
+        Map<Long, Integer> counts = draw(100_000);
+
+        // then
+        assertThat(counts).doesNotContainKey(3L);
+        assertThat((double) counts.get(1L) / 100_000).isCloseTo(1.0 / 3, within(0.01));
+        verify(redisTemplate, times(1)).convertAndSend("reward:draw:sold-out", "3");
+    }
+
+    @Test
+    @DisplayName("대체 보상이 설정되면 소진된 보상의 가중치가 대체 보상으로 이전되어야 한다.")
+    void markSoldOut_WithFallbackReward_ShouldMoveWeight() {
+        // given
+        ReflectionTestUtils.setField(rewardDrawEngine, "fallbackRewardId", 1L);
+
+        // when
+        rewardDrawEngine.markSoldOut(3L);
+        Map<Long, Integer> counts = draw(100_000);
+
+        // then: 1번 보상 가중치 10 + 70 = 80%
+        assertThat(counts).doesNotContainKey(3L);
+        assertThat((double) counts.get(1L) / 100_000).isCloseTo(0.80, within(0.01));
+        assertThat((double) counts.get(2L) / 100_000).isCloseTo(0.20, within(0.01));
+    }
+
+    @Test
+    @DisplayName("재고 보충 등 보상 변경 시 소진 표시를 해제하고 다른 노드에 해제 통지가 발행되어야 한다.")
+    void onRewardChanged_ShouldClearSoldOutAndBroadcast() {
+        // given
+        rewardDrawEngine.markSoldOut(3L);
+
+        // when
+        rewardDrawEngine.onRewardChanged(new RewardChangedEvent(3L));
+        Map<Long, Integer> counts = draw(100_000);
+
+        // then
+        assertThat((double) counts.get(3L) / 100_000).isCloseTo(0.70, within(0.01));
+        verify(redisTemplate, times(1)).convertAndSend("reward:draw:restocked", "3");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 소진 해제 통지를 받으면 해당 보상을 다시 추첨 후보에 넣어야 한다.")
+    void onRestockedMessage_FromOtherNode_ShouldClearSoldOut() {
+        // given
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        rewardDrawEngine.subscribeSoldOut();
+        verify(listenerContainer).addMessageListener(listener.capture(), eq(new ChannelTopic("reward:draw:restocked")));
+        rewardDrawEngine.markSoldOut(3L);
+        assertThat(draw(10_000)).doesNotContainKey(3L);
+
+        // when
+        listener.getValue().onMessage(new DefaultMessage(
+                "reward:draw:restocked".getBytes(StandardCharsets.UTF_8),
+                "3".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(draw(10_000)).containsKey(3L);
+        verify(redisTemplate, never()).convertAndSend(eq("reward:draw:restocked"), anyString());
+    }
+
+    private Map<Long, Integer> draw(int iterations) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < iterations; i++) {
+            counts.merge(rewardDrawEngine.pick().id(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
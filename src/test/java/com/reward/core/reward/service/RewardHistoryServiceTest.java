@@ -0,0 +1,117 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardHistory;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.dto.RewardHistoryPage;
+import com.reward.core.reward.dto.RewardHistoryView;
+import com.reward.core.reward.repository.RewardHistoryJdbcRepository;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RewardHistoryServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RewardHistoryService rewardHistoryService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+
+    private final Long userId = 100L;
+    private Reward reward;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAllInBatch();
+        rewardRepository.deleteAll();
+        reward = rewardRepository.save(Reward.builder()
+                .name("이력 쿠폰")
+                .type(RewardType.COUPON)
+                .totalQuantity(100L)
+                .remainingQuantity(100L)
+                .weight(100)
+                .build());
+
+        // 같은 시각에 두 건씩 지급 (정렬 키 동률은 id로 구분)
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<RewardHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            histories.add(history(userId, base.plusMinutes(i / 2)));
+        }
+        for (int i = 0; i < 5; i++) {
+            histories.add(history(200L, base.plusMinutes(i)));
+        }
+        rewardHistoryJdbcRepository.insertAll(histories);
+    }
+
+    @Test
+    @DisplayName("커서로 이어 읽으면 사용자의 이력을 최신순으로 중복/누락 없이 모두 읽어야 한다.")
+    void getHistories_ShouldPageThroughAllRowsWithKeyset() {
+        // when
+        List<Integer> pageSizes = new ArrayList<>();
+        List<RewardHistoryView> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            RewardHistoryPage page = rewardHistoryService.getHistories(userId, cursor, 10);
+            pageSizes.add(page.items().size());
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(all).extracting(RewardHistoryView::historyId).doesNotHaveDuplicates().hasSize(25);
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(RewardHistoryView::receivedAt)
+                .thenComparing(RewardHistoryView::historyId).reversed());
+        assertThat(all).extracting(RewardHistoryView::rewardName).containsOnly("이력 쿠폰");
+        assertThat(all).extracting(RewardHistoryView::rewardType).containsOnly(RewardType.COUPON);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 정확히 가득 차면 다음 커서가 없어야 한다.")
+    void getHistories_ExactLastPage_ShouldHaveNoNextCursor() {
+        // when
+        RewardHistoryPage page = rewardHistoryService.getHistories(200L, null, 5);
+
+        // then
+        assertThat(page.items()).hasSize(5);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 허용 범위를 벗어난 페이지 크기는 거절해야 한다.")
+    void getHistories_InvalidRequest_ShouldBeRejected() {
+        assertThatThrownBy(() -> rewardHistoryService.getHistories(userId, "not-a-cursor", 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> rewardHistoryService.getHistories(userId, null, RewardHistoryService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private RewardHistory history(Long userId, LocalDateTime receivedAt) {
+        return RewardHistory.builder()
+                .userId(userId)
+                .reward(reward)
+                .receivedAt(receivedAt)
+                .build();
+    }
+}
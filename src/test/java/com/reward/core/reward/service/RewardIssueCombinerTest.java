@@ -0,0 +1,111 @@
+package com.reward.core.reward.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RewardIssueCombinerTest {
+
+    @Test
+    @DisplayName("100개의 보상에 200명이 동시에 요청하면 묶음 처리로 정확히 100명만 지급되고 트랜잭션 수는 요청 수보다 적어야 한다.")
+    void issue_WithConcurrency_ShouldCoalesceRequests() throws InterruptedException {
+        // given
+        AtomicLong stock = new AtomicLong(100);
+        AtomicInteger batchCount = new AtomicInteger();
+        RewardIssueService rewardIssueService = mock(RewardIssueService.class);
+        when(rewardIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(1);
+            batchCount.incrementAndGet();
+            Thread.sleep(5); // 행 락 + 일괄 INSERT 시뮬레이션
+            long granted = Math.min(userIds.size(), stock.get());
+            stock.addAndGet(-granted);
+            return (int) granted;
+        });
+        RewardIssueCombiner combiner = new RewardIssueCombiner(rewardIssueService, true, 50, 200);
+
+        int threadCount = 200;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        combiner.issue(userId, 1L);
+                        successCount.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        soldOutCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(soldOutCount.get()).isEqualTo(100);
+        assertThat(stock.get()).isZero();
+        assertThat(batchCount.get()).isLessThan(threadCount);
+        assertThat(combiner.laneCount()).isZero(); // 유휴 레인은 제거됨
+    }
+
+    @Test
+    @DisplayName("묶음 트랜잭션이 시스템 오류로 실패하면 대기 중인 요청마다 별도의 예외로 감싸 전파되어야 한다.")
+    void issue_WhenBatchFails_ShouldPropagateFailure() throws InterruptedException {
+        // given
+        RuntimeException failure = new RuntimeException("DB Timeout");
+        RewardIssueService rewardIssueService = mock(RewardIssueService.class);
+        when(rewardIssueService.issueBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            throw failure;
+        });
+        RewardIssueCombiner combiner = new RewardIssueCombiner(rewardIssueService, true, 50, 200);
+
+        int threadCount = 20;
+        Set<Throwable> thrown = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        combiner.issue(userId, 1L);
+                    } catch (RuntimeException e) {
+                        thrown.add(e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then
+        assertThat(thrown).hasSize(threadCount)
+                .allSatisfy(e -> assertThat(e)
+                        .isInstanceOf(RewardIssueCombiner.BatchIssueException.class)
+                        .hasCause(failure));
+        assertThat(combiner.laneCount()).isZero();
+    }
+}
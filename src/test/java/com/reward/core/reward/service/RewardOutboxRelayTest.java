@@ -0,0 +1,170 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.notification.event.NotificationCompletedEvent;
+import com.reward.core.notification.service.NotificationDispatcher;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardOutboxJdbcRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RewardOutboxRelayTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RewardIssueService rewardIssueService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardOutboxJdbcRepository rewardOutboxJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RewardOutboxRelay rewardOutboxRelay;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockitoBean
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM reward_outbox");
+        // 발송기가 큐에 넣자마자 처리를 끝낸 것처럼 완료를 알림
+        doAnswer(invocation -> {
+            eventPublisher.publishEvent(new NotificationCompletedEvent(List.of(invocation.getArgument(2, Long.class))));
+            return null;
+        }).when(notificationDispatcher).enqueue(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("보상 지급 트랜잭션에서 저장된 Outbox 행이 발행되어 알림 발송기에 전달되어야 한다.")
+    void issue_ShouldBeRelayedToNotification() throws Exception {
+        // given
+        Reward reward = rewardRepository.save(Reward.builder()
+                .name("Outbox 보상")
+                .type(RewardType.POINT)
+                .totalQuantity(10L)
+                .remainingQuantity(10L)
+                .weight(100)
+                .build());
+
+        // when
+        rewardIssueService.issue(7L, reward.getId());
+
+        // then
+        verify(notificationDispatcher, timeout(5_000).times(1)).enqueue(eq(7L), eq("Outbox 보상 당첨을 축하드립니다!"), anyLong());
+        assertThat(awaitNoPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("지급 트랜잭션이 롤백되면 Outbox 행도 남지 않아야 한다.")
+    void rolledBackIssue_ShouldNotBeRelayed() {
+        // when
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rewardOutboxJdbcRepository.insert(8L, 1L, "롤백 보상");
+                status.setRollbackOnly();
+            });
+        } finally {
+            // then
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reward_outbox", Long.class)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("쌓인 Outbox 행은 배치 단위로 빠짐없이 한 번씩 발행되어야 한다.")
+    void pendingRows_ShouldBeRelayedInBatches() throws Exception {
+        // given
+        List<Long> userIds = LongStream.rangeClosed(1, 1_200).boxed().toList();
+        transactionTemplate.executeWithoutResult(status ->
+                rewardOutboxJdbcRepository.insertAll(1L, "대량 보상", userIds));
+
+        // then
+        verify(notificationDispatcher, timeout(10_000).times(1_200)).enqueue(anyLong(), anyString(), anyLong());
+        assertThat(awaitNoPending()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reward_outbox WHERE published_at IS NOT NULL", Long.class)).isEqualTo(1_200L);
+    }
+
+    @Test
+    @DisplayName("발송기가 처리를 끝내지 않은 행은 미완료로 남고, 선점 기한 안에는 다시 발행되지 않아야 한다.")
+    void unacknowledgedRows_ShouldStayPendingWithoutRedelivery() throws Exception {
+        // given
+        doNothing().when(notificationDispatcher).enqueue(anyLong(), anyString(), anyLong());
+        transactionTemplate.executeWithoutResult(status ->
+                rewardOutboxJdbcRepository.insert(9L, 1L, "미완료 보상"));
+
+        // when
+        verify(notificationDispatcher, timeout(5_000).times(1)).enqueue(eq(9L), anyString(), anyLong());
+        Thread.sleep(1_000);
+
+        // then
+        verify(notificationDispatcher, times(1)).enqueue(eq(9L), anyString(), anyLong());
+        assertThat(rewardOutboxJdbcRepository.countPending()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reward_outbox WHERE claimed_until > ?", Long.class, LocalDateTime.now())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 행만 삭제하고, 미완료 행과 최근 완료 행은 남겨야 한다.")
+    void purgePublished_ShouldDeleteOnlyExpiredRows() {
+        // given (릴레이가 가져가지 않도록 완료/선점 상태로 바로 저장)
+        LocalDateTime old = LocalDateTime.now().minusDays(30);
+        LocalDateTime claimedUntil = LocalDateTime.now().plusDays(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (long userId = 1; userId <= 1_100; userId++) {
+            rows.add(new Object[]{userId, "보관 보상", old, claimedUntil, old});
+        }
+        rows.add(new Object[]{2_000L, "최근 완료 보상", old, claimedUntil, LocalDateTime.now()});
+        rows.add(new Object[]{3_000L, "미완료 보상", old, claimedUntil, null});
+        jdbcTemplate.batchUpdate("INSERT INTO reward_outbox (user_id, reward_id, reward_name, created_at, claimed_until, published_at) " +
+                "VALUES (?, 1, ?, ?, ?, ?)", rows);
+
+        // when
+        long purged = rewardOutboxRelay.purgePublished();
+
+        // then
+        assertThat(purged).isEqualTo(1_100L);
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM reward_outbox ORDER BY user_id", Long.class))
+                .containsExactly(2_000L, 3_000L);
+    }
+
+    /**
+     * 발송기 호출 이후 완료 처리 UPDATE가 커밋될 때까지 대기
+     */
+    private long awaitNoPending() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        long pending = rewardOutboxJdbcRepository.countPending();
+        while (pending > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            pending = rewardOutboxJdbcRepository.countPending();
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,128 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardHistory;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "resilience4j.ratelimiter.instances.rewardLimiter.limitForPeriod=1000",
+        "reward.draw.mode=TAPE",
+        "reward.draw.tape.store=REDIS"
+})
+class RewardPrizeTapeConcurrencyTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private PrizeTapeService prizeTapeService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    private Long couponId;
+    private Long pointId;
+
+    @BeforeEach
+    void setUp() {
+        prizeTapeService.unload(null);
+        rewardHistoryRepository.deleteAll();
+        rewardRepository.deleteAll();
+
+        couponId = rewardRepository.save(Reward.builder()
+                .name("테이프 쿠폰")
+                .type(RewardType.COUPON)
+                .totalQuantity(30L)
+                .remainingQuantity(30L)
+                .weight(10)
+                .build()).getId();
+        pointId = rewardRepository.save(Reward.builder()
+                .name("테이프 포인트")
+                .type(RewardType.POINT)
+                .totalQuantity(70L)
+                .remainingQuantity(70L)
+                .weight(90)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("경품 테이프를 적재한 뒤 200명이 동시에 참여하면 보상별 당첨 수가 재고와 정확히 같아야 한다.")
+    void participate_WithPrizeTape_ShouldIssueExactDistribution() throws InterruptedException {
+        // given
+        PrizeTapeService.TapeSummary summary = prizeTapeService.load(null, 100);
+        assertThat(summary.size()).isEqualTo(200);
+        assertThat(summary.prizes()).containsEntry(couponId, 30L).containsEntry(pointId, 70L);
+
+        int threadCount = 200;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        rewardService.participate(userId);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then
+        Map<Long, Long> issued = rewardHistoryRepository.findAll().stream()
+                .collect(Collectors.groupingBy(history -> history.getReward().getId(), Collectors.counting()));
+        assertThat(issued).containsExactlyInAnyOrderEntriesOf(Map.of(couponId, 30L, pointId, 70L));
+        assertThat(rewardRepository.findAll())
+                .extracting(Reward::getRemainingQuantity)
+                .containsOnly(0L);
+        assertThat(prizeTapeService.status(null).remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("테이프를 모두 꺼낸 뒤에는 DB 락 없이 낙첨 처리되고, 테이프를 내리면 가중치 추첨으로 돌아가야 한다.")
+    void participate_AfterTapeExhausted_ShouldNotIssue() {
+        // given
+        prizeTapeService.load(null, 0);
+        for (long userId = 1; userId <= 100; userId++) {
+            rewardService.participate(userId);
+        }
+
+        // when
+        rewardService.participate(101L);
+
+        // then
+        assertThat(rewardHistoryRepository.count()).isEqualTo(100L);
+        assertThat(prizeTapeService.draw(null).outcome()).isEqualTo(PrizeTapeService.Outcome.EXHAUSTED);
+
+        // when
+        prizeTapeService.unload(null);
+
+        // then
+        assertThat(prizeTapeService.draw(null).outcome()).isEqualTo(PrizeTapeService.Outcome.UNAVAILABLE);
+        assertThat(rewardHistoryRepository.findAll())
+                .extracting(RewardHistory::getUserId)
+                .doesNotContain(101L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "resilience4j.ratelimiter.instances.rewardLimiter.limitForPeriod=1000",
+        "reward.inventory.redis-stock.enabled=true"
+})
+class RewardRedisStockConcurrencyTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private RedisStockService redisStockService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long rewardId;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAll();
+        rewardRepository.deleteAll();
+
+        Reward reward = Reward.builder()
+                .name("Redis 재고 보상")
+                .type(RewardType.COUPON)
+                .totalQuantity(100L)
+                .remainingQuantity(100L)
+                .weight(100)
+                .build();
+
+        rewardId = rewardRepository.save(reward).getId();
+    }
+
+    @Test
+    @DisplayName("Redis 재고를 적재한 뒤 200명이 동시에 요청하면 정확히 100개만 지급되고 DB와 Redis 재고가 일치해야 한다.")
+    void participate_WithRedisStock_ShouldLimitRewardsAndReconcile() throws InterruptedException {
+        // given
+        redisStockService.load(rewardId);
+        int threadCount = 200;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        rewardService.participate(userId);
+                    } catch (Exception e) {
+                        // Rate Limit 또는 소진 예외 발생 가능
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then
+        Reward reward = rewardRepository.findById(rewardId).orElseThrow();
+        assertThat(reward.getRemainingQuantity()).isEqualTo(0L);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(100L);
+        assertThat(redisTemplate.opsForValue().get("reward:stock:" + rewardId)).isEqualTo("0");
+
+        RedisStockService.StockReconciliation reconciliation = redisStockService.reconcile(rewardId);
+        assertThat(reconciliation.adjusted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis에 재고가 적재되지 않은 보상은 비관적 락 경로로 지급되어야 한다.")
+    void participate_WithoutLoadedStock_ShouldFallbackToLockingPath() {
+        // when
+        rewardService.participate(1L);
+
+        // then
+        Reward reward = rewardRepository.findById(rewardId).orElseThrow();
+        assertThat(reward.getRemainingQuantity()).isEqualTo(99L);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(1L);
+    }
+}
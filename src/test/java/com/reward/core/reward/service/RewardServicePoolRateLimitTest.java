@@ -0,0 +1,84 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "reward.rate-limit.lease.enabled=true",
+        "reward.rate-limit.lease.idle-return-millis=60000", // 테스트 도중 임대 잔량이 반환되지 않도록
+        "reward.participation.pool-rate-limit=20",
+        "reward.participation.pool-rate-window-seconds=3600", // 테스트 도중 윈도우가 바뀌지 않도록
+        "resilience4j.ratelimiter.instances.rewardLimiter.limitForPeriod=1000"
+})
+class RewardServicePoolRateLimitTest extends AbstractIntegrationTest {
+
+    private static final int POOL_RATE_LIMIT = 20;
+    private static final int USER_COUNT = 30;
+    private static final long FIRST_USER_ID = 9_000L;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private ParticipationAdmissionService admissionService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        long window = System.currentTimeMillis() / 3_600_000L;
+        redisTemplate.delete("rate_limit:lease:" + ParticipationAdmissionService.poolRateLimitKey(null) + ":" + window);
+        cleanUpUsers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUpUsers();
+    }
+
+    @Test
+    @DisplayName("보상 풀 상한은 할당량 임대로 대부분 로컬에서 판정하고, 상한을 넘는 참여는 거절되어야 한다.")
+    void participate_WithLeaseEnabled_ShouldDecidePoolLimitLocally() {
+        // given: 사용자별 한도에 걸리지 않도록 서로 다른 사용자가 한 번씩 참여
+        int rateLimited = 0;
+
+        // when
+        for (int i = 0; i < USER_COUNT; i++) {
+            try {
+                rewardService.participate(FIRST_USER_ID + i);
+            } catch (IllegalStateException e) {
+                if ("너무 빈번한 참여 요청입니다. 잠시 후 다시 시도해주세요.".equals(e.getMessage())) {
+                    rateLimited++;
+                }
+            }
+        }
+
+        // then
+        assertThat(USER_COUNT - rateLimited).isLessThanOrEqualTo(POOL_RATE_LIMIT);
+        double leaseCalls = meterRegistry.get("reward.rate-limit.lease.redis.calls")
+                .tag("operation", "lease").counter().count();
+        double localDecisions = meterRegistry.get("reward.rate-limit.lease.decisions")
+                .tag("source", "local").counter().count();
+        assertThat(leaseCalls).isPositive().isLessThan(USER_COUNT / 5.0);
+        assertThat(localDecisions).isGreaterThan(leaseCalls);
+    }
+
+    private void cleanUpUsers() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            admissionService.reset(null, FIRST_USER_ID + i);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.reward.core.reward.service;
+
+import com.reward.core.AbstractIntegrationTest;
+import com.reward.core.reward.domain.Reward;
+import com.reward.core.reward.domain.RewardType;
+import com.reward.core.reward.repository.RewardHistoryRepository;
+import com.reward.core.reward.repository.RewardRepository;
+import com.reward.core.reward.repository.RewardStockSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "resilience4j.ratelimiter.instances.rewardLimiter.limitForPeriod=1000"
+})
+class RewardStockSlotConcurrencyTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private RewardStockSlotService rewardStockSlotService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardStockSlotRepository rewardStockSlotRepository;
+
+    @Autowired
+    private RewardHistoryRepository rewardHistoryRepository;
+
+    @Autowired
+    private RewardDrawEngine rewardDrawEngine;
+
+    private Long rewardId;
+
+    @BeforeEach
+    void setUp() {
+        rewardHistoryRepository.deleteAll();
+        rewardStockSlotRepository.deleteAll();
+        rewardRepository.deleteAll();
+
+        Reward reward = Reward.builder()
+                .name("분할 재고 보상")
+                .type(RewardType.COUPON)
+                .totalQuantity(103L)
+                .remainingQuantity(103L)
+                .weight(100)
+                .build();
+
+        rewardId = rewardRepository.save(reward).getId();
+    }
+
+    @Test
+    @DisplayName("재고를 4개 슬롯으로 분할한 보상에 200명이 동시에 요청하면 정확히 103개만 지급되어야 한다.")
+    void participate_WithShardedStock_ShouldLimitRewardsExactly() throws InterruptedException {
+        // given
+        RewardStockSlotService.StockSummary sharded = rewardStockSlotService.shard(rewardId, 4);
+        assertThat(sharded.slotRemainingQuantities()).containsExactly(26L, 26L, 26L, 25L);
+
+        int threadCount = 200;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        rewardService.participate(userId);
+                    } catch (Exception e) {
+                        // Rate Limit 또는 소진 예외 발생 가능
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then
+        RewardStockSlotService.StockSummary stock = rewardStockSlotService.getStock(rewardId);
+        assertThat(stock.remainingQuantity()).isEqualTo(0L);
+        assertThat(stock.slotRemainingQuantities()).containsOnly(0L);
+        rewardStockSlotService.rollUpSlotQuantities();
+        assertThat(rewardRepository.findById(rewardId).orElseThrow().getRemainingQuantity()).isEqualTo(0L);
+        assertThat(rewardHistoryRepository.count()).isEqualTo(103L);
+    }
+
+    @Test
+    @DisplayName("분할 보상에 재고를 보충하면 슬롯에 나누어 더하고, 소진 표시가 해제되어 다시 추첨되어야 한다.")
+    void restock_ShouldSpreadOverSlotsAndClearSoldOut() {
+        // given
+        rewardStockSlotService.shard(rewardId, 4);
+        rewardDrawEngine.markSoldOut(rewardId);
+        assertThat(rewardDrawEngine.pick()).isNull();
+
+        // when
+        RewardStockSlotService.StockSummary restocked = rewardStockSlotService.restock(rewardId, 6);
+
+        // then
+        assertThat(restocked.slotRemainingQuantities()).containsExactly(28L, 28L, 27L, 26L);
+        assertThat(restocked.totalQuantity()).isEqualTo(109L);
+        assertThat(rewardDrawEngine.pick().id()).isEqualTo(rewardId);
+    }
+}